@@ -0,0 +1,83 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.MoveGuesser;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The embedded {@link MoveGuesser} API: per-call cost of the single-move queries as a list ({@code moves})
+ * and as a shared mask ({@code movesMask}), a shortest path once the distance table exists ({@code path}),
+ * and the first query in a fresh JVM, including class loading and building the attack tables
+ * ({@code firstQuery}).
+ *
+ * <p>Compare {@code moves} with {@code MoveGuesserServiceBenchmark} in the web module to see what the HTTP
+ * layer's pre-rendered strings buy over the plain API.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoreApiBenchmark {
+
+    @Param({"KING", "QUEEN", "KNIGHT"})
+    public Pieces piece;
+
+    private MoveGuesser guesser;
+
+    private final Position from = Position.parse("A1");
+
+    private final Position to = Position.parse("H8");
+
+    private final Position position = Position.parse("D4");
+
+    @Setup
+    public void setUp() {
+        guesser = new MoveGuesser(new Board(8, 8));
+        guesser.path(piece, from, to);
+    }
+
+    @Benchmark
+    public List<Position> moves() {
+        return guesser.moves(piece, position);
+    }
+
+    @Benchmark
+    public long[] movesMask() {
+        return guesser.movesMask(piece, position);
+    }
+
+    @Benchmark
+    public List<Position> path() {
+        return guesser.path(piece, from, to);
+    }
+
+    /**
+     * One cold call per fork, so each sample is a new JVM; this is the start-up cost an embedding caller sees.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public List<Position> firstQuery() {
+        return new MoveGuesser(new Board(8, 8)).moves(piece, position);
+    }
+}
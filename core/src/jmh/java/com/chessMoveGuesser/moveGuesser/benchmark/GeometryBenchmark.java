@@ -0,0 +1,87 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.engine.AttackTables;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How attack tables scale with board geometry, from 8x8 up to 32x32 and rectangular boards.
+ *
+ * <p>{@code build} creates one geometry's tables; with {@code -prof gc} its {@code gc.alloc.rate.norm}
+ * is the footprint of that geometry. {@code movesMask} and {@code movesList} look up the queen moves of
+ * 64 squares spread evenly over the board, so their scores compare directly across geometries.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+    private static final int SAMPLES = 64;
+
+    @Param({"8x8", "16x16", "24x24", "32x32", "8x32"})
+    public String geometry;
+
+    private Board board;
+
+    private AttackTables tables;
+
+    private final int[] squares = new int[SAMPLES];
+
+    @Setup
+    public void setUp() {
+        String[] sides = geometry.split("x");
+        board = new Board(Integer.parseInt(sides[0]), Integer.parseInt(sides[1]));
+        tables = AttackTables.forBoard(board);
+        for (int i = 0; i < SAMPLES; i++) {
+            squares[i] = (int) ((long) i * board.squareCount() / SAMPLES);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public AttackTables build() {
+        return AttackTables.build(board);
+    }
+
+    /**
+     * Mask lookups only; folds every word so larger masks cost their extra reads.
+     */
+    @Benchmark
+    public long movesMask() {
+        long acc = 0;
+        for (int square : squares) {
+            for (long word : tables.mask(Pieces.QUEEN, square)) {
+                acc ^= word;
+            }
+        }
+        return acc;
+    }
+
+    /**
+     * Mask lookups converted to {@link Position} lists, as the response tables are rendered.
+     */
+    @Benchmark
+    public void movesList(Blackhole blackhole) {
+        for (int square : squares) {
+            blackhole.consume(board.toPositions(tables.mask(Pieces.QUEEN, square)));
+        }
+    }
+}
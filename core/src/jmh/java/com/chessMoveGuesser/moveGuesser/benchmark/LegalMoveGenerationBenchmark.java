@@ -0,0 +1,89 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.MoveGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Legal move generation throughput on full chess positions.
+ *
+ * <p>{@code generate} measures generation alone at the root; {@code walk} plays every move to depth 3 with
+ * make/unmake and generates at each node, like perft. Both report {@code moves}, the number of legal moves
+ * generated per second, as an auxiliary counter.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LegalMoveGenerationBenchmark {
+
+    @Param({
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"
+    })
+    public String fen;
+
+    private BoardState state;
+
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES * 4];
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long moves;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            moves = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        state = BoardState.fromFen(fen);
+    }
+
+    @Benchmark
+    public int generate(Counters counters) {
+        int count = MoveGenerator.generate(state, moves, 0);
+        counters.moves += count;
+        return count;
+    }
+
+    @Benchmark
+    public long walk(Counters counters) {
+        long generated = walk(3, 0);
+        counters.moves += generated;
+        return generated;
+    }
+
+    private long walk(int depth, int offset) {
+        int end = MoveGenerator.generate(state, moves, offset);
+        long generated = end - offset;
+        if (depth > 1) {
+            for (int i = offset; i < end; i++) {
+                state.makeMove(moves[i]);
+                generated += walk(depth - 1, end);
+                state.unmakeMove(moves[i]);
+            }
+        }
+        return generated;
+    }
+}
@@ -0,0 +1,130 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.book.BookIngester;
+import com.chessMoveGuesser.moveGuesser.book.OpeningBook;
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.MoveGenerator;
+import com.chessMoveGuesser.moveGuesser.engine.San;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Opening book build and lookup on a synthetic PGN file of {@value #GAMES} seeded random games.
+ *
+ * <p>Moves are drawn with a strong bias towards the first legal moves, so games share openings the way real
+ * ones do. {@code ingest} builds the book from the file (throughput in MB/s is the file size divided by the
+ * score), {@code open} maps it as the service does at startup and {@code lookup} finds the moves of a
+ * position that is in the book.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpeningBookBenchmark {
+
+    private static final int GAMES = 50_000;
+    private static final int PLIES = 60;
+
+    private Path directory;
+    private Path pgn;
+    private Path bookFile;
+    private OpeningBook book;
+    private final long[] keys = new long[4096];
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("book-benchmark");
+        pgn = directory.resolve("games.pgn");
+        bookFile = directory.resolve("book.bin");
+        SplittableRandom random = new SplittableRandom(42);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int sampled = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(pgn, StandardCharsets.US_ASCII)) {
+            for (int game = 0; game < GAMES; game++) {
+                BoardState state = BoardState.startPosition();
+                StringBuilder movetext = new StringBuilder(512);
+                for (int ply = 0; ply < PLIES; ply++) {
+                    int count = MoveGenerator.generate(state, moves, 0);
+                    if (count == 0) {
+                        break;
+                    }
+                    if (sampled < keys.length && ply < 12 && random.nextInt(8) == 0) {
+                        keys[sampled++] = state.key();
+                    }
+                    int move = moves[Math.min(random.nextInt(count), Math.min(random.nextInt(count), random.nextInt(4)))];
+                    if (ply % 2 == 0) {
+                        movetext.append(ply / 2 + 1).append(". ");
+                    }
+                    movetext.append(San.toSan(state, move)).append(' ');
+                    state.makeMove(move);
+                }
+                String result = switch (random.nextInt(3)) {
+                    case 0 -> "1-0";
+                    case 1 -> "0-1";
+                    default -> "1/2-1/2";
+                };
+                out.write("[Event \"Synthetic\"]\n[Round \"" + game + "\"]\n[Result \"" + result + "\"]\n\n");
+                out.write(movetext.append(result).append("\n\n").toString());
+            }
+        }
+        // Fill up with repeats if the random sampling fell short
+        for (int i = sampled; i < keys.length; i++) {
+            keys[i] = keys[i % Math.max(1, sampled)];
+        }
+        BookIngester.ingest(List.of(pgn), bookFile, BookIngester.DEFAULT_MAX_PLY, 1,
+                Runtime.getRuntime().availableProcessors());
+        book = OpeningBook.open(bookFile);
+        System.out.printf("%n%d MB of PGN, book of %d entries (%d MB)%n", Files.size(pgn) >> 20,
+                book.entryCount(), book.sizeBytes() >> 20);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5)
+    public BookIngester.Summary ingest() throws Exception {
+        return BookIngester.ingest(List.of(pgn), directory.resolve("rebuilt.bin"), BookIngester.DEFAULT_MAX_PLY,
+                1, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public OpeningBook open() throws IOException {
+        return OpeningBook.open(bookFile);
+    }
+
+    @Benchmark
+    public List<OpeningBook.Entry> lookup() {
+        return book.lookup(keys[next++ & keys.length - 1]);
+    }
+}
@@ -0,0 +1,109 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.service.DistanceTable;
+import com.chessMoveGuesser.moveGuesser.service.KingMoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.KnightMoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shortest-path queries from corner to corner, answered from a {@link DistanceTable} ({@code tablePath})
+ * against a breadth-first search per query over the same strategy masks ({@code searchPath}), plus the
+ * one-off cost of building the table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReachabilityBenchmark {
+
+    @Param({"KING", "KNIGHT"})
+    public Pieces piece;
+
+    @Param({"8", "32"})
+    public int size;
+
+    private Board board;
+
+    private MoveStratergy strategy;
+
+    private DistanceTable table;
+
+    private int from;
+
+    private int to;
+
+    @Setup
+    public void setUp() {
+        board = new Board(size, size);
+        strategy = piece == Pieces.KING ? new KingMoveStratergy() : new KnightMoveStratergy();
+        table = DistanceTable.build(board, strategy);
+        from = 0;
+        to = board.squareCount() - 1;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public DistanceTable build() {
+        return DistanceTable.build(board, strategy);
+    }
+
+    @Benchmark
+    public int[] tablePath() {
+        return table.path(from, to);
+    }
+
+    /**
+     * What a client chaining single-move queries effectively does, minus the HTTP round trips.
+     */
+    @Benchmark
+    public int[] searchPath() {
+        int squares = board.squareCount();
+        int[] parent = new int[squares];
+        Arrays.fill(parent, -1);
+        int[] queue = new int[squares];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        parent[from] = from;
+        while (head < tail && parent[to] < 0) {
+            int square = queue[head++];
+            long[] targets = strategy.getMovesMask(square, board);
+            for (int word = 0; word < targets.length; word++) {
+                for (long bits = targets[word]; bits != 0; bits &= bits - 1) {
+                    int target = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    if (parent[target] < 0) {
+                        parent[target] = square;
+                        queue[tail++] = target;
+                    }
+                }
+            }
+        }
+        int length = 0;
+        for (int square = to; square != from; square = parent[square]) {
+            length++;
+        }
+        int[] path = new int[length + 1];
+        for (int square = to, i = length; i >= 0; square = parent[square], i--) {
+            path[i] = square;
+        }
+        return path;
+    }
+}
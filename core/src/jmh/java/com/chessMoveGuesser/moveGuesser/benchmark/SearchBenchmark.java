@@ -0,0 +1,91 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.Search;
+import com.chessMoveGuesser.moveGuesser.engine.TranspositionTable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy SMP scaling: searches to a fixed depth per second with 1, 2 and 4 search threads.
+ *
+ * <p>Every invocation starts from an empty hash table, so the inverse of the score is the time-to-depth of a
+ * cold search. {@code nodes} reports the nodes searched per second by all threads together; when nodes per
+ * second grow faster than searches per second, the extra threads are partly doing redundant work.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"
+    })
+    public String fen;
+
+    @Param({"5"})
+    public int depth;
+
+    @Param({"1", "2", "4"})
+    public int threads;
+
+    private BoardState root;
+
+    private ForkJoinPool pool;
+
+    private TranspositionTable table;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            nodes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        root = BoardState.fromFen(fen);
+        pool = new ForkJoinPool(threads);
+        table = new TranspositionTable(16);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        table.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public int timeToDepth(Counters counters) {
+        Search.Result result = Search.search(root, depth, Long.MAX_VALUE, threads, pool, table);
+        counters.nodes += result.nodes();
+        return result.bestMove();
+    }
+}
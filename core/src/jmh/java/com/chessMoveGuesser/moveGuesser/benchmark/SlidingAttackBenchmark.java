@@ -0,0 +1,95 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.engine.AttackTables;
+import com.chessMoveGuesser.moveGuesser.engine.Attacks;
+import com.chessMoveGuesser.moveGuesser.engine.Magics;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Occupancy-aware sliding attacks on an 8x8 board: {@link Magics} lookups against walking each ray to its
+ * nearest blocker ({@code rays}) and against stepping square by square ({@code walk}).
+ *
+ * <p>One operation covers all 64 squares against one of a fixed set of random occupancies, so divide the score
+ * by 64 for a per-lookup figure.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlidingAttackBenchmark {
+
+    private static final int OCCUPANCIES = 1024;
+
+    @Param({"ROOK", "BISHOP", "QUEEN"})
+    public Pieces piece;
+
+    private final long[] occupancies = new long[OCCUPANCIES];
+
+    private AttackTables tables;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < OCCUPANCIES; i++) {
+            // About a quarter of the squares occupied, as in a middlegame
+            occupancies[i] = random.nextLong() & random.nextLong();
+        }
+        tables = AttackTables.forBoard(new Board(8, 8));
+    }
+
+    private long nextOccupancy() {
+        return occupancies[next++ & (OCCUPANCIES - 1)];
+    }
+
+    @Benchmark
+    public void magic(Blackhole blackhole) {
+        long occupied = nextOccupancy();
+        for (int square = 0; square < 64; square++) {
+            blackhole.consume(switch (piece) {
+                case ROOK -> Magics.rook(square, occupied);
+                case BISHOP -> Magics.bishop(square, occupied);
+                default -> Magics.queen(square, occupied);
+            });
+        }
+    }
+
+    @Benchmark
+    public void rays(Blackhole blackhole) {
+        long occupied = nextOccupancy();
+        for (int square = 0; square < 64; square++) {
+            blackhole.consume(switch (piece) {
+                case ROOK -> Attacks.rookByRays(square, occupied);
+                case BISHOP -> Attacks.bishopByRays(square, occupied);
+                default -> Attacks.rookByRays(square, occupied) | Attacks.bishopByRays(square, occupied);
+            });
+        }
+    }
+
+    @Benchmark
+    public void walk(Blackhole blackhole) {
+        long[] occupied = {nextOccupancy()};
+        for (int square = 0; square < 64; square++) {
+            blackhole.consume(tables.slidingAttacks(piece, square, occupied));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.service.BishopMoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.KingMoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.KnightMoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.PawnMoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.QueenMoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.RookMoveStratergy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Move generation of each {@link MoveStratergy} for every square of an 8x8 board.
+ *
+ * <p>One operation covers all 64 squares, so divide the score by 64 for a per-call figure.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+
+    @Param({"KING", "QUEEN", "PAWN", "ROOK", "BISHOP", "KNIGHT"})
+    public Pieces piece;
+
+    private final Board board = new Board(8, 8);
+
+    private MoveStratergy strategy;
+
+    private Position[] positions;
+
+    @Setup
+    public void setUp() {
+        strategy = switch (piece) {
+            case KING -> new KingMoveStratergy();
+            case QUEEN -> new QueenMoveStratergy();
+            case PAWN -> new PawnMoveStratergy();
+            case ROOK -> new RookMoveStratergy();
+            case BISHOP -> new BishopMoveStratergy();
+            case KNIGHT -> new KnightMoveStratergy();
+        };
+        positions = new Position[board.squareCount()];
+        for (int square = 0; square < positions.length; square++) {
+            positions[square] = board.positionAt(square);
+        }
+    }
+
+    /**
+     * Primitive bitboard path: one table lookup per square.
+     */
+    @Benchmark
+    public long movesMask() {
+        long acc = 0;
+        for (int square = 0; square < positions.length; square++) {
+            acc ^= strategy.getMovesMask(square, board)[0];
+        }
+        return acc;
+    }
+
+    /**
+     * {@code List<Position>} adapter used by the service.
+     */
+    @Benchmark
+    public void movesList(Blackhole blackhole) {
+        for (Position position : positions) {
+            blackhole.consume(strategy.getMoves(position, board));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.chessMoveGuesser.moveGuesser;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.service.DistanceTable;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergyFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Plain Java entry point to the single-piece queries the web service answers, for embedding the engine in
+ * another process without Spring.
+ *
+ * <pre>{@code
+ * MoveGuesser guesser = new MoveGuesser(new Board(8, 8));
+ * guesser.moves(Pieces.KNIGHT, Position.parse("B1"));          // [A3, C3, D2]
+ * guesser.path(Pieces.KNIGHT, Position.parse("A1"), Position.parse("H8"));
+ * }</pre>
+ *
+ * <p>Single-move queries read the shared {@link com.chessMoveGuesser.moveGuesser.engine.AttackTables} of the
+ * geometry. Multi-move queries use a {@link DistanceTable} per piece, built the first time that piece is asked
+ * about. Instances are immutable apart from those tables and safe to share between threads.</p>
+ *
+ * <p>Full chess positions are handled by the {@code engine} package directly: {@code BoardState},
+ * {@code MoveGenerator}, {@code Perft} and {@code Search}.</p>
+ */
+public final class MoveGuesser {
+
+    private final Board board;
+
+    private final MoveStratergyFactory moveStratergyFactory;
+
+    /**
+     * Distance tables indexed by {@link Pieces#ordinal()}, filled on first use.
+     */
+    private final AtomicReferenceArray<DistanceTable> distances =
+            new AtomicReferenceArray<>(Pieces.values().length);
+
+    /**
+     * Guesser for a board geometry with the built-in strategy of every piece.
+     *
+     * @throws InvalidParameterException if a side is outside 1 to {@link Board#MAX_DIMENSION}
+     */
+    public MoveGuesser(Board board) {
+        this(board, new MoveStratergyFactory());
+    }
+
+    /**
+     * Guesser for a board geometry with the strategies of the given factory.
+     *
+     * @throws InvalidParameterException if a side is outside 1 to {@link Board#MAX_DIMENSION}
+     */
+    public MoveGuesser(Board board, MoveStratergyFactory moveStratergyFactory) {
+        if (!Board.isSupported(board.getRows(), board.getColumns())) {
+            throw new InvalidParameterException("Board geometry " + board.getRows() + "x" + board.getColumns()
+                    + " is not supported; each side must be between 1 and " + Board.MAX_DIMENSION + ".");
+        }
+        this.board = board;
+        this.moveStratergyFactory = moveStratergyFactory;
+    }
+
+    public Board board() {
+        return board;
+    }
+
+    /**
+     * Squares the piece can move to in one move on an empty board, sorted by {@link Position#compareTo}.
+     *
+     * @throws PostionOutOfBoardException if the position is not on the board
+     */
+    public List<Position> moves(Pieces piece, Position position) {
+        return board.toPositions(movesMask(piece, position));
+    }
+
+    /**
+     * Bitset form of {@link #moves}: square {@code i} (see {@link Board#squareIndex}) is bit {@code i % 64}
+     * of word {@code i / 64}.
+     *
+     * @return the shared attack mask; callers must not modify it
+     * @throws PostionOutOfBoardException if the position is not on the board
+     */
+    public long[] movesMask(Pieces piece, Position position) {
+        return strategy(piece).getMovesMask(squareIndex(position), board);
+    }
+
+    /**
+     * Squares the piece can reach in one to {@code moves} moves, sorted by {@link Position#compareTo}. The
+     * starting square is not included.
+     *
+     * @throws InvalidParameterException if {@code moves} is negative
+     * @throws PostionOutOfBoardException if the position is not on the board
+     */
+    public List<Position> reachable(Pieces piece, Position position, int moves) {
+        if (moves < 0) {
+            throw new InvalidParameterException("Number of moves must not be negative: " + moves);
+        }
+        return board.toPositions(distanceTable(piece).reachable(squareIndex(position), moves));
+    }
+
+    /**
+     * Minimum number of moves between two squares, 0 for the same square.
+     *
+     * @return the distance, or {@link DistanceTable#UNREACHABLE}
+     * @throws PostionOutOfBoardException if either position is not on the board
+     */
+    public int distance(Pieces piece, Position from, Position to) {
+        return distanceTable(piece).distance(squareIndex(from), squareIndex(to));
+    }
+
+    /**
+     * One shortest path between two squares, both included; empty when {@code to} cannot be reached.
+     *
+     * @throws PostionOutOfBoardException if either position is not on the board
+     */
+    public List<Position> path(Pieces piece, Position from, Position to) {
+        int[] squares = distanceTable(piece).path(squareIndex(from), squareIndex(to));
+        List<Position> path = new ArrayList<>(squares.length);
+        for (int square : squares) {
+            path.add(board.positionAt(square));
+        }
+        return Collections.unmodifiableList(path);
+    }
+
+    private MoveStratergy strategy(Pieces piece) {
+        MoveStratergy strategy = moveStratergyFactory.getStrategy(piece);
+        if (strategy == null) {
+            throw new InvalidParameterException("No move strategy for piece: " + piece);
+        }
+        return strategy;
+    }
+
+    private DistanceTable distanceTable(Pieces piece) {
+        DistanceTable table = distances.get(piece.ordinal());
+        if (table == null) {
+            // Two threads may race to build the same table; both results are equal, so either may win
+            table = DistanceTable.build(board, strategy(piece));
+            if (!distances.compareAndSet(piece.ordinal(), null, table)) {
+                table = distances.get(piece.ordinal());
+            }
+        }
+        return table;
+    }
+
+    private int squareIndex(Position position) {
+        if (!board.isValid(position)) {
+            throw new PostionOutOfBoardException("The provided position " + position + " is out of board bounds.");
+        }
+        return board.squareIndex(position);
+    }
+}
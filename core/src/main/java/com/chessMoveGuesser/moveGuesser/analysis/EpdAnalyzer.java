@@ -0,0 +1,364 @@
+package com.chessMoveGuesser.moveGuesser.analysis;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.Move;
+import com.chessMoveGuesser.moveGuesser.engine.MoveGenerator;
+import com.chessMoveGuesser.moveGuesser.engine.Perft;
+import com.chessMoveGuesser.moveGuesser.exception.InvalidFenException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Offline move generation over EPD or FEN position suites of any size.
+ *
+ * <p>The input is read through a {@link FileChannel} in chunks of about {@value #CHUNK_BYTES} bytes, cut at
+ * the last line break, and every chunk is analysed as one task on a {@link ForkJoinPool}. At most
+ * {@value #CHUNKS_PER_THREAD} chunks per thread are in flight: before reading further the oldest result is
+ * written, so results come out in input order and memory use does not depend on the size of the input.</p>
+ *
+ * <p>Each line is a FEN, or an EPD record: the first four FEN fields, optionally the two move counters, then
+ * operations separated by semicolons. Blank lines and lines starting with {@code #} are skipped. Every
+ * position becomes one tab-separated output line:</p>
+ *
+ * <pre>
+ * position    legal   moves (UCI, space-separated)   perft   check
+ * </pre>
+ *
+ * <p>{@code moves} is {@code -} with {@code --no-moves}, and {@code perft} is {@code -} without
+ * {@code --perft}. {@code check} compares the perft count with the record's {@code D<depth>} operation, as
+ * in the usual perft suites: {@code ok}, {@code expected <count>} on a mismatch, or {@code -} when there is
+ * nothing to compare. A line that is not a valid position, or that fails in any other way, is written as
+ * {@code invalid: <reason>} in the {@code check} column and the run goes on.</p>
+ *
+ * <pre>
+ * java -cp target/classes com.chessMoveGuesser.moveGuesser.analysis.EpdAnalyzer \
+ *     [--perft 3] [--no-moves] [--threads N] -o results.tsv positions.epd
+ * </pre>
+ */
+public final class EpdAnalyzer {
+
+    static final int CHUNK_BYTES = 1 << 20;
+
+    static final int CHUNKS_PER_THREAD = 2;
+
+    static final String HEADER = "# position\tlegal\tmoves\tperft\tcheck\n";
+
+    /**
+     * What to compute for every position.
+     *
+     * @param perftDepth depth of the perft count per position; 0 for none
+     * @param moves      whether to list the legal moves, not only count them
+     */
+    public record Options(int perftDepth, boolean moves) {
+    }
+
+    /**
+     * Outcome of an analysis run.
+     */
+    public record Summary(long positions, long invalid, long mismatches, long perftNodes, long bytesRead,
+                          long nanos) {
+
+        public double positionsPerSecond() {
+            return positions * 1e9 / Math.max(1, nanos);
+        }
+    }
+
+    record Result(byte[] output, long positions, long invalid, long mismatches, long perftNodes) {
+    }
+
+    private EpdAnalyzer() {
+    }
+
+    /**
+     * Analyse every position of a file.
+     *
+     * @param input   EPD or FEN file, one position per line
+     * @param output  tab-separated results, created or replaced
+     * @param options what to compute
+     * @param pool    pool the chunks are analysed on
+     */
+    public static Summary analyze(Path input, Path output, Options options, ForkJoinPool pool) throws IOException {
+        return analyze(input, output, options, pool, CHUNK_BYTES);
+    }
+
+    static Summary analyze(Path input, Path output, Options options, ForkJoinPool pool, int chunkBytes)
+            throws IOException {
+        long start = System.nanoTime();
+        int window = Math.max(2, pool.getParallelism() * CHUNKS_PER_THREAD);
+        ArrayDeque<ForkJoinTask<Result>> pending = new ArrayDeque<>(window);
+        long positions = 0;
+        long invalid = 0;
+        long mismatches = 0;
+        long perftNodes = 0;
+        long bytesRead = 0;
+
+        Path temporary = output.resolveSibling(output.getFileName() + ".tmp");
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            write(out, HEADER.getBytes(StandardCharsets.US_ASCII));
+            byte[] data = new byte[chunkBytes];
+            int filled = 0;
+            boolean end = false;
+            while (!end) {
+                if (filled == data.length) {
+                    // Not a single line break in the buffer: one very long line, so grow
+                    data = Arrays.copyOf(data, data.length * 2);
+                }
+                int read = in.read(ByteBuffer.wrap(data, filled, data.length - filled));
+                if (read < 0) {
+                    end = true;
+                } else {
+                    filled += read;
+                    bytesRead += read;
+                    if (filled < data.length) {
+                        continue;
+                    }
+                }
+                int split = end ? filled : lastLineEnd(data, filled);
+                if (split > 0) {
+                    byte[] chunk = data;
+                    pending.addLast(pool.submit(() -> analyzeChunk(chunk, split, options)));
+                    byte[] next = new byte[Math.max(chunkBytes, (filled - split) * 2)];
+                    System.arraycopy(data, split, next, 0, filled - split);
+                    data = next;
+                    filled -= split;
+                }
+
+                while (pending.size() >= window || end && !pending.isEmpty()) {
+                    Result result = pending.removeFirst().join();
+                    write(out, result.output());
+                    positions += result.positions();
+                    invalid += result.invalid();
+                    mismatches += result.mismatches();
+                    perftNodes += result.perftNodes();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            pending.forEach(task -> task.cancel(false));
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new Summary(positions, invalid, mismatches, perftNodes, bytesRead, System.nanoTime() - start);
+    }
+
+    /**
+     * Index just past the last line break, or -1.
+     */
+    static int lastLineEnd(byte[] data, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (data[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static void write(FileChannel out, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static Result analyzeChunk(byte[] data, int length, Options options) {
+        return analyzeChunk(data, length, options, new int[MoveGenerator.MAX_MOVES]);
+    }
+
+    /**
+     * Analyse the complete lines of a chunk, generating into {@code moves}. Any failure on a line is reported
+     * on that line, so one bad record cannot abort a run over millions.
+     */
+    static Result analyzeChunk(byte[] data, int length, Options options, int[] moves) {
+        StringBuilder out = new StringBuilder(length * 4);
+        long positions = 0;
+        long invalid = 0;
+        long mismatches = 0;
+        long perftNodes = 0;
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            String line = new String(data, lineStart, lineEnd - lineStart, StandardCharsets.ISO_8859_1).strip();
+            lineStart = lineEnd + 1;
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+
+            String[] record = splitRecord(line);
+            out.append(record[0]).append('\t');
+            int resultsOffset = out.length();
+            try {
+                BoardState state = BoardState.fromFen(record[0]);
+
+                int count = MoveGenerator.generate(state, moves, 0);
+                out.append(count).append('\t');
+                if (options.moves() && count > 0) {
+                    for (int i = 0; i < count; i++) {
+                        if (i > 0) {
+                            out.append(' ');
+                        }
+                        Move.appendUci(out, moves[i]);
+                    }
+                } else {
+                    out.append('-');
+                }
+                out.append('\t');
+
+                long nodes = 0;
+                boolean mismatch = false;
+                if (options.perftDepth() > 0) {
+                    nodes = Perft.perft(state, options.perftDepth());
+                    out.append(nodes).append('\t');
+                    long expected = expectedPerft(record[1], options.perftDepth());
+                    if (expected < 0) {
+                        out.append('-');
+                    } else if (expected == nodes) {
+                        out.append("ok");
+                    } else {
+                        mismatch = true;
+                        out.append("expected ").append(expected);
+                    }
+                } else {
+                    out.append("-\t-");
+                }
+                out.append('\n');
+                positions++;
+                perftNodes += nodes;
+                if (mismatch) {
+                    mismatches++;
+                }
+            } catch (RuntimeException e) {
+                // Drop whatever the line got before failing and report it in its place
+                out.setLength(resultsOffset);
+                out.append("-\t-\t-\tinvalid: ")
+                        .append(e instanceof InvalidFenException ? e.getMessage() : e.toString()).append('\n');
+                invalid++;
+            }
+        }
+        return new Result(out.toString().getBytes(StandardCharsets.ISO_8859_1), positions, invalid, mismatches,
+                perftNodes);
+    }
+
+    /**
+     * Split a line into its FEN (four fields, plus the move counters when present) and its EPD operations.
+     */
+    static String[] splitRecord(String line) {
+        int end = 0;
+        for (int field = 0; field < 4; field++) {
+            end = tokenEnd(line, skipSpaces(line, end));
+        }
+        int halfmoveStart = skipSpaces(line, end);
+        int halfmoveEnd = tokenEnd(line, halfmoveStart);
+        int fullmoveStart = skipSpaces(line, halfmoveEnd);
+        int fullmoveEnd = tokenEnd(line, fullmoveStart);
+        if (isNumber(line, halfmoveStart, halfmoveEnd) && isNumber(line, fullmoveStart, fullmoveEnd)) {
+            end = fullmoveEnd;
+        }
+        return new String[]{line.substring(0, end), line.substring(end).strip()};
+    }
+
+    private static int skipSpaces(String line, int index) {
+        while (index < line.length() && Character.isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int tokenEnd(String line, int index) {
+        while (index < line.length() && !Character.isWhitespace(line.charAt(index)) && line.charAt(index) != ';') {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isNumber(String line, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (line.charAt(i) < '0' || line.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Node count of the {@code D<depth>} operation among the EPD operations, or -1 if there is none.
+     */
+    static long expectedPerft(String operations, int depth) {
+        String opcode = "D" + depth;
+        for (String operation : operations.split(";")) {
+            String[] parts = operation.strip().split("\\s+");
+            if (parts.length == 2 && parts[0].equals(opcode)) {
+                try {
+                    return Long.parseLong(parts[1]);
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public static void main(String[] args) {
+        int perftDepth = 0;
+        boolean moves = true;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path output = null;
+        List<Path> inputs = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--perft" -> perftDepth = Integer.parseInt(args[++i]);
+                    case "--no-moves" -> moves = false;
+                    case "--threads" -> threads = Integer.parseInt(args[++i]);
+                    case "-o", "--output" -> output = Path.of(args[++i]);
+                    default -> inputs.add(Path.of(args[i]));
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            output = null;
+        }
+        if (output == null || inputs.size() != 1 || perftDepth < 0 || perftDepth > 8 || threads < 1) {
+            System.err.println("Usage: EpdAnalyzer [--perft 0-8] [--no-moves] [--threads N] "
+                    + "-o results.tsv positions.epd");
+            System.exit(2);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            Summary summary = analyze(inputs.getFirst(), output, new Options(perftDepth, moves), pool);
+            double seconds = summary.nanos() / 1e9;
+            System.out.printf("%d positions (%d invalid, %d perft mismatches), %d perft nodes, %.1f MB read in "
+                            + "%.1f s (%.0f positions/s) -> %s%n",
+                    summary.positions(), summary.invalid(), summary.mismatches(), summary.perftNodes(),
+                    summary.bytesRead() / 1e6, seconds, summary.positionsPerSecond(), output);
+            if (summary.mismatches() > 0) {
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("Analysis failed: " + e);
+            System.exit(1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.chessMoveGuesser.moveGuesser.book;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Game counts per (position key, move) pair, collected while ingesting PGN.
+ *
+ * <p>An open-addressing hash table over parallel primitive arrays: a pair costs 24 bytes plus slack instead
+ * of the hundred-odd of a boxed map entry, which is what keeps millions of distinct opening positions in
+ * memory. Each ingest worker fills its own accumulator; they are {@linkplain #addAll merged} once at the
+ * end and {@linkplain #write written} sorted by key, the order {@link OpeningBook} searches.</p>
+ */
+final class BookAccumulator {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private long[] keys;
+    /**
+     * Move of each slot plus one, so that 0 marks a free slot.
+     */
+    private int[] moves;
+    private int[] whiteWins;
+    private int[] draws;
+    private int[] blackWins;
+    private int size;
+
+    BookAccumulator() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        moves = new int[capacity];
+        whiteWins = new int[capacity];
+        draws = new int[capacity];
+        blackWins = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Count one game that played {@code move} in the position with {@code key}.
+     *
+     * @param result {@link PgnParser#WHITE_WINS}, {@link PgnParser#DRAW} or {@link PgnParser#BLACK_WINS}
+     */
+    void add(long key, int move, int result) {
+        switch (result) {
+            case PgnParser.WHITE_WINS -> add(key, move, 1, 0, 0);
+            case PgnParser.DRAW -> add(key, move, 0, 1, 0);
+            default -> add(key, move, 0, 0, 1);
+        }
+    }
+
+    private void add(long key, int move, int white, int draw, int black) {
+        int slot = find(key, move);
+        if (moves[slot] == 0) {
+            keys[slot] = key;
+            moves[slot] = move + 1;
+            size++;
+        }
+        whiteWins[slot] += white;
+        draws[slot] += draw;
+        blackWins[slot] += black;
+        if (size > keys.length >>> 1) {
+            grow();
+        }
+    }
+
+    /**
+     * Fold another accumulator's counts into this one.
+     */
+    void addAll(BookAccumulator other) {
+        for (int slot = 0; slot < other.moves.length; slot++) {
+            if (other.moves[slot] != 0) {
+                add(other.keys[slot], other.moves[slot] - 1,
+                        other.whiteWins[slot], other.draws[slot], other.blackWins[slot]);
+            }
+        }
+    }
+
+    private int find(long key, int move) {
+        int mask = keys.length - 1;
+        int slot = (int) (mix(key) ^ move * 0x9E3779B9) & mask;
+        while (moves[slot] != 0 && (keys[slot] != key || moves[slot] != move + 1)) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    private static long mix(long key) {
+        return key ^ key >>> 32;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldMoves = moves;
+        int[] oldWhite = whiteWins;
+        int[] oldDraws = draws;
+        int[] oldBlack = blackWins;
+        allocate(oldKeys.length << 1);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldMoves[slot] != 0) {
+                int target = find(oldKeys[slot], oldMoves[slot] - 1);
+                keys[target] = oldKeys[slot];
+                moves[target] = oldMoves[slot];
+                whiteWins[target] = oldWhite[slot];
+                draws[target] = oldDraws[slot];
+                blackWins[target] = oldBlack[slot];
+            }
+        }
+    }
+
+    /**
+     * Write every pair seen in at least {@code minGames} games as a book file: entries sorted by key, and the
+     * moves of one position by descending game count.
+     *
+     * @param channel  destination, positioned at the start
+     * @param games    number of games ingested, recorded in the header
+     * @param minGames pairs seen in fewer games are left out
+     * @return number of entries written
+     */
+    long write(FileChannel channel, long games, int minGames) throws IOException {
+        int[] order = new int[size];
+        int n = 0;
+        for (int slot = 0; slot < moves.length; slot++) {
+            if (moves[slot] != 0 && games(slot) >= minGames) {
+                order[n++] = slot;
+            }
+        }
+        sort(order, 0, n - 1);
+
+        ByteBuffer header = ByteBuffer.allocate(OpeningBook.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(OpeningBook.MAGIC).putInt(OpeningBook.VERSION).putInt(OpeningBook.ENTRY_BYTES)
+                .putLong(n).putLong(games).flip();
+        writeFully(channel, header);
+
+        ByteBuffer block = ByteBuffer.allocateDirect(OpeningBook.ENTRY_BYTES * 4096).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < n; i++) {
+            int slot = order[i];
+            block.putLong(keys[slot]).putInt(moves[slot] - 1)
+                    .putInt(whiteWins[slot]).putInt(draws[slot]).putInt(blackWins[slot]);
+            if (!block.hasRemaining()) {
+                writeFully(channel, block.flip());
+                block.clear();
+            }
+        }
+        writeFully(channel, block.flip());
+        return n;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private int games(int slot) {
+        return whiteWins[slot] + draws[slot] + blackWins[slot];
+    }
+
+    /**
+     * Ascending key, then descending game count.
+     */
+    private int compare(int a, int b) {
+        int byKey = Long.compare(keys[a], keys[b]);
+        return byKey != 0 ? byKey : Integer.compare(games(b), games(a));
+    }
+
+    /**
+     * Quicksort of slot indices; there is no primitive sort with a comparator in the JDK.
+     */
+    private void sort(int[] order, int low, int high) {
+        while (low < high) {
+            int pivot = order[low + high >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (compare(order[i], pivot) < 0) {
+                    i++;
+                }
+                while (compare(order[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i++] = order[j];
+                    order[j--] = swap;
+                }
+            }
+            // Recurse into the smaller half so the stack stays logarithmic
+            if (j - low < high - i) {
+                sort(order, low, j);
+                low = i;
+            } else {
+                sort(order, i, high);
+                high = j;
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.chessMoveGuesser.moveGuesser.book;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Offline builder of {@link OpeningBook} files from PGN game collections.
+ *
+ * <p>One thread reads each file through a {@link FileChannel} in chunks of about {@value #CHUNK_BYTES}
+ * bytes, cut at the last game boundary (a blank line followed by a tag) so no game spans two chunks, and
+ * hands them through a bounded queue to one parser per worker thread. Memory use is therefore a few chunks
+ * plus the position counts, whatever the size of the input. Every worker counts into its own
+ * {@link BookAccumulator}; the accumulators are merged and written sorted once all input is parsed.</p>
+ *
+ * <p>The book is written to a temporary file next to the destination and moved into place, so a service
+ * that has the old book mapped never sees a half-written file.</p>
+ *
+ * <pre>
+ * java -cp target/classes com.chessMoveGuesser.moveGuesser.book.BookIngester \
+ *     [--max-ply 30] [--min-games 1] [--threads N] -o book.bin games.pgn [more.pgn ...]
+ * </pre>
+ */
+public final class BookIngester {
+
+    public static final int DEFAULT_MAX_PLY = 30;
+    public static final int DEFAULT_MIN_GAMES = 1;
+
+    static final int CHUNK_BYTES = 4 << 20;
+
+    private static final Chunk END = new Chunk(new byte[0], 0);
+
+    private record Chunk(byte[] data, int length) {
+    }
+
+    /**
+     * Outcome of an ingest run.
+     */
+    public record Summary(long games, long skipped, long entries, long bytesRead, long nanos) {
+    }
+
+    private BookIngester() {
+    }
+
+    /**
+     * Build a book from PGN files.
+     *
+     * @param inputs   PGN files, read in order
+     * @param output   book file to create or replace
+     * @param maxPly   plies replayed per game, at most {@link BoardState#MAX_PLY}
+     * @param minGames (position, move) pairs played in fewer games are left out of the book
+     * @param threads  parser threads
+     */
+    public static Summary ingest(List<Path> inputs, Path output, int maxPly, int minGames, int threads)
+            throws IOException, InterruptedException {
+        if (maxPly < 1 || maxPly > BoardState.MAX_PLY) {
+            throw new IllegalArgumentException("Plies per game must be between 1 and " + BoardState.MAX_PLY
+                    + ": " + maxPly);
+        }
+        long start = System.nanoTime();
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(threads * 2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        BookAccumulator[] accumulators = new BookAccumulator[threads];
+        PgnParser[] parsers = new PgnParser[threads];
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            accumulators[t] = new BookAccumulator();
+            PgnParser parser = parsers[t] = new PgnParser(accumulators[t], maxPly);
+            workers.add(Thread.ofPlatform().name("book-ingest-" + t).start(() -> {
+                try {
+                    for (Chunk chunk = queue.take(); chunk != END; chunk = queue.take()) {
+                        parser.parse(chunk.data(), chunk.length());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                    // Keep draining so the reader never blocks on a full queue
+                    drain(queue);
+                }
+            }));
+        }
+
+        long bytesRead = 0;
+        try {
+            for (Path input : inputs) {
+                bytesRead += read(input, queue, failure);
+            }
+        } finally {
+            for (int t = 0; t < threads; t++) {
+                queue.put(END);
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Parsing failed", failure.get());
+        }
+
+        BookAccumulator book = accumulators[0];
+        long games = 0;
+        long skipped = 0;
+        for (int t = 0; t < threads; t++) {
+            if (t > 0) {
+                book.addAll(accumulators[t]);
+                accumulators[t] = null;
+            }
+            games += parsers[t].games();
+            skipped += parsers[t].skipped();
+        }
+
+        Path temporary = output.resolveSibling(output.getFileName() + ".tmp");
+        long entries;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            entries = book.write(channel, games, minGames);
+        }
+        Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new Summary(games, skipped, entries, bytesRead, System.nanoTime() - start);
+    }
+
+    /**
+     * Feed one file to the workers in chunks of whole games; returns the bytes read.
+     */
+    private static long read(Path input, BlockingQueue<Chunk> queue, AtomicReference<Throwable> failure)
+            throws IOException, InterruptedException {
+        long bytesRead = 0;
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            byte[] data = new byte[CHUNK_BYTES];
+            int filled = 0;
+            while (failure.get() == null) {
+                if (filled == data.length) {
+                    // Not a single game boundary in the buffer: one very long game, so grow
+                    data = Arrays.copyOf(data, data.length * 2);
+                }
+                int read = channel.read(ByteBuffer.wrap(data, filled, data.length - filled));
+                if (read < 0) {
+                    if (filled > 0) {
+                        queue.put(new Chunk(data, filled));
+                    }
+                    break;
+                }
+                filled += read;
+                bytesRead += read;
+                if (filled < data.length) {
+                    continue;
+                }
+                int split = lastGameStart(data, filled);
+                if (split > 0) {
+                    byte[] next = new byte[Math.max(CHUNK_BYTES, (filled - split) * 2)];
+                    System.arraycopy(data, split, next, 0, filled - split);
+                    queue.put(new Chunk(data, split));
+                    data = next;
+                    filled -= split;
+                }
+            }
+        }
+        return bytesRead;
+    }
+
+    /**
+     * Index of the last tag line that follows a blank line, i.e. the start of the last game, or -1.
+     */
+    static int lastGameStart(byte[] data, int length) {
+        for (int i = length - 1; i >= 2; i--) {
+            if (data[i] == '[' && data[i - 1] == '\n'
+                    && (data[i - 2] == '\n' || data[i - 2] == '\r' && i >= 3 && data[i - 3] == '\n')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void drain(BlockingQueue<Chunk> queue) {
+        try {
+            while (queue.take() != END) {
+                // discard
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxPly = DEFAULT_MAX_PLY;
+        int minGames = DEFAULT_MIN_GAMES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path output = null;
+        List<Path> inputs = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--max-ply" -> maxPly = Integer.parseInt(args[++i]);
+                    case "--min-games" -> minGames = Integer.parseInt(args[++i]);
+                    case "--threads" -> threads = Integer.parseInt(args[++i]);
+                    case "-o", "--output" -> output = Path.of(args[++i]);
+                    default -> inputs.add(Path.of(args[i]));
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            output = null;
+        }
+        if (output == null || inputs.isEmpty() || maxPly < 1 || maxPly > BoardState.MAX_PLY || minGames < 1
+                || threads < 1) {
+            System.err.println("Usage: BookIngester [--max-ply N (1-" + BoardState.MAX_PLY + ")] [--min-games N] "
+                    + "[--threads N] -o book.bin games.pgn [more.pgn ...]");
+            System.exit(2);
+        }
+
+        try {
+            Summary summary = ingest(inputs, output, maxPly, minGames, threads);
+            double seconds = summary.nanos() / 1e9;
+            System.out.printf("%d games (%d skipped), %d entries, %.1f MB read in %.1f s (%.1f MB/s) -> %s%n",
+                    summary.games(), summary.skipped(), summary.entries(), summary.bytesRead() / 1e6, seconds,
+                    summary.bytesRead() / 1e6 / seconds, output);
+        } catch (IOException e) {
+            System.err.println("Ingest failed: " + e);
+            System.exit(1);
+        }
+    }
+}
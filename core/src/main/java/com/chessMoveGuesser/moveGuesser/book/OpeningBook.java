@@ -0,0 +1,147 @@
+package com.chessMoveGuesser.moveGuesser.book;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view of an opening book file written by {@link BookIngester}.
+ *
+ * <p>The file is a 32-byte header followed by fixed-size little-endian entries sorted by Zobrist key:</p>
+ * <pre>
+ * header: magic (8) | version (4) | entry size (4) | entry count (8) | games (8)
+ * entry:  position key (8) | move (4) | white wins (4) | draws (4) | black wins (4)
+ * </pre>
+ *
+ * <p>The entries are memory-mapped, not read: opening a book of any size costs a few system calls, pages are
+ * loaded by the OS on first touch and shared with every other process mapping the file, and a lookup is a
+ * binary search reading straight from the mapping. Files over 2 GB are mapped in several segments, since a
+ * single {@link MappedByteBuffer} is limited to {@code Integer.MAX_VALUE} bytes.</p>
+ */
+public final class OpeningBook {
+
+    static final long MAGIC = 0x0100_4B4F_4F42_474DL; // "MGBOOK" 00 01, little-endian
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int ENTRY_BYTES = 24;
+
+    private static final int ENTRIES_PER_SEGMENT = Integer.MAX_VALUE / ENTRY_BYTES;
+
+    /**
+     * Move statistics of one position. {@code move} is packed as in
+     * {@link com.chessMoveGuesser.moveGuesser.engine.Move}; counts are from White's point of view.
+     */
+    public record Entry(int move, int whiteWins, int draws, int blackWins) {
+
+        public int games() {
+            return whiteWins + draws + blackWins;
+        }
+    }
+
+    private final MappedByteBuffer[] segments;
+    private final long entryCount;
+    private final long games;
+
+    private OpeningBook(MappedByteBuffer[] segments, long entryCount, long games) {
+        this.segments = segments;
+        this.entryCount = entryCount;
+        this.games = games;
+    }
+
+    /**
+     * Map a book file.
+     *
+     * @throws IOException if the file cannot be read or is not a book of this version
+     */
+    public static OpeningBook open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    break;
+                }
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getLong() != MAGIC) {
+                throw new IOException(path + " is not an opening book");
+            }
+            int version = header.getInt();
+            int entryBytes = header.getInt();
+            long entryCount = header.getLong();
+            long games = header.getLong();
+            if (version != VERSION || entryBytes != ENTRY_BYTES) {
+                throw new IOException(path + " has book version " + version + ", expected " + VERSION);
+            }
+            if (channel.size() != HEADER_BYTES + entryCount * ENTRY_BYTES) {
+                throw new IOException(path + " is truncated");
+            }
+
+            // The mappings stay valid after the channel is closed
+            int segmentCount = (int) ((entryCount + ENTRIES_PER_SEGMENT - 1) / ENTRIES_PER_SEGMENT);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                long first = (long) s * ENTRIES_PER_SEGMENT;
+                long count = Math.min(ENTRIES_PER_SEGMENT, entryCount - first);
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * ENTRY_BYTES,
+                        count * ENTRY_BYTES);
+                segments[s].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new OpeningBook(segments, entryCount, games);
+        }
+    }
+
+    /**
+     * Number of (position, move) entries.
+     */
+    public long entryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Number of games the book was built from.
+     */
+    public long games() {
+        return games;
+    }
+
+    public long sizeBytes() {
+        return HEADER_BYTES + entryCount * ENTRY_BYTES;
+    }
+
+    /**
+     * Moves played from the position with {@code key}, most played first.
+     *
+     * @return the entries, empty when the position is not in the book
+     */
+    public List<Entry> lookup(long key) {
+        // Binary search for the first entry with the key
+        long low = 0;
+        long high = entryCount;
+        while (low < high) {
+            long mid = low + high >>> 1;
+            if (key(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (long i = low; i < entryCount && key(i) == key; i++) {
+            ByteBuffer segment = segments[(int) (i / ENTRIES_PER_SEGMENT)];
+            int offset = (int) (i % ENTRIES_PER_SEGMENT) * ENTRY_BYTES;
+            entries.add(new Entry(segment.getInt(offset + 8), segment.getInt(offset + 12),
+                    segment.getInt(offset + 16), segment.getInt(offset + 20)));
+        }
+        return entries;
+    }
+
+    private long key(long index) {
+        return segments[(int) (index / ENTRIES_PER_SEGMENT)].getLong((int) (index % ENTRIES_PER_SEGMENT) * ENTRY_BYTES);
+    }
+}
@@ -0,0 +1,238 @@
+package com.chessMoveGuesser.moveGuesser.book;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.Move;
+import com.chessMoveGuesser.moveGuesser.engine.MoveGenerator;
+import com.chessMoveGuesser.moveGuesser.engine.San;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streaming PGN reader that replays the opening of every game and counts its moves into a
+ * {@link BookAccumulator}.
+ *
+ * <p>The parser works directly on the bytes of a chunk of whole games and keeps one position that it plays
+ * forward and takes back, so it allocates nothing per game or move. Only the first {@code maxPly} plies of a
+ * game are replayed. Comments, variations, numeric annotations and move numbers are skipped. A game counts
+ * once its result is known, from the termination marker or else the {@code Result} tag; games with an
+ * unknown result ({@code *}) or a custom start position ({@code FEN} tag) are ignored, and a game whose
+ * moves stop making sense contributes the plies before the bad move.</p>
+ */
+final class PgnParser {
+
+    static final int UNKNOWN = -1;
+    static final int WHITE_WINS = 0;
+    static final int DRAW = 1;
+    static final int BLACK_WINS = 2;
+
+    private static final byte[] RESULT_TAG = "Result".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FEN_TAG = "FEN".getBytes(StandardCharsets.US_ASCII);
+
+    private final BookAccumulator accumulator;
+    private final int maxPly;
+
+    private final BoardState state = BoardState.startPosition();
+    private final int[] buffer = new int[MoveGenerator.MAX_MOVES];
+    private final long[] plyKeys;
+    private final int[] plyMoves;
+
+    // Current game
+    private int ply;
+    private boolean hasMoves;
+    private boolean broken;
+    private boolean customStart;
+    private int tagResult = UNKNOWN;
+
+    private long games;
+    private long skipped;
+
+    PgnParser(BookAccumulator accumulator, int maxPly) {
+        this.accumulator = accumulator;
+        this.maxPly = maxPly;
+        this.plyKeys = new long[maxPly];
+        this.plyMoves = new int[maxPly];
+    }
+
+    /**
+     * Games counted so far.
+     */
+    long games() {
+        return games;
+    }
+
+    /**
+     * Games ignored so far for an unknown result or a custom start position.
+     */
+    long skipped() {
+        return skipped;
+    }
+
+    /**
+     * Parse {@code data[0, length)}, which must hold whole games.
+     */
+    void parse(byte[] data, int length) {
+        int variation = 0;
+        int i = 0;
+        while (i < length) {
+            byte c = data[i];
+            if (c == '[' && (i == 0 || data[i - 1] == '\n') && variation == 0) {
+                if (hasMoves) {
+                    // A new game started without a termination marker
+                    finishGame(UNKNOWN);
+                }
+                i = parseTag(data, i + 1, length);
+            } else if (c == '{') {
+                i = skipPast(data, i, length, (byte) '}');
+            } else if (c == ';' || c == '%' && (i == 0 || data[i - 1] == '\n')) {
+                i = skipPast(data, i, length, (byte) '\n');
+            } else if (c == '(') {
+                variation++;
+                i++;
+            } else if (c == ')') {
+                variation = Math.max(0, variation - 1);
+                i++;
+            } else if (c <= ' ') {
+                i++;
+            } else {
+                int end = tokenEnd(data, i, length);
+                if (variation == 0) {
+                    token(data, i, end);
+                }
+                i = end;
+            }
+        }
+        if (hasMoves) {
+            finishGame(UNKNOWN);
+        }
+    }
+
+    private void token(byte[] data, int start, int end) {
+        byte c = data[start];
+        if (c == '$') {
+            return;
+        }
+        if (c == '*') {
+            finishGame(UNKNOWN);
+            return;
+        }
+        boolean castling = c == '0' && end - start >= 3 && data[start + 1] == '-' && data[start + 2] == '0';
+        if (c >= '0' && c <= '9' && !castling) {
+            int result = result(data, start, end);
+            if (result != UNKNOWN) {
+                finishGame(result);
+                return;
+            }
+            // A move number, possibly glued to the move as in "1.e4"
+            while (start < end && (data[start] >= '0' && data[start] <= '9' || data[start] == '.')) {
+                start++;
+            }
+            if (start == end || data[start] == '-' || data[start] == '/') {
+                return;
+            }
+        }
+        hasMoves = true;
+        if (broken || customStart || ply == maxPly) {
+            return;
+        }
+        int move = San.parse(state, data, start, end, buffer);
+        if (move == Move.NONE) {
+            broken = true;
+            return;
+        }
+        plyKeys[ply] = state.key();
+        plyMoves[ply++] = move;
+        state.makeMove(move);
+    }
+
+    private void finishGame(int result) {
+        if (result == UNKNOWN) {
+            result = tagResult;
+        }
+        if (result == UNKNOWN || customStart) {
+            skipped++;
+        } else if (hasMoves) {
+            for (int p = 0; p < ply; p++) {
+                accumulator.add(plyKeys[p], plyMoves[p], result);
+            }
+            games++;
+        }
+        while (ply > 0) {
+            state.unmakeMove(plyMoves[--ply]);
+        }
+        hasMoves = false;
+        broken = false;
+        customStart = false;
+        tagResult = UNKNOWN;
+    }
+
+    /**
+     * Read a tag pair such as {@code [Result "1-0"]}; returns the index after its line.
+     */
+    private int parseTag(byte[] data, int i, int length) {
+        int lineEnd = i;
+        while (lineEnd < length && data[lineEnd] != '\n') {
+            lineEnd++;
+        }
+        int nameEnd = i;
+        while (nameEnd < lineEnd && data[nameEnd] > ' ') {
+            nameEnd++;
+        }
+        int value = nameEnd;
+        while (value < lineEnd && data[value] != '"') {
+            value++;
+        }
+        if (matches(data, i, nameEnd, RESULT_TAG)) {
+            tagResult = result(data, value + 1, lineEnd);
+        } else if (matches(data, i, nameEnd, FEN_TAG)) {
+            customStart = true;
+        }
+        return lineEnd + 1;
+    }
+
+    /**
+     * Result encoded by a token starting at {@code start}: {@code 1-0}, {@code 0-1} or {@code 1/2-1/2}.
+     */
+    private static int result(byte[] data, int start, int end) {
+        if (end - start >= 3 && data[start + 1] == '-') {
+            if (data[start] == '1' && data[start + 2] == '0') {
+                return WHITE_WINS;
+            }
+            if (data[start] == '0' && data[start + 2] == '1') {
+                return BLACK_WINS;
+            }
+        } else if (end - start >= 7 && data[start] == '1' && data[start + 1] == '/' && data[start + 3] == '-') {
+            return DRAW;
+        }
+        return UNKNOWN;
+    }
+
+    private static boolean matches(byte[] data, int start, int end, byte[] name) {
+        if (end - start != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (data[start + i] != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipPast(byte[] data, int i, int length, byte terminator) {
+        while (i < length && data[i] != terminator) {
+            i++;
+        }
+        return i + 1;
+    }
+
+    private static int tokenEnd(byte[] data, int i, int length) {
+        while (i < length) {
+            byte c = data[i];
+            if (c <= ' ' || c == '{' || c == '(' || c == ')' || c == ';') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,323 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Precomputed empty-board attack masks for every piece and every square of a board geometry.
+ *
+ * <p>All pieces are built from two kinds of shared tables: per-direction rays, unioned for the sliding
+ * pieces (queen: all eight directions, rook: orthogonal, bishop: diagonal), and jump tables for the
+ * stepping pieces (king, knight, pawn). Each piece still ends up with its own finished mask per square,
+ * so a lookup costs one array read whichever piece is asked for.</p>
+ *
+ * <p>A mask is a bitset over square indices as defined by {@link Board#squareIndex}: square {@code i} is
+ * bit {@code i % 64} of word {@code i / 64}, so a mask has {@link Board#maskWords()} words and boards of at
+ * most 64 squares use a single {@code long}. Tables are built lazily the first time a geometry is asked for
+ * and shared by every caller through a bounded cache; lookups are plain array reads and never allocate.</p>
+ */
+public final class AttackTables {
+
+    /**
+     * Number of geometries kept at once. A 32x32 geometry takes about 900 KB, so the cache stays within a
+     * few tens of megabytes however many geometries clients ask for.
+     */
+    public static final int MAX_CACHED_GEOMETRIES = 32;
+
+    /**
+     * One-step deltas {rowDelta, columnDelta} around a square, shared by the king and sliding pieces.
+     */
+    private static final int[][] ALL_DIRECTIONS = {
+            {-1, 0},  // down
+            {-1, 1},  // down-right
+            {0, 1},   // right
+            {1, 1},   // up-right
+            {1, 0},   // up
+            {1, -1},  // up-left
+            {0, -1},  // left
+            {-1, -1}  // down-left
+    };
+
+    /**
+     * Indices into {@link #ALL_DIRECTIONS} of the queen's, the rook's and the bishop's directions.
+     */
+    private static final int[] ALL = {0, 1, 2, 3, 4, 5, 6, 7};
+    private static final int[] ORTHOGONAL = {0, 2, 4, 6};
+    private static final int[] DIAGONAL = {1, 3, 5, 7};
+
+    private static final int[][] KNIGHT_JUMPS = {
+            {2, 1}, {1, 2}, {-1, 2}, {-2, 1}, {-2, -1}, {-1, -2}, {1, -2}, {2, -1}
+    };
+
+    /**
+     * Pawns only step forward, towards higher rows.
+     */
+    private static final int[][] PAWN_STEPS = {{1, 0}};
+
+    /**
+     * Least-recently-used geometries, guarded by its own monitor. The lock is held only to look up or insert
+     * an entry: the first caller of a new geometry builds it after releasing the lock, and callers asking for
+     * the same geometry meanwhile wait on its future, so it is still built only once while lookups of other
+     * geometries go ahead.
+     */
+    private static final Map<Board, CompletableFuture<AttackTables>> TABLES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Board, CompletableFuture<AttackTables>> eldest) {
+            return size() > MAX_CACHED_GEOMETRIES;
+        }
+    };
+
+    /**
+     * Most recently requested tables. Services almost always ask for the same geometry, so this
+     * skips the cache lookup (and the {@link Board#hashCode()} it needs) on the hot path.
+     */
+    private static volatile AttackTables last;
+
+    private final int rows;
+    private final int columns;
+
+    /**
+     * Attack masks indexed by {@code [piece.ordinal()][square]}, each {@link Board#maskWords()} long.
+     */
+    private final long[][][] attacks;
+
+    private AttackTables(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        // Rays are only needed while the sliding pieces are assembled
+        long[][][] rays = new long[ALL_DIRECTIONS.length][][];
+        for (int direction = 0; direction < ALL_DIRECTIONS.length; direction++) {
+            rays[direction] = slideMasks(rows, columns, new int[][]{ALL_DIRECTIONS[direction]});
+        }
+        this.attacks = new long[Pieces.values().length][][];
+        for (Pieces piece : Pieces.values()) {
+            attacks[piece.ordinal()] = buildMasks(piece, rays);
+        }
+    }
+
+    /**
+     * Return the tables for the geometry of the given board, building them on first use.
+     *
+     * @throws IllegalArgumentException if a side of the board is outside 1 to {@link Board#MAX_DIMENSION}
+     */
+    public static AttackTables forBoard(Board board) {
+        AttackTables tables = last;
+        if (tables != null && tables.rows == board.getRows() && tables.columns == board.getColumns()) {
+            return tables;
+        }
+        Board geometry = new Board(board.getRows(), board.getColumns());
+        CompletableFuture<AttackTables> future;
+        boolean building = false;
+        synchronized (TABLES) {
+            future = TABLES.get(geometry);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                TABLES.put(geometry, future);
+                building = true;
+            }
+        }
+        if (building) {
+            try {
+                future.complete(build(geometry));
+            } catch (RuntimeException | Error e) {
+                // Unsupported or failed: leave nothing behind, so the next caller builds it afresh
+                future.completeExceptionally(e);
+                synchronized (TABLES) {
+                    TABLES.remove(geometry, future);
+                }
+                throw e;
+            }
+        }
+        try {
+            tables = future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        last = tables;
+        return tables;
+    }
+
+    /**
+     * Build the tables of a geometry without consulting or filling the shared cache, e.g. to measure
+     * build time and footprint. Use {@link #forBoard} everywhere else.
+     *
+     * @throws IllegalArgumentException if a side of the board is outside 1 to {@link Board#MAX_DIMENSION}
+     */
+    public static AttackTables build(Board board) {
+        if (!Board.isSupported(board.getRows(), board.getColumns())) {
+            throw new IllegalArgumentException("Board geometry " + board.getRows() + "x" + board.getColumns()
+                    + " is not supported; each side must be between 1 and " + Board.MAX_DIMENSION + ".");
+        }
+        return new AttackTables(board.getRows(), board.getColumns());
+    }
+
+    /**
+     * Attack mask of the given piece standing on {@code square} of an otherwise empty board.
+     *
+     * @return the shared mask, {@link Board#maskWords()} long; callers must not modify it
+     */
+    public long[] mask(Pieces piece, int square) {
+        return attacks[piece.ordinal()][square];
+    }
+
+    /**
+     * Single-word form of {@link #mask} for geometries of at most 64 squares.
+     */
+    public long attacks(Pieces piece, int square) {
+        return attacks[piece.ordinal()][square][0];
+    }
+
+    /**
+     * Attacks of a sliding piece on {@code square} with other pieces on the board: each ray stops at, and
+     * includes, the first occupied square. This walks the rays square by square, so it suits any geometry;
+     * the 8x8 board has constant-time {@link Magics} lookups instead.
+     *
+     * @param piece    {@link Pieces#QUEEN}, {@link Pieces#ROOK} or {@link Pieces#BISHOP}
+     * @param occupied occupied squares, laid out like {@link #mask}
+     * @return a new mask owned by the caller
+     */
+    public long[] slidingAttacks(Pieces piece, int square, long[] occupied) {
+        int[] directions = switch (piece) {
+            case QUEEN -> ALL;
+            case ROOK -> ORTHOGONAL;
+            case BISHOP -> DIAGONAL;
+            default -> throw new IllegalArgumentException(piece + " is not a sliding piece.");
+        };
+        long[] attacks = new long[occupied.length];
+        for (int direction : directions) {
+            int row = square % rows + ALL_DIRECTIONS[direction][0];
+            int column = square / rows + ALL_DIRECTIONS[direction][1];
+            while (onBoard(rows, columns, row, column)) {
+                int target = column * rows + row;
+                attacks[target >>> 6] |= 1L << target;
+                if ((occupied[target >>> 6] & 1L << target) != 0) {
+                    break;
+                }
+                row += ALL_DIRECTIONS[direction][0];
+                column += ALL_DIRECTIONS[direction][1];
+            }
+        }
+        return attacks;
+    }
+
+    /**
+     * Approximate heap taken by these tables, for sizing the geometry cache.
+     */
+    public long sizeBytes() {
+        int squares = rows * columns;
+        int words = (squares + Long.SIZE - 1) / Long.SIZE;
+        // Per square: one long[] with a 16-byte header, plus its reference in the square array
+        return (long) attacks.length * squares * (16 + words * Long.BYTES + 4);
+    }
+
+    private long[][] buildMasks(Pieces piece, long[][][] rays) {
+        return switch (piece) {
+            case KING -> stepMasks(rows, columns, ALL_DIRECTIONS);
+            case QUEEN -> union(rays, ALL);
+            case ROOK -> union(rays, ORTHOGONAL);
+            case BISHOP -> union(rays, DIAGONAL);
+            case KNIGHT -> stepMasks(rows, columns, KNIGHT_JUMPS);
+            case PAWN -> stepMasks(rows, columns, PAWN_STEPS);
+        };
+    }
+
+    /**
+     * Per-square union of the given directions' rays.
+     */
+    private static long[][] union(long[][][] rays, int... directions) {
+        int squares = rays[0].length;
+        long[][] masks = new long[squares][rays[0][0].length];
+        for (int square = 0; square < squares; square++) {
+            for (int direction : directions) {
+                long[] ray = rays[direction][square];
+                for (int word = 0; word < ray.length; word++) {
+                    masks[square][word] |= ray[word];
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Single-word form of {@link #stepMasks} for geometries of at most 64 squares.
+     */
+    static long[] stepTable(int rows, int columns, int[][] steps) {
+        return firstWords(stepMasks(rows, columns, steps));
+    }
+
+    /**
+     * Single-word form of {@link #slideMasks} for geometries of at most 64 squares.
+     */
+    static long[] slideTable(int rows, int columns, int[][] directions) {
+        return firstWords(slideMasks(rows, columns, directions));
+    }
+
+    /**
+     * Build masks of single-step attacks: each square attacks the squares one {rowDelta, columnDelta}
+     * step away that are still on a {@code rows} x {@code columns} board.
+     */
+    static long[][] stepMasks(int rows, int columns, int[][] steps) {
+        long[][] masks = new long[rows * columns][(rows * columns + Long.SIZE - 1) / Long.SIZE];
+        for (int square = 0; square < masks.length; square++) {
+            int row = square % rows;
+            int column = square / rows;
+            for (int[] step : steps) {
+                set(masks[square], rows, columns, row + step[0], column + step[1]);
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Build masks of sliding attacks: each square attacks every square along each direction up to the
+     * edge of a {@code rows} x {@code columns} board.
+     */
+    static long[][] slideMasks(int rows, int columns, int[][] directions) {
+        long[][] masks = new long[rows * columns][(rows * columns + Long.SIZE - 1) / Long.SIZE];
+        for (int square = 0; square < masks.length; square++) {
+            for (int[] direction : directions) {
+                int row = square % rows + direction[0];
+                int column = square / rows + direction[1];
+                while (onBoard(rows, columns, row, column)) {
+                    set(masks[square], rows, columns, row, column);
+                    row += direction[0];
+                    column += direction[1];
+                }
+            }
+        }
+        return masks;
+    }
+
+    private static long[] firstWords(long[][] masks) {
+        if (masks.length > Long.SIZE) {
+            throw new IllegalArgumentException("Single-word tables hold at most " + Long.SIZE + " squares.");
+        }
+        long[] table = new long[masks.length];
+        for (int square = 0; square < masks.length; square++) {
+            table[square] = masks[square][0];
+        }
+        return table;
+    }
+
+    private static boolean onBoard(int rows, int columns, int row, int column) {
+        return row >= 0 && row < rows && column >= 0 && column < columns;
+    }
+
+    /**
+     * Set the bit of a zero-based (row, column) in {@code mask}, unless it falls off the board.
+     */
+    private static void set(long[] mask, int rows, int columns, int row, int column) {
+        if (onBoard(rows, columns, row, column)) {
+            int square = column * rows + row;
+            mask[square >>> 6] |= 1L << square;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+
+/**
+ * Attack tables and occupancy-aware attack lookups for a standard 8x8 chess board.
+ *
+ * <p>Squares use the same column-major numbering as {@link Board#squareIndex}: {@code square = file * 8 + rank}
+ * with a1 = 0, a2 = 1, ..., h8 = 63. Moving one rank up is {@code +1}, one file right is {@code +8}.</p>
+ */
+public final class Attacks {
+
+    public static final Board CHESS_BOARD = new Board(8, 8);
+
+    /**
+     * Ray directions as {rowDelta, columnDelta}. The first four step towards higher square indices,
+     * the last four towards lower ones, which decides how the nearest blocker is found.
+     */
+    private static final int[][] DIRECTIONS = {
+            {1, 0},   // north  +1
+            {0, 1},   // east   +8
+            {1, 1},   // north-east +9
+            {-1, 1},  // south-east +7
+            {-1, 0},  // south  -1
+            {0, -1},  // west   -8
+            {-1, -1}, // south-west -9
+            {1, -1}   // north-west -7
+    };
+
+    private static final int[] ROOK_DIRECTIONS = {0, 1, 4, 5};
+    private static final int[] BISHOP_DIRECTIONS = {2, 3, 6, 7};
+
+    private static final int[][][] PAWN_CAPTURES = {
+            {{1, -1}, {1, 1}},    // white captures towards higher ranks
+            {{-1, -1}, {-1, 1}}   // black captures towards lower ranks
+    };
+
+    private static final long[] KING = new long[64];
+    private static final long[] KNIGHT = new long[64];
+    private static final long[][] PAWN = {
+            AttackTables.stepTable(8, 8, PAWN_CAPTURES[0]),
+            AttackTables.stepTable(8, 8, PAWN_CAPTURES[1])
+    };
+
+    /**
+     * Empty-board rays indexed by {@code [direction][square]}, excluding the square itself.
+     */
+    private static final long[][] RAYS = new long[DIRECTIONS.length][];
+
+    /**
+     * Squares strictly between two aligned squares, and the full line through them; 0 when not aligned.
+     */
+    private static final long[][] BETWEEN = new long[64][64];
+    private static final long[][] LINE = new long[64][64];
+
+    private static final long[] ROOK_RAYS = new long[64];
+    private static final long[] BISHOP_RAYS = new long[64];
+
+    static {
+        AttackTables tables = AttackTables.forBoard(CHESS_BOARD);
+        for (int square = 0; square < 64; square++) {
+            KING[square] = tables.attacks(Pieces.KING, square);
+            KNIGHT[square] = tables.attacks(Pieces.KNIGHT, square);
+        }
+        for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+            RAYS[direction] = AttackTables.slideTable(8, 8, new int[][]{DIRECTIONS[direction]});
+        }
+        for (int square = 0; square < 64; square++) {
+            for (int direction : ROOK_DIRECTIONS) {
+                ROOK_RAYS[square] |= RAYS[direction][square];
+            }
+            for (int direction : BISHOP_DIRECTIONS) {
+                BISHOP_RAYS[square] |= RAYS[direction][square];
+            }
+            for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+                int opposite = (direction + 4) % 8;
+                long ray = RAYS[direction][square];
+                for (long targets = ray; targets != 0; targets &= targets - 1) {
+                    int target = Long.numberOfTrailingZeros(targets);
+                    BETWEEN[square][target] = ray & RAYS[opposite][target];
+                    LINE[square][target] = (ray | RAYS[opposite][square]) | (1L << square);
+                }
+            }
+        }
+    }
+
+    private Attacks() {
+    }
+
+    public static long king(int square) {
+        return KING[square];
+    }
+
+    public static long knight(int square) {
+        return KNIGHT[square];
+    }
+
+    /**
+     * Squares attacked by a pawn of {@code color} (0 white, 1 black) standing on {@code square}.
+     */
+    public static long pawn(int color, int square) {
+        return PAWN[color][square];
+    }
+
+    /**
+     * Rook attacks with blockers, looked up in the {@link Magics} tables.
+     */
+    public static long rook(int square, long occupied) {
+        return Magics.rook(square, occupied);
+    }
+
+    /**
+     * Bishop attacks with blockers, looked up in the {@link Magics} tables.
+     */
+    public static long bishop(int square, long occupied) {
+        return Magics.bishop(square, occupied);
+    }
+
+    public static long queen(int square, long occupied) {
+        return Magics.queen(square, occupied);
+    }
+
+    /**
+     * Rook attacks computed ray by ray from the nearest blocker; the reference for {@link #rook}.
+     */
+    public static long rookByRays(int square, long occupied) {
+        return ray(0, square, occupied) | ray(1, square, occupied)
+                | ray(4, square, occupied) | ray(5, square, occupied);
+    }
+
+    /**
+     * Bishop attacks computed ray by ray from the nearest blocker; the reference for {@link #bishop}.
+     */
+    public static long bishopByRays(int square, long occupied) {
+        return ray(2, square, occupied) | ray(3, square, occupied)
+                | ray(6, square, occupied) | ray(7, square, occupied);
+    }
+
+    /**
+     * Rook rays from {@code square} on an empty board.
+     */
+    public static long rookRays(int square) {
+        return ROOK_RAYS[square];
+    }
+
+    /**
+     * Bishop rays from {@code square} on an empty board.
+     */
+    public static long bishopRays(int square) {
+        return BISHOP_RAYS[square];
+    }
+
+    /**
+     * Squares strictly between {@code from} and {@code to}, or 0 if they do not share a line.
+     */
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    /**
+     * The full rank, file or diagonal through both squares, or 0 if they do not share a line.
+     */
+    public static long line(int from, int to) {
+        return LINE[from][to];
+    }
+
+    /**
+     * Attacks along one direction, stopping at (and including) the first occupied square.
+     */
+    private static long ray(int direction, int square, long occupied) {
+        long attacks = RAYS[direction][square];
+        long blockers = attacks & occupied;
+        if (blockers != 0) {
+            int blocker = direction < 4
+                    ? Long.numberOfTrailingZeros(blockers)
+                    : 63 - Long.numberOfLeadingZeros(blockers);
+            attacks ^= RAYS[direction][blocker];
+        }
+        return attacks;
+    }
+}
@@ -0,0 +1,513 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidFenException;
+
+import java.util.Arrays;
+
+/**
+ * Mutable chess position with incremental {@link #makeMove(int)} / {@link #unmakeMove(int)}.
+ *
+ * <p>Pieces are kept both as bitboards (one per colour and piece type) and as a 64-entry mailbox, using the
+ * square numbering of {@link Attacks}. Everything {@code unmakeMove} needs is packed into one {@code long}
+ * per ply in a preallocated history array, so playing and taking back moves never allocates. The
+ * {@link Zobrist} key of the position is maintained incrementally alongside.</p>
+ *
+ * <p>Instances are not thread-safe; use {@link #copy()} to hand a position to another thread.</p>
+ */
+public final class BoardState {
+
+    public static final int WHITE = 0;
+    public static final int BLACK = 1;
+
+    public static final int PAWN = 0;
+    public static final int KNIGHT = 1;
+    public static final int BISHOP = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int KING = 5;
+
+    /**
+     * Mailbox value of an empty square. Occupied squares hold {@code color * 6 + type}.
+     */
+    public static final int EMPTY = -1;
+
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+
+    public static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    /**
+     * Deepest line of moves that can be played from the root position.
+     */
+    public static final int MAX_PLY = 1024;
+
+    private static final String PIECE_LETTERS = "PNBRQKpnbrqk";
+
+    /**
+     * Castling rights that survive a move touching each square; moving from or capturing on a king or rook
+     * home square clears the matching rights.
+     */
+    private static final int[] CASTLING_MASK = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_MASK, 15);
+        CASTLING_MASK[square(4, 0)] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        CASTLING_MASK[square(7, 0)] &= ~WHITE_KING_SIDE;
+        CASTLING_MASK[square(0, 0)] &= ~WHITE_QUEEN_SIDE;
+        CASTLING_MASK[square(4, 7)] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        CASTLING_MASK[square(7, 7)] &= ~BLACK_KING_SIDE;
+        CASTLING_MASK[square(0, 7)] &= ~BLACK_QUEEN_SIDE;
+    }
+
+    private final long[] pieces = new long[12];
+    private final long[] colors = new long[2];
+    private final int[] mailbox = new int[64];
+    private long occupied;
+
+    private int sideToMove;
+    private int castling;
+    private int epSquare = -1;
+    private int halfmoveClock;
+    private int fullmoveNumber = 1;
+
+    private long key;
+
+    private final long[] history = new long[MAX_PLY];
+    private final long[] keyHistory = new long[MAX_PLY];
+    private int ply;
+
+    private BoardState() {
+        Arrays.fill(mailbox, EMPTY);
+    }
+
+    /**
+     * Square index of a zero-based file (a = 0) and rank (1 = 0).
+     */
+    public static int square(int file, int rank) {
+        return file * 8 + rank;
+    }
+
+    public static BoardState startPosition() {
+        return fromFen(START_FEN);
+    }
+
+    /**
+     * Parse a position from Forsyth-Edwards Notation. The halfmove and fullmove counters are optional so
+     * that the first four fields of an EPD record are accepted as well.
+     *
+     * @throws InvalidFenException if the FEN is malformed or describes an impossible position
+     */
+    public static BoardState fromFen(String fen) {
+        if (fen == null || fen.isBlank()) {
+            throw new InvalidFenException("FEN must not be empty.");
+        }
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4 || fields.length > 6) {
+            throw new InvalidFenException("FEN must have between 4 and 6 fields: " + fen);
+        }
+        BoardState state = new BoardState();
+
+        String[] ranks = fields[0].split("/");
+        if (ranks.length != 8) {
+            throw new InvalidFenException("FEN piece placement must have 8 ranks: " + fields[0]);
+        }
+        for (int i = 0; i < 8; i++) {
+            int rank = 7 - i;
+            int file = 0;
+            for (char c : ranks[i].toCharArray()) {
+                if (c >= '1' && c <= '8') {
+                    file += c - '0';
+                } else {
+                    int piece = PIECE_LETTERS.indexOf(c);
+                    if (piece < 0 || file > 7) {
+                        throw new InvalidFenException("Invalid rank '" + ranks[i] + "' in FEN: " + fen);
+                    }
+                    state.addPiece(piece, square(file++, rank));
+                }
+            }
+            if (file != 8) {
+                throw new InvalidFenException("Rank '" + ranks[i] + "' does not describe 8 files in FEN: " + fen);
+            }
+        }
+
+        state.sideToMove = switch (fields[1]) {
+            case "w" -> WHITE;
+            case "b" -> BLACK;
+            default -> throw new InvalidFenException("Side to move must be 'w' or 'b': " + fields[1]);
+        };
+
+        if (!fields[2].equals("-")) {
+            for (char c : fields[2].toCharArray()) {
+                int right = "KQkq".indexOf(c);
+                if (right < 0) {
+                    throw new InvalidFenException("Invalid castling rights: " + fields[2]);
+                }
+                state.castling |= 1 << right;
+            }
+        }
+        // Drop rights whose king or rook is no longer on its home square
+        state.castling &= state.castlingRightsFromPlacement();
+
+        if (!fields[3].equals("-")) {
+            if (fields[3].length() != 2 || fields[3].charAt(0) < 'a' || fields[3].charAt(0) > 'h'
+                    || (fields[3].charAt(1) != '3' && fields[3].charAt(1) != '6')) {
+                throw new InvalidFenException("Invalid en passant square: " + fields[3]);
+            }
+            int ep = square(fields[3].charAt(0) - 'a', fields[3].charAt(1) - '1');
+            int them = state.sideToMove ^ 1;
+            // Only keep a target that sits behind a pawn that could just have double-pushed
+            if ((ep & 7) == (state.sideToMove == WHITE ? 5 : 2) && state.mailbox[ep] == EMPTY
+                    && state.mailbox[ep - pawnPush(state.sideToMove)] == them * 6 + PAWN) {
+                state.epSquare = ep;
+            }
+        }
+
+        try {
+            state.halfmoveClock = fields.length > 4 ? Integer.parseInt(fields[4]) : 0;
+            state.fullmoveNumber = fields.length > 5 ? Integer.parseInt(fields[5]) : 1;
+        } catch (NumberFormatException ex) {
+            throw new InvalidFenException("Invalid move counters in FEN: " + fen);
+        }
+        if (state.halfmoveClock < 0 || state.fullmoveNumber < 1) {
+            throw new InvalidFenException("Invalid move counters in FEN: " + fen);
+        }
+
+        for (int color = WHITE; color <= BLACK; color++) {
+            if (Long.bitCount(state.pieces[color * 6 + KING]) != 1) {
+                throw new InvalidFenException("Each side must have exactly one king: " + fen);
+            }
+        }
+        for (int color = WHITE; color <= BLACK; color++) {
+            if (!isReachableMaterial(state.pieces, color * 6)) {
+                throw new InvalidFenException("Too many pieces of one side for a game position: " + fen);
+            }
+        }
+        if (((state.pieces[PAWN] | state.pieces[6 + PAWN]) & (0x0101010101010101L | 0x8080808080808080L)) != 0) {
+            throw new InvalidFenException("Pawns cannot stand on the first or last rank: " + fen);
+        }
+        if (state.isAttacked(state.kingSquare(state.sideToMove ^ 1), state.sideToMove)) {
+            throw new InvalidFenException("The side not to move is in check: " + fen);
+        }
+        // Pieces were hashed as they were placed; add the remaining state
+        state.key ^= Zobrist.castling(state.castling) ^ state.enPassantKey();
+        if (state.sideToMove == BLACK) {
+            state.key ^= Zobrist.sideToMove();
+        }
+        return state;
+    }
+
+    /**
+     * Whether one side's material can arise in a game: at most 8 pawns, and no more pieces beyond the
+     * initial set than pawns missing to have promoted into them. This also bounds the side to 16 pieces, and
+     * keeps the number of legal moves within {@link MoveGenerator#MAX_MOVES}.
+     *
+     * @param pieces bitboards by colour and piece type
+     * @param base   index of the side's pawn bitboard, {@code color * 6}
+     */
+    private static boolean isReachableMaterial(long[] pieces, int base) {
+        int pawns = Long.bitCount(pieces[base + PAWN]);
+        int promoted = Math.max(0, Long.bitCount(pieces[base + KNIGHT]) - 2)
+                + Math.max(0, Long.bitCount(pieces[base + BISHOP]) - 2)
+                + Math.max(0, Long.bitCount(pieces[base + ROOK]) - 2)
+                + Math.max(0, Long.bitCount(pieces[base + QUEEN]) - 1);
+        return pawns <= 8 && promoted <= 8 - pawns;
+    }
+
+    /**
+     * Independent copy of this position, including the history needed to unmake moves already played.
+     */
+    public BoardState copy() {
+        BoardState copy = new BoardState();
+        System.arraycopy(pieces, 0, copy.pieces, 0, pieces.length);
+        System.arraycopy(colors, 0, copy.colors, 0, colors.length);
+        System.arraycopy(mailbox, 0, copy.mailbox, 0, mailbox.length);
+        System.arraycopy(history, 0, copy.history, 0, ply);
+        System.arraycopy(keyHistory, 0, copy.keyHistory, 0, ply);
+        copy.occupied = occupied;
+        copy.key = key;
+        copy.sideToMove = sideToMove;
+        copy.castling = castling;
+        copy.epSquare = epSquare;
+        copy.halfmoveClock = halfmoveClock;
+        copy.fullmoveNumber = fullmoveNumber;
+        copy.ply = ply;
+        return copy;
+    }
+
+    public String toFen() {
+        StringBuilder fen = new StringBuilder(90);
+        for (int rank = 7; rank >= 0; rank--) {
+            int empty = 0;
+            for (int file = 0; file < 8; file++) {
+                int piece = mailbox[square(file, rank)];
+                if (piece == EMPTY) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    fen.append(empty);
+                    empty = 0;
+                }
+                fen.append(PIECE_LETTERS.charAt(piece));
+            }
+            if (empty > 0) {
+                fen.append(empty);
+            }
+            if (rank > 0) {
+                fen.append('/');
+            }
+        }
+        fen.append(sideToMove == WHITE ? " w " : " b ");
+        if (castling == 0) {
+            fen.append('-');
+        }
+        for (int right = 0; right < 4; right++) {
+            if ((castling & 1 << right) != 0) {
+                fen.append("KQkq".charAt(right));
+            }
+        }
+        fen.append(' ');
+        if (epSquare < 0) {
+            fen.append('-');
+        } else {
+            Move.appendSquare(fen, epSquare);
+        }
+        return fen.append(' ').append(halfmoveClock).append(' ').append(fullmoveNumber).toString();
+    }
+
+    /**
+     * Play a move produced by {@link MoveGenerator} for this position.
+     */
+    public void makeMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flags = Move.flags(move);
+        int us = sideToMove;
+        int piece = mailbox[from];
+
+        int captureSquare = flags == Move.EN_PASSANT ? to - pawnPush(us) : to;
+        int captured = mailbox[captureSquare];
+        keyHistory[ply] = key;
+        history[ply++] = (captured + 1)
+                | (long) castling << 4
+                | (long) (epSquare + 1) << 8
+                | (long) halfmoveClock << 16;
+        // Rights and en passant depend on the pieces about to move, so unhash them first
+        key ^= Zobrist.castling(castling) ^ enPassantKey();
+
+        if (captured != EMPTY) {
+            removePiece(captured, captureSquare);
+        }
+        removePiece(piece, from);
+        addPiece(Move.isPromotion(move) ? us * 6 + Move.promotionType(move) : piece, to);
+
+        if (flags == Move.KING_CASTLE) {
+            int rank = us == WHITE ? 0 : 7;
+            movePiece(us * 6 + ROOK, square(7, rank), square(5, rank));
+        } else if (flags == Move.QUEEN_CASTLE) {
+            int rank = us == WHITE ? 0 : 7;
+            movePiece(us * 6 + ROOK, square(0, rank), square(3, rank));
+        }
+
+        epSquare = flags == Move.DOUBLE_PUSH ? from + pawnPush(us) : -1;
+        castling &= CASTLING_MASK[from] & CASTLING_MASK[to];
+        halfmoveClock = piece == us * 6 + PAWN || captured != EMPTY ? 0 : halfmoveClock + 1;
+        if (us == BLACK) {
+            fullmoveNumber++;
+        }
+        sideToMove = us ^ 1;
+        key ^= Zobrist.castling(castling) ^ enPassantKey() ^ Zobrist.sideToMove();
+    }
+
+    /**
+     * Take back the last move played with {@link #makeMove(int)}.
+     */
+    public void unmakeMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flags = Move.flags(move);
+        int us = sideToMove ^ 1;
+        long undo = history[--ply];
+        long previousKey = keyHistory[ply];
+
+        int moved = mailbox[to];
+        removePiece(moved, to);
+        addPiece(Move.isPromotion(move) ? us * 6 + PAWN : moved, from);
+
+        int captured = (int) (undo & 15) - 1;
+        if (captured != EMPTY) {
+            addPiece(captured, flags == Move.EN_PASSANT ? to - pawnPush(us) : to);
+        }
+        if (flags == Move.KING_CASTLE) {
+            int rank = us == WHITE ? 0 : 7;
+            movePiece(us * 6 + ROOK, square(5, rank), square(7, rank));
+        } else if (flags == Move.QUEEN_CASTLE) {
+            int rank = us == WHITE ? 0 : 7;
+            movePiece(us * 6 + ROOK, square(3, rank), square(0, rank));
+        }
+
+        castling = (int) (undo >>> 4) & 15;
+        epSquare = (int) (undo >>> 8 & 255) - 1;
+        halfmoveClock = (int) (undo >>> 16);
+        if (us == BLACK) {
+            fullmoveNumber--;
+        }
+        sideToMove = us;
+        key = previousKey;
+    }
+
+    /**
+     * Whether {@code square} is attacked by any piece of colour {@code by} in the current position.
+     */
+    public boolean isAttacked(int square, int by) {
+        return (attackersTo(square, occupied) & colors[by]) != 0;
+    }
+
+    /**
+     * Pieces of both colours that attack {@code square} given the occupancy {@code occupied}.
+     */
+    public long attackersTo(int square, long occupied) {
+        long rooksQueens = pieces[ROOK] | pieces[QUEEN] | pieces[6 + ROOK] | pieces[6 + QUEEN];
+        long bishopsQueens = pieces[BISHOP] | pieces[QUEEN] | pieces[6 + BISHOP] | pieces[6 + QUEEN];
+        return (Attacks.pawn(BLACK, square) & pieces[PAWN])
+                | (Attacks.pawn(WHITE, square) & pieces[6 + PAWN])
+                | (Attacks.knight(square) & (pieces[KNIGHT] | pieces[6 + KNIGHT]))
+                | (Attacks.king(square) & (pieces[KING] | pieces[6 + KING]))
+                | (Attacks.rook(square, occupied) & rooksQueens)
+                | (Attacks.bishop(square, occupied) & bishopsQueens);
+    }
+
+    public boolean inCheck() {
+        return isAttacked(kingSquare(sideToMove), sideToMove ^ 1);
+    }
+
+    public int kingSquare(int color) {
+        return Long.numberOfTrailingZeros(pieces[color * 6 + KING]);
+    }
+
+    /**
+     * Bitboard of the pieces of one colour and type.
+     */
+    public long pieces(int color, int type) {
+        return pieces[color * 6 + type];
+    }
+
+    public long colorPieces(int color) {
+        return colors[color];
+    }
+
+    public long occupied() {
+        return occupied;
+    }
+
+    /**
+     * Mailbox value ({@code color * 6 + type}) of a square, or {@link #EMPTY}.
+     */
+    public int pieceAt(int square) {
+        return mailbox[square];
+    }
+
+    public int sideToMove() {
+        return sideToMove;
+    }
+
+    /**
+     * Zobrist key of the position: pieces, side to move, castling rights and capturable en passant file.
+     */
+    public long key() {
+        return key;
+    }
+
+    public int castlingRights() {
+        return castling;
+    }
+
+    /**
+     * Square a pawn may capture onto en passant, or -1.
+     */
+    public int epSquare() {
+        return epSquare;
+    }
+
+    public int halfmoveClock() {
+        return halfmoveClock;
+    }
+
+    /**
+     * Whether the current position already occurred since the last capture or pawn move, as far back as this
+     * position was parsed. Search treats a repetition as a draw.
+     */
+    public boolean isRepetition() {
+        int earliest = Math.max(0, ply - halfmoveClock);
+        // Only positions with the same side to move can repeat, so step back two plies at a time
+        for (int i = ply - 2; i >= earliest; i -= 2) {
+            if (keyHistory[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of moves played since this position was parsed.
+     */
+    public int ply() {
+        return ply;
+    }
+
+    /**
+     * Square offset of a single pawn push for the given colour.
+     */
+    static int pawnPush(int color) {
+        return color == WHITE ? 1 : -1;
+    }
+
+    /**
+     * The en passant file only distinguishes positions when a pawn can actually capture there, so it is
+     * hashed only in that case; otherwise transpositions with and without a double push would differ.
+     */
+    private long enPassantKey() {
+        if (epSquare < 0 || (Attacks.pawn(sideToMove ^ 1, epSquare) & pieces[sideToMove * 6 + PAWN]) == 0) {
+            return 0;
+        }
+        return Zobrist.enPassant(epSquare);
+    }
+
+    private int castlingRightsFromPlacement() {
+        int rights = 0;
+        if (mailbox[square(4, 0)] == KING) {
+            rights |= mailbox[square(7, 0)] == ROOK ? WHITE_KING_SIDE : 0;
+            rights |= mailbox[square(0, 0)] == ROOK ? WHITE_QUEEN_SIDE : 0;
+        }
+        if (mailbox[square(4, 7)] == 6 + KING) {
+            rights |= mailbox[square(7, 7)] == 6 + ROOK ? BLACK_KING_SIDE : 0;
+            rights |= mailbox[square(0, 7)] == 6 + ROOK ? BLACK_QUEEN_SIDE : 0;
+        }
+        return rights;
+    }
+
+    private void addPiece(int piece, int square) {
+        long bit = 1L << square;
+        pieces[piece] |= bit;
+        colors[piece / 6] |= bit;
+        occupied |= bit;
+        mailbox[square] = piece;
+        key ^= Zobrist.piece(piece, square);
+    }
+
+    private void removePiece(int piece, int square) {
+        long bit = 1L << square;
+        pieces[piece] ^= bit;
+        colors[piece / 6] ^= bit;
+        occupied ^= bit;
+        mailbox[square] = EMPTY;
+        key ^= Zobrist.piece(piece, square);
+    }
+
+    private void movePiece(int piece, int from, int to) {
+        removePiece(piece, from);
+        addPiece(piece, to);
+    }
+}
@@ -0,0 +1,123 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.WHITE;
+
+/**
+ * Static evaluation for the search: material plus piece-square bonuses, in centipawns from the point of view
+ * of the side to move.
+ *
+ * <p>The values are the well-known "simplified evaluation function" tables. Material and placement are
+ * folded into one table per coloured piece, so evaluating a position is one lookup per piece.</p>
+ */
+public final class Evaluation {
+
+    private static final int[] PIECE_VALUES = {100, 320, 330, 500, 900, 0};
+
+    /**
+     * Placement bonuses per piece type, written from White's side with rank 8 first, as they are usually
+     * printed: entry {@code (7 - rank) * 8 + file}.
+     */
+    private static final int[][] PLACEMENT = {
+            { // pawn
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    50, 50, 50, 50, 50, 50, 50, 50,
+                    10, 10, 20, 30, 30, 20, 10, 10,
+                    5, 5, 10, 25, 25, 10, 5, 5,
+                    0, 0, 0, 20, 20, 0, 0, 0,
+                    5, -5, -10, 0, 0, -10, -5, 5,
+                    5, 10, 10, -20, -20, 10, 10, 5,
+                    0, 0, 0, 0, 0, 0, 0, 0
+            },
+            { // knight
+                    -50, -40, -30, -30, -30, -30, -40, -50,
+                    -40, -20, 0, 0, 0, 0, -20, -40,
+                    -30, 0, 10, 15, 15, 10, 0, -30,
+                    -30, 5, 15, 20, 20, 15, 5, -30,
+                    -30, 0, 15, 20, 20, 15, 0, -30,
+                    -30, 5, 10, 15, 15, 10, 5, -30,
+                    -40, -20, 0, 5, 5, 0, -20, -40,
+                    -50, -40, -30, -30, -30, -30, -40, -50
+            },
+            { // bishop
+                    -20, -10, -10, -10, -10, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 10, 10, 5, 0, -10,
+                    -10, 5, 5, 10, 10, 5, 5, -10,
+                    -10, 0, 10, 10, 10, 10, 0, -10,
+                    -10, 10, 10, 10, 10, 10, 10, -10,
+                    -10, 5, 0, 0, 0, 0, 5, -10,
+                    -20, -10, -10, -10, -10, -10, -10, -20
+            },
+            { // rook
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    5, 10, 10, 10, 10, 10, 10, 5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    0, 0, 0, 5, 5, 0, 0, 0
+            },
+            { // queen
+                    -20, -10, -10, -5, -5, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 5, 5, 5, 0, -10,
+                    -5, 0, 5, 5, 5, 5, 0, -5,
+                    0, 0, 5, 5, 5, 5, 0, -5,
+                    -10, 5, 5, 5, 5, 5, 0, -10,
+                    -10, 0, 5, 0, 0, 0, 0, -10,
+                    -20, -10, -10, -5, -5, -10, -10, -20
+            },
+            { // king, middlegame
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -20, -30, -30, -40, -40, -30, -30, -20,
+                    -10, -20, -20, -20, -20, -20, -20, -10,
+                    20, 20, 0, 0, 0, 0, 20, 20,
+                    20, 30, 10, 0, 0, 10, 30, 20
+            }
+    };
+
+    /**
+     * Value of each coloured piece ({@code color * 6 + type}) on each square, positive for White.
+     */
+    private static final int[][] SCORES = new int[12][64];
+
+    static {
+        for (int type = 0; type < 6; type++) {
+            for (int square = 0; square < 64; square++) {
+                int file = square >>> 3;
+                int rank = square & 7;
+                SCORES[type][square] = PIECE_VALUES[type] + PLACEMENT[type][(7 - rank) * 8 + file];
+                // Black's table is White's mirrored top to bottom
+                SCORES[6 + type][square] = -(PIECE_VALUES[type] + PLACEMENT[type][rank * 8 + file]);
+            }
+        }
+    }
+
+    private Evaluation() {
+    }
+
+    /**
+     * Material value of a piece type, used to order captures.
+     */
+    public static int pieceValue(int type) {
+        return PIECE_VALUES[type];
+    }
+
+    /**
+     * Score of the position in centipawns, positive when the side to move stands better.
+     */
+    public static int evaluate(BoardState state) {
+        int score = 0;
+        for (int piece = 0; piece < 12; piece++) {
+            int[] scores = SCORES[piece];
+            for (long bits = state.pieces(piece / 6, piece % 6); bits != 0; bits &= bits - 1) {
+                score += scores[Long.numberOfTrailingZeros(bits)];
+            }
+        }
+        return state.sideToMove() == WHITE ? score : -score;
+    }
+}
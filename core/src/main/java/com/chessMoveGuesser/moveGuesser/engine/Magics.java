@@ -0,0 +1,189 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Magic-bitboard sliding attacks for the 8x8 board, in the square numbering of {@link Attacks}.
+ *
+ * <p>Each square has a relevant-occupancy mask: the squares on its rays that can block them, leaving out the
+ * last square of each ray since a piece there hides nothing behind it. Multiplying the occupied squares under
+ * that mask by the square's magic number and keeping the top bits gives a collision-free index into the
+ * square's slice of one shared attack table. A lookup is an AND, a multiply, a shift and one array read,
+ * however many blockers there are.</p>
+ *
+ * <p>The magic numbers are found by a seeded random search when the class loads. The search takes a few
+ * milliseconds and always produces the same tables.</p>
+ */
+public final class Magics {
+
+    /**
+     * Ray directions as {rankDelta, fileDelta}.
+     */
+    private static final int[][] ROOK_DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    private static final long SEED = 0x5EEDC0FFEE15BADL;
+
+    private static final Table ROOK;
+    private static final Table BISHOP;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        ROOK = new Table(ROOK_DIRECTIONS, random);
+        BISHOP = new Table(BISHOP_DIRECTIONS, random);
+    }
+
+    private Magics() {
+    }
+
+    /**
+     * Whether the magic tables apply to {@code board}; they only cover the standard 8x8 geometry.
+     */
+    public static boolean supports(Board board) {
+        return board.getRows() == 8 && board.getColumns() == 8;
+    }
+
+    /**
+     * Rook attacks from {@code square}: every ray stops at, and includes, the first occupied square.
+     */
+    public static long rook(int square, long occupied) {
+        return ROOK.attacks(square, occupied);
+    }
+
+    /**
+     * Bishop attacks from {@code square}: every ray stops at, and includes, the first occupied square.
+     */
+    public static long bishop(int square, long occupied) {
+        return BISHOP.attacks(square, occupied);
+    }
+
+    public static long queen(int square, long occupied) {
+        return ROOK.attacks(square, occupied) | BISHOP.attacks(square, occupied);
+    }
+
+    /**
+     * Heap taken by the rook and bishop attack tables.
+     */
+    public static long sizeBytes() {
+        return (long) (ROOK.attacks.length + BISHOP.attacks.length) * Long.BYTES;
+    }
+
+    /**
+     * Magic lookup data of one piece: per square a mask, magic, shift and offset into a shared table.
+     */
+    private static final class Table {
+
+        private final long[] masks = new long[64];
+        private final long[] magics = new long[64];
+        private final int[] shifts = new int[64];
+        private final int[] offsets = new int[64];
+        private final long[] attacks;
+
+        Table(int[][] directions, SplittableRandom random) {
+            int size = 0;
+            for (int square = 0; square < 64; square++) {
+                masks[square] = relevantMask(square, directions);
+                int bits = Long.bitCount(masks[square]);
+                shifts[square] = 64 - bits;
+                offsets[square] = size;
+                size += 1 << bits;
+            }
+            attacks = new long[size];
+            for (int square = 0; square < 64; square++) {
+                findMagic(square, directions, random);
+            }
+        }
+
+        long attacks(int square, long occupied) {
+            return attacks[offsets[square] + (int) (((occupied & masks[square]) * magics[square]) >>> shifts[square])];
+        }
+
+        /**
+         * Search for a magic that maps every blocker subset of the square's mask to a slot that is either
+         * unused or already holds the same attack set, then fill the square's slice of the table.
+         */
+        private void findMagic(int square, int[][] directions, SplittableRandom random) {
+            long mask = masks[square];
+            int subsets = 1 << Long.bitCount(mask);
+            long[] occupancies = new long[subsets];
+            long[] reference = new long[subsets];
+            // Enumerate every subset of the mask (carry-rippler)
+            long subset = 0;
+            for (int i = 0; i < subsets; i++) {
+                occupancies[i] = subset;
+                reference[i] = slidingAttacks(square, subset, directions);
+                subset = (subset - mask) & mask;
+            }
+
+            long[] slice = new long[subsets];
+            int[] filledBy = new int[subsets];
+            int shift = shifts[square];
+            for (int attempt = 1; ; attempt++) {
+                // Sparse candidates succeed far more often than uniformly random ones
+                long magic = random.nextLong() & random.nextLong() & random.nextLong();
+                if (Long.bitCount((mask * magic) >>> 56) < 6) {
+                    continue;
+                }
+                boolean collision = false;
+                for (int i = 0; i < subsets && !collision; i++) {
+                    int index = (int) ((occupancies[i] * magic) >>> shift);
+                    if (filledBy[index] != attempt) {
+                        filledBy[index] = attempt;
+                        slice[index] = reference[i];
+                    } else {
+                        collision = slice[index] != reference[i];
+                    }
+                }
+                if (!collision) {
+                    magics[square] = magic;
+                    System.arraycopy(slice, 0, attacks, offsets[square], subsets);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Squares that can block a slider on {@code square}: its rays without their last square.
+     */
+    private static long relevantMask(int square, int[][] directions) {
+        long mask = 0;
+        for (int[] direction : directions) {
+            int rank = square % 8 + direction[0];
+            int file = square / 8 + direction[1];
+            while (onBoard(rank + direction[0], file + direction[1])) {
+                mask |= 1L << (file * 8 + rank);
+                rank += direction[0];
+                file += direction[1];
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Reference attacks, walking each ray square by square until the first occupied square.
+     */
+    private static long slidingAttacks(int square, long occupied, int[][] directions) {
+        long attacks = 0;
+        for (int[] direction : directions) {
+            int rank = square % 8 + direction[0];
+            int file = square / 8 + direction[1];
+            while (onBoard(rank, file)) {
+                long bit = 1L << (file * 8 + rank);
+                attacks |= bit;
+                if ((occupied & bit) != 0) {
+                    break;
+                }
+                rank += direction[0];
+                file += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    private static boolean onBoard(int rank, int file) {
+        return rank >= 0 && rank < 8 && file >= 0 && file < 8;
+    }
+}
@@ -0,0 +1,85 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+/**
+ * Moves are packed into a single {@code int} so move lists are plain {@code int[]} buffers:
+ * bits 0-5 hold the origin square, bits 6-11 the target square and bits 12-15 the move flags.
+ */
+public final class Move {
+
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PUSH = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    /**
+     * Promotion flags add the promoted piece type minus {@link BoardState#KNIGHT} in the low two bits.
+     */
+    public static final int PROMOTION = 8;
+    public static final int PROMOTION_CAPTURE = 12;
+
+    /**
+     * Placeholder for "no move"; a real move never has identical origin and target squares.
+     */
+    public static final int NONE = 0;
+
+    private static final String PROMOTION_LETTERS = "nbrq";
+
+    private Move() {
+    }
+
+    public static int of(int from, int to, int flags) {
+        return from | to << 6 | flags << 12;
+    }
+
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    public static int flags(int move) {
+        return move >>> 12;
+    }
+
+    public static boolean isCapture(int move) {
+        return (flags(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(int move) {
+        return (flags(move) & PROMOTION) != 0;
+    }
+
+    /**
+     * Piece type a promotion move promotes to, one of the {@link BoardState} type constants.
+     */
+    public static int promotionType(int move) {
+        return (flags(move) & 3) + BoardState.KNIGHT;
+    }
+
+    /**
+     * Render a move in UCI notation, e.g. {@code e2e4} or {@code e7e8q}.
+     */
+    public static String toUci(int move) {
+        StringBuilder uci = new StringBuilder(5);
+        appendUci(uci, move);
+        return uci.toString();
+    }
+
+    public static void appendUci(StringBuilder out, int move) {
+        appendSquare(out, from(move));
+        appendSquare(out, to(move));
+        if (isPromotion(move)) {
+            out.append(PROMOTION_LETTERS.charAt(flags(move) & 3));
+        }
+    }
+
+    /**
+     * Append a square in lower-case algebraic notation, e.g. {@code e4}.
+     */
+    public static void appendSquare(StringBuilder out, int square) {
+        out.append((char) ('a' + (square >>> 3))).append((char) ('1' + (square & 7)));
+    }
+}
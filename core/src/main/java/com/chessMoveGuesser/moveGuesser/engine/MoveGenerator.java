@@ -0,0 +1,243 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import java.util.Arrays;
+
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.BISHOP;
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.KING;
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.KNIGHT;
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.PAWN;
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.QUEEN;
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.ROOK;
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.WHITE;
+
+/**
+ * Strictly legal move generation for a {@link BoardState}.
+ *
+ * <p>Instead of playing every pseudo-legal move and testing for check, the generator works out the
+ * checking pieces and the pinned pieces once per position and restricts each piece's targets with masks:
+ * a check mask (capture the checker or block the ray) and, for pinned pieces, the line through the king.
+ * King moves are tested against attacks computed with the king removed from the board. Only en passant,
+ * whose capture removes two pieces from a line at once, is verified by recomputing slider attacks.</p>
+ *
+ * <p>Moves are written into a caller-supplied {@code int[]}, so generation allocates nothing.</p>
+ */
+public final class MoveGenerator {
+
+    /**
+     * Upper bound on the number of legal moves in any chess position (the known maximum is 218). It holds for
+     * every {@link BoardState}, since {@link BoardState#fromFen} rejects material that cannot arise in a game.
+     */
+    public static final int MAX_MOVES = 256;
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * Write every legal move of the side to move into {@code moves} starting at {@code offset}.
+     *
+     * @param state  position to generate moves for
+     * @param moves  destination buffer; needs room for {@link #MAX_MOVES} entries after {@code offset}
+     * @param offset first index of {@code moves} to write
+     * @return index one past the last move written
+     */
+    public static int generate(BoardState state, int[] moves, int offset) {
+        int us = state.sideToMove();
+        int them = us ^ 1;
+        long own = state.colorPieces(us);
+        long enemy = state.colorPieces(them);
+        long occupied = state.occupied();
+        int kingSquare = state.kingSquare(us);
+        int n = offset;
+
+        // King moves: the king may not step onto an attacked square, including squares "behind" itself
+        // on a checking slider's ray, so attacks are computed with the king lifted off the board.
+        long withoutKing = occupied ^ (1L << kingSquare);
+        for (long targets = Attacks.king(kingSquare) & ~own; targets != 0; targets &= targets - 1) {
+            int to = Long.numberOfTrailingZeros(targets);
+            if ((state.attackersTo(to, withoutKing) & enemy) == 0) {
+                moves[n++] = Move.of(kingSquare, to, (enemy & 1L << to) != 0 ? Move.CAPTURE : Move.QUIET);
+            }
+        }
+
+        long checkers = state.attackersTo(kingSquare, occupied) & enemy;
+        if (Long.bitCount(checkers) > 1) {
+            // Double check: only the king can move
+            return n;
+        }
+        long checkMask = checkers == 0
+                ? ~0L
+                : checkers | Attacks.between(kingSquare, Long.numberOfTrailingZeros(checkers));
+
+        long pinned = pinnedPieces(state, us, kingSquare, own, enemy, occupied);
+        long targetsMask = ~own & checkMask;
+
+        for (long knights = state.pieces(us, KNIGHT) & ~pinned; knights != 0; knights &= knights - 1) {
+            int from = Long.numberOfTrailingZeros(knights);
+            n = addMoves(moves, n, from, Attacks.knight(from) & targetsMask, enemy);
+        }
+        for (long bishops = state.pieces(us, BISHOP) | state.pieces(us, QUEEN); bishops != 0; bishops &= bishops - 1) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            long targets = Attacks.bishop(from, occupied) & targetsMask;
+            if ((pinned & 1L << from) != 0) {
+                targets &= Attacks.line(kingSquare, from);
+            }
+            n = addMoves(moves, n, from, targets, enemy);
+        }
+        for (long rooks = state.pieces(us, ROOK) | state.pieces(us, QUEEN); rooks != 0; rooks &= rooks - 1) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            long targets = Attacks.rook(from, occupied) & targetsMask;
+            if ((pinned & 1L << from) != 0) {
+                targets &= Attacks.line(kingSquare, from);
+            }
+            n = addMoves(moves, n, from, targets, enemy);
+        }
+
+        n = generatePawnMoves(state, moves, n, us, kingSquare, enemy, occupied, checkMask, pinned);
+
+        if (checkers == 0) {
+            n = generateCastling(state, moves, n, us, them, occupied);
+        }
+        return n;
+    }
+
+    /**
+     * Convenience overload that returns the legal moves in a new, exactly sized array.
+     */
+    public static int[] legalMoves(BoardState state) {
+        int[] buffer = new int[MAX_MOVES];
+        int count = generate(state, buffer, 0);
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Own pieces that are the only piece between their king and an enemy slider on the same line.
+     */
+    private static long pinnedPieces(BoardState state, int us, int kingSquare, long own, long enemy, long occupied) {
+        int them = us ^ 1;
+        long snipers = (Attacks.rookRays(kingSquare) & (state.pieces(them, ROOK) | state.pieces(them, QUEEN)))
+                | (Attacks.bishopRays(kingSquare) & (state.pieces(them, BISHOP) | state.pieces(them, QUEEN)));
+        long pinned = 0;
+        for (; snipers != 0; snipers &= snipers - 1) {
+            long blockers = Attacks.between(kingSquare, Long.numberOfTrailingZeros(snipers)) & occupied;
+            if (blockers != 0 && (blockers & blockers - 1) == 0 && (blockers & own) != 0) {
+                pinned |= blockers;
+            }
+        }
+        return pinned;
+    }
+
+    /**
+     * Pawn moves, setwise: the unpinned pawns push, double-push and capture together, a few shifts and masks
+     * in all. A pinned pawn goes through the same code alone, restricted to its pin line. En passant is rare
+     * and checked per capturing pawn.
+     */
+    private static int generatePawnMoves(BoardState state, int[] moves, int n, int us, int kingSquare,
+                                         long enemy, long occupied, long checkMask, long pinned) {
+        long pawns = state.pieces(us, PAWN);
+        long promotionRank = us == WHITE ? Pawns.RANK_8 : Pawns.RANK_1;
+        n = addPawnMoves(moves, n, us, pawns & ~pinned, ~occupied, enemy, checkMask, promotionRank);
+        for (long pinnedPawns = pawns & pinned; pinnedPawns != 0; pinnedPawns &= pinnedPawns - 1) {
+            int from = Long.numberOfTrailingZeros(pinnedPawns);
+            n = addPawnMoves(moves, n, us, 1L << from, ~occupied, enemy,
+                    checkMask & Attacks.line(kingSquare, from), promotionRank);
+        }
+
+        int epSquare = state.epSquare();
+        if (epSquare >= 0) {
+            for (long capturers = Attacks.pawn(us ^ 1, epSquare) & pawns; capturers != 0; capturers &= capturers - 1) {
+                int from = Long.numberOfTrailingZeros(capturers);
+                if (isLegalEnPassant(state, us, kingSquare, from, epSquare, occupied)) {
+                    moves[n++] = Move.of(from, epSquare, Move.EN_PASSANT);
+                }
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Pushes, double pushes and captures of a set of pawns onto squares in {@code allowed}.
+     */
+    private static int addPawnMoves(int[] moves, int n, int us, long pawns, long empty, long enemy, long allowed,
+                                    long promotionRank) {
+        long pushes = Pawns.pushes(us, pawns, empty);
+        // A double push may block a check its first step cannot, so only the landing square is restricted
+        long doublePushes = Pawns.doublePushes(us, pushes, empty) & allowed;
+        int push = Pawns.pushOffset(us);
+        n = addPawnMoves(moves, n, pushes & allowed, push, Move.QUIET, promotionRank);
+        for (; doublePushes != 0; doublePushes &= doublePushes - 1) {
+            int to = Long.numberOfTrailingZeros(doublePushes);
+            moves[n++] = Move.of(to - 2 * push, to, Move.DOUBLE_PUSH);
+        }
+        long captures = enemy & allowed;
+        n = addPawnMoves(moves, n, Pawns.westAttacks(us, pawns) & captures, Pawns.westOffset(us), Move.CAPTURE,
+                promotionRank);
+        return addPawnMoves(moves, n, Pawns.eastAttacks(us, pawns) & captures, Pawns.eastOffset(us), Move.CAPTURE,
+                promotionRank);
+    }
+
+    /**
+     * One move per target square, from the pawn {@code offset} squares behind it; four on the last rank.
+     */
+    private static int addPawnMoves(int[] moves, int n, long targets, int offset, int flags, long promotionRank) {
+        for (long quiet = targets & ~promotionRank; quiet != 0; quiet &= quiet - 1) {
+            int to = Long.numberOfTrailingZeros(quiet);
+            moves[n++] = Move.of(to - offset, to, flags);
+        }
+        int promotion = flags | Move.PROMOTION;
+        for (long promotions = targets & promotionRank; promotions != 0; promotions &= promotions - 1) {
+            int to = Long.numberOfTrailingZeros(promotions);
+            for (int type = QUEEN; type >= KNIGHT; type--) {
+                moves[n++] = Move.of(to - offset, to, promotion | (type - KNIGHT));
+            }
+        }
+        return n;
+    }
+
+    /**
+     * En passant removes the capturing and the captured pawn from their rank at once, which can expose the
+     * king along that rank or a diagonal, so the resulting position is checked directly.
+     */
+    private static boolean isLegalEnPassant(BoardState state, int us, int kingSquare, int from, int to,
+                                            long occupied) {
+        int them = us ^ 1;
+        int captured = to - BoardState.pawnPush(us);
+        long after = (occupied ^ (1L << from) ^ (1L << captured)) | (1L << to);
+        long rooksQueens = state.pieces(them, ROOK) | state.pieces(them, QUEEN);
+        long bishopsQueens = state.pieces(them, BISHOP) | state.pieces(them, QUEEN);
+        return (Attacks.rook(kingSquare, after) & rooksQueens) == 0
+                && (Attacks.bishop(kingSquare, after) & bishopsQueens) == 0
+                && (Attacks.knight(kingSquare) & state.pieces(them, KNIGHT)) == 0
+                && (Attacks.pawn(us, kingSquare) & state.pieces(them, PAWN) & ~(1L << captured)) == 0;
+    }
+
+    private static int generateCastling(BoardState state, int[] moves, int n, int us, int them, long occupied) {
+        int rights = state.castlingRights();
+        int rank = us == WHITE ? 0 : 7;
+        int kingSide = us == WHITE ? BoardState.WHITE_KING_SIDE : BoardState.BLACK_KING_SIDE;
+        int queenSide = us == WHITE ? BoardState.WHITE_QUEEN_SIDE : BoardState.BLACK_QUEEN_SIDE;
+        int e = BoardState.square(4, rank);
+
+        if ((rights & kingSide) != 0
+                && (occupied & (1L << BoardState.square(5, rank) | 1L << BoardState.square(6, rank))) == 0
+                && !state.isAttacked(BoardState.square(5, rank), them)
+                && !state.isAttacked(BoardState.square(6, rank), them)) {
+            moves[n++] = Move.of(e, BoardState.square(6, rank), Move.KING_CASTLE);
+        }
+        if ((rights & queenSide) != 0
+                && (occupied & (1L << BoardState.square(1, rank) | 1L << BoardState.square(2, rank)
+                | 1L << BoardState.square(3, rank))) == 0
+                && !state.isAttacked(BoardState.square(3, rank), them)
+                && !state.isAttacked(BoardState.square(2, rank), them)) {
+            moves[n++] = Move.of(e, BoardState.square(2, rank), Move.QUEEN_CASTLE);
+        }
+        return n;
+    }
+
+    private static int addMoves(int[] moves, int n, int from, long targets, long enemy) {
+        for (; targets != 0; targets &= targets - 1) {
+            int to = Long.numberOfTrailingZeros(targets);
+            moves[n++] = Move.of(from, to, (enemy & 1L << to) != 0 ? Move.CAPTURE : Move.QUIET);
+        }
+        return n;
+    }
+}
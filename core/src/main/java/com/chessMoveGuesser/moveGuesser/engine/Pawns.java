@@ -0,0 +1,96 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.WHITE;
+
+/**
+ * Setwise pawn moves: every pawn of a side advances, double-pushes or captures in one shift-and-mask
+ * over its bitboard instead of a loop over pawns.
+ *
+ * <p>With the column-major numbering of {@link Attacks}, a rank step is a shift by 1 and a file step a shift
+ * by 8. A file step off the board shifts out of the 64 bits by itself. A rank step off the board would wrap
+ * onto the next file, so its result is masked with the rank it cannot land on.</p>
+ *
+ * <p>Every result is a set of target squares. The pawn that moves there is the target minus
+ * {@link #pushOffset}, {@link #westOffset} or {@link #eastOffset}, or twice the push offset for a double
+ * push.</p>
+ */
+public final class Pawns {
+
+    public static final long RANK_1 = 0x0101010101010101L;
+    public static final long RANK_8 = 0x8080808080808080L;
+
+    /**
+     * Rank reached by the first step of a double push: the third rank for white, the sixth for black.
+     */
+    private static final long WHITE_DOUBLE_PUSH_STEP = 0x0404040404040404L;
+    private static final long BLACK_DOUBLE_PUSH_STEP = 0x2020202020202020L;
+
+    private Pawns() {
+    }
+
+    /**
+     * Every square one rank ahead of a square in {@code squares}, from {@code color}'s side.
+     */
+    public static long advance(int color, long squares) {
+        return color == WHITE ? squares << 1 & ~RANK_1 : squares >>> 1 & ~RANK_8;
+    }
+
+    /**
+     * Targets of single pushes onto empty squares.
+     */
+    public static long pushes(int color, long pawns, long empty) {
+        return advance(color, pawns) & empty;
+    }
+
+    /**
+     * Targets of double pushes, from the targets of {@link #pushes}: a single push that landed on the
+     * third (sixth) rank may step once more onto an empty square.
+     */
+    public static long doublePushes(int color, long pushes, long empty) {
+        long step = color == WHITE ? WHITE_DOUBLE_PUSH_STEP : BLACK_DOUBLE_PUSH_STEP;
+        return advance(color, pushes & step) & empty;
+    }
+
+    /**
+     * Squares attacked towards the a-file.
+     */
+    public static long westAttacks(int color, long pawns) {
+        return advance(color, pawns) >>> 8;
+    }
+
+    /**
+     * Squares attacked towards the h-file.
+     */
+    public static long eastAttacks(int color, long pawns) {
+        return advance(color, pawns) << 8;
+    }
+
+    /**
+     * Every square attacked by a pawn in {@code pawns}; the setwise form of {@link Attacks#pawn}.
+     */
+    public static long attacks(int color, long pawns) {
+        long advanced = advance(color, pawns);
+        return advanced >>> 8 | advanced << 8;
+    }
+
+    /**
+     * Square offset from a pawn to its single-push target.
+     */
+    public static int pushOffset(int color) {
+        return color == WHITE ? 1 : -1;
+    }
+
+    /**
+     * Square offset from a pawn to its {@link #westAttacks} target.
+     */
+    public static int westOffset(int color) {
+        return pushOffset(color) - 8;
+    }
+
+    /**
+     * Square offset from a pawn to its {@link #eastAttacks} target.
+     */
+    public static int eastOffset(int color) {
+        return pushOffset(color) + 8;
+    }
+}
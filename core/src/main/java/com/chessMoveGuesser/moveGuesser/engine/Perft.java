@@ -0,0 +1,166 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Perft: counts the leaf nodes of the legal move tree to a fixed depth, the standard correctness check
+ * for a move generator.
+ *
+ * <p>{@link #divide} splits the tree across a {@link ForkJoinPool}. Every root move becomes a task, and
+ * any subtree that is still at least {@link #SPLIT_DEPTH} plies deep forks its children as further tasks,
+ * so idle workers can steal the remaining work instead of waiting for the largest root move. Each task
+ * works on its own copy of the position and its own move buffer. Subtrees below the split depth are counted
+ * sequentially with make/unmake, using bulk counting at the last ply and an optional shared
+ * {@link TranspositionTable} for transpositions. Table keys mix the remaining depth into the position key,
+ * and the payload is the subtree's node count.</p>
+ */
+public final class Perft {
+
+    /**
+     * Remaining depth at or above which a subtree is split into parallel tasks.
+     */
+    static final int SPLIT_DEPTH = 4;
+
+    /**
+     * Divide output: total leaf count and the count under each root move, keyed by its UCI notation.
+     */
+    public record Result(long nodes, Map<String, Long> divide, long nanos) {
+    }
+
+    private Perft() {
+    }
+
+    /**
+     * Single-threaded perft without a hash table.
+     */
+    public static long perft(BoardState state, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        return count(state, depth, new int[MoveGenerator.MAX_MOVES * depth], 0, null);
+    }
+
+    /**
+     * Parallel perft with a per-root-move breakdown.
+     *
+     * @param root  position to count from; not modified
+     * @param depth depth in plies, at least 1
+     * @param pool  pool the subtrees run on
+     * @param table shared subtree cache, or {@code null} to count every node
+     */
+    public static Result divide(BoardState root, int depth, ForkJoinPool pool, TranspositionTable table) {
+        long start = System.nanoTime();
+        int[] moves = MoveGenerator.legalMoves(root);
+        List<SubtreeTask> tasks = new ArrayList<>(moves.length);
+        for (int move : moves) {
+            BoardState child = root.copy();
+            child.makeMove(move);
+            tasks.add(new SubtreeTask(child, depth - 1, table));
+        }
+        tasks.forEach(pool::execute);
+
+        Map<String, Long> divide = new LinkedHashMap<>();
+        long nodes = 0;
+        for (int i = 0; i < moves.length; i++) {
+            long count = tasks.get(i).join();
+            divide.put(Move.toUci(moves[i]), count);
+            nodes += count;
+        }
+        return new Result(nodes, divide, System.nanoTime() - start);
+    }
+
+    private static long count(BoardState state, int depth, int[] moves, int offset, TranspositionTable table) {
+        long key = state.key();
+        if (table != null && depth > 1) {
+            long cached = probe(table, key, depth);
+            if (cached >= 0) {
+                return cached;
+            }
+        }
+        int end = MoveGenerator.generate(state, moves, offset);
+        if (depth == 1) {
+            // Bulk counting: the leaves are exactly the legal moves of this node
+            return end - offset;
+        }
+        long nodes = 0;
+        for (int i = offset; i < end; i++) {
+            state.makeMove(moves[i]);
+            nodes += count(state, depth - 1, moves, end, table);
+            state.unmakeMove(moves[i]);
+        }
+        if (table != null) {
+            table.store(perftKey(key, depth), depth, nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * @return the cached node count of a subtree, or -1
+     */
+    private static long probe(TranspositionTable table, long key, int depth) {
+        long data = table.probe(perftKey(key, depth));
+        if (data == TranspositionTable.NOT_FOUND || TranspositionTable.depth(data) != depth) {
+            return -1;
+        }
+        return TranspositionTable.payload(data);
+    }
+
+    /**
+     * The same position counts differently at different depths, so each depth gets its own key.
+     */
+    private static long perftKey(long key, int depth) {
+        return key ^ depth * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * Counts one subtree, forking its children while it is deep enough to be worth splitting.
+     */
+    private static final class SubtreeTask extends RecursiveTask<Long> {
+
+        private final BoardState state;
+        private final int depth;
+        private final TranspositionTable table;
+
+        SubtreeTask(BoardState state, int depth, TranspositionTable table) {
+            this.state = state;
+            this.depth = depth;
+            this.table = table;
+        }
+
+        @Override
+        protected Long compute() {
+            if (depth == 0) {
+                return 1L;
+            }
+            if (depth < SPLIT_DEPTH) {
+                return count(state, depth, new int[MoveGenerator.MAX_MOVES * depth], 0, table);
+            }
+            if (table != null) {
+                long cached = probe(table, state.key(), depth);
+                if (cached >= 0) {
+                    return cached;
+                }
+            }
+            int[] moves = MoveGenerator.legalMoves(state);
+            List<SubtreeTask> children = new ArrayList<>(moves.length);
+            for (int move : moves) {
+                BoardState child = state.copy();
+                child.makeMove(move);
+                children.add(new SubtreeTask(child, depth - 1, table));
+            }
+            long nodes = 0;
+            for (SubtreeTask child : invokeAll(children)) {
+                nodes += child.join();
+            }
+            if (table != null) {
+                table.store(perftKey(state.key(), depth), depth, nodes);
+            }
+            return nodes;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.KING;
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.PAWN;
+
+/**
+ * Standard algebraic notation (SAN), the move format of PGN game records: {@code e4}, {@code Nbd7},
+ * {@code exd5}, {@code e8=Q+}, {@code O-O}.
+ *
+ * <p>{@link #parse} resolves a SAN token against the legal moves of the position, so it reads straight from
+ * a byte buffer and accepts the usual sloppiness of real game files: missing or superfluous check marks,
+ * annotation suffixes such as {@code !?}, promotions without {@code =} and castling written with zeros.</p>
+ */
+public final class San {
+
+    private static final String PIECE_LETTERS = "PNBRQK";
+
+    private San() {
+    }
+
+    /**
+     * Resolve a SAN move.
+     *
+     * @param state  position the move is played in
+     * @param text   ASCII bytes holding the move
+     * @param start  index of the first byte of the move
+     * @param end    index one past its last byte
+     * @param buffer scratch space for {@link MoveGenerator#MAX_MOVES} moves
+     * @return the legal move, or {@link Move#NONE} if the text names no legal move or more than one
+     */
+    public static int parse(BoardState state, byte[] text, int start, int end, int[] buffer) {
+        // Drop check marks and annotations
+        while (end > start && "+#!?".indexOf(text[end - 1]) >= 0) {
+            end--;
+        }
+        if (end - start < 2) {
+            return Move.NONE;
+        }
+        int count = MoveGenerator.generate(state, buffer, 0);
+        if (text[start] == 'O' || text[start] == '0') {
+            int flags = end - start >= 5 ? Move.QUEEN_CASTLE : Move.KING_CASTLE;
+            for (int i = 0; i < count; i++) {
+                if (Move.flags(buffer[i]) == flags) {
+                    return buffer[i];
+                }
+            }
+            return Move.NONE;
+        }
+
+        // A move otherwise ends in the target rank, so a trailing letter is the promotion piece
+        int promotion = -1;
+        int last = text[end - 1];
+        if (last < '1' || last > '8') {
+            promotion = PIECE_LETTERS.indexOf(Character.toUpperCase(last));
+            if (promotion <= PAWN || promotion == KING) {
+                return Move.NONE;
+            }
+            end -= text[end - 2] == '=' ? 2 : 1;
+        }
+        if (end - start < 2) {
+            return Move.NONE;
+        }
+        int toFile = text[end - 2] - 'a';
+        int toRank = text[end - 1] - '1';
+        if (toFile < 0 || toFile > 7 || toRank < 0 || toRank > 7) {
+            return Move.NONE;
+        }
+        int to = BoardState.square(toFile, toRank);
+
+        int type = PAWN;
+        int i = start;
+        int piece = PIECE_LETTERS.indexOf(text[i]);
+        if (piece > PAWN) {
+            type = piece;
+            i++;
+        }
+        // What is left between the piece letter and the target square: disambiguation and the capture mark
+        int fromFile = -1;
+        int fromRank = -1;
+        for (; i < end - 2; i++) {
+            byte c = text[i];
+            if (c >= 'a' && c <= 'h') {
+                fromFile = c - 'a';
+            } else if (c >= '1' && c <= '8') {
+                fromRank = c - '1';
+            } else if (c != 'x' && c != ':' && c != '-') {
+                return Move.NONE;
+            }
+        }
+
+        int match = Move.NONE;
+        for (int m = 0; m < count; m++) {
+            int move = buffer[m];
+            int from = Move.from(move);
+            if (Move.to(move) != to
+                    || state.pieceAt(from) % 6 != type
+                    || fromFile >= 0 && from >>> 3 != fromFile
+                    || fromRank >= 0 && (from & 7) != fromRank
+                    || (Move.isPromotion(move) ? Move.promotionType(move) != promotion : promotion >= 0)) {
+                continue;
+            }
+            if (match != Move.NONE) {
+                return Move.NONE;
+            }
+            match = move;
+        }
+        return match;
+    }
+
+    /**
+     * Resolve a SAN move given as a string; see {@link #parse(BoardState, byte[], int, int, int[])}.
+     */
+    public static int parse(BoardState state, String san) {
+        byte[] text = san.getBytes(StandardCharsets.US_ASCII);
+        return parse(state, text, 0, text.length, new int[MoveGenerator.MAX_MOVES]);
+    }
+
+    /**
+     * Render a legal move of {@code state} in SAN, with the minimal disambiguation and a check or mate mark.
+     */
+    public static String toSan(BoardState state, int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int type = state.pieceAt(from) % 6;
+        StringBuilder san = new StringBuilder(7);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        if (Move.flags(move) == Move.KING_CASTLE) {
+            san.append("O-O");
+        } else if (Move.flags(move) == Move.QUEEN_CASTLE) {
+            san.append("O-O-O");
+        } else {
+            if (type == PAWN) {
+                if (Move.isCapture(move)) {
+                    san.append((char) ('a' + (from >>> 3)));
+                }
+            } else {
+                san.append(PIECE_LETTERS.charAt(type));
+                boolean ambiguous = false;
+                boolean sameFile = false;
+                boolean sameRank = false;
+                int count = MoveGenerator.generate(state, moves, 0);
+                for (int i = 0; i < count; i++) {
+                    int other = Move.from(moves[i]);
+                    if (other != from && Move.to(moves[i]) == to && state.pieceAt(other) % 6 == type) {
+                        ambiguous = true;
+                        sameFile |= other >>> 3 == from >>> 3;
+                        sameRank |= (other & 7) == (from & 7);
+                    }
+                }
+                if (ambiguous && (!sameFile || sameRank)) {
+                    san.append((char) ('a' + (from >>> 3)));
+                }
+                if (sameFile) {
+                    san.append((char) ('1' + (from & 7)));
+                }
+            }
+            if (Move.isCapture(move)) {
+                san.append('x');
+            }
+            Move.appendSquare(san, to);
+            if (Move.isPromotion(move)) {
+                san.append('=').append(PIECE_LETTERS.charAt(Move.promotionType(move)));
+            }
+        }
+        state.makeMove(move);
+        if (state.inCheck()) {
+            san.append(MoveGenerator.generate(state, moves, 0) == 0 ? '#' : '+');
+        }
+        state.unmakeMove(move);
+        return san.toString();
+    }
+}
@@ -0,0 +1,425 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Best-move search: alpha-beta with iterative deepening, parallelized with Lazy SMP.
+ *
+ * <p>Every thread runs its own iterative deepening on its own copy of the position. The threads share
+ * nothing but a {@link TranspositionTable} and a stop flag: helpers fill the table with results the main
+ * thread then finds as cutoffs and move-ordering hints. Helpers start at alternating depths so that they do
+ * not all search the same tree in lockstep. The answer is the main thread's last completed iteration.</p>
+ *
+ * <p>Within a thread the search is a principal variation search with a quiescence search over captures,
+ * check extensions and move ordering by hash move, MVV-LVA captures, killer moves and a history table. Move
+ * lists live in per-ply buffers, so the search allocates nothing per node.</p>
+ *
+ * <p>Table entries pack the best move (16 bits), the score (16 bits) and the bound type (2 bits) into the
+ * payload. Mate scores are stored relative to the node so they stay correct when found again at another
+ * ply.</p>
+ */
+public final class Search {
+
+    /**
+     * Deepest iteration a search may request.
+     */
+    public static final int MAX_DEPTH = 64;
+
+    /**
+     * Score of being checkmated at the root; a mate found {@code n} plies deep scores {@code MATE - n}.
+     */
+    public static final int MATE = 30_000;
+
+    private static final int INFINITY = 32_000;
+    private static final int MATE_BOUND = MATE - 1_000;
+
+    /**
+     * Plies reachable by the main search plus quiescence and check extensions.
+     */
+    private static final int MAX_PLY = 128;
+
+    private static final int EXACT = 0;
+    private static final int LOWER = 1;
+    private static final int UPPER = 2;
+
+    /**
+     * Nodes between two looks at the clock.
+     */
+    private static final int CLOCK_INTERVAL = 2048;
+
+    /**
+     * Result of one completed iteration of the main thread. {@code nodes} counts every thread.
+     */
+    public record Iteration(int depth, int score, long nodes, long nanos, int[] pv) {
+    }
+
+    /**
+     * Outcome of a search. {@code bestMove} is {@link Move#NONE} when the root has no legal move.
+     */
+    public record Result(int bestMove, int score, int depth, int[] pv, long nodes, long nanos, int threads,
+                         List<Iteration> iterations) {
+    }
+
+    private Search() {
+    }
+
+    /**
+     * Search {@code root} until {@code maxDepth} is completed or the time budget runs out, whichever comes
+     * first. At least depth 1 is always completed.
+     *
+     * @param root     position to search; not modified
+     * @param maxDepth deepest iteration, 1 to {@link #MAX_DEPTH}
+     * @param nanos    time budget in nanoseconds
+     * @param threads  number of Lazy SMP threads, at least 1
+     * @param pool     executor the threads run on; needs {@code threads} free workers to run them all at once
+     * @param table    hash table shared by the threads
+     */
+    public static Result search(BoardState root, int maxDepth, long nanos, int threads, ExecutorService pool,
+                                TranspositionTable table) {
+        long start = System.nanoTime();
+        table.newGeneration();
+        AtomicBoolean stop = new AtomicBoolean();
+        Searcher[] searchers = new Searcher[threads];
+        for (int id = 0; id < threads; id++) {
+            searchers[id] = new Searcher(id, root.copy(), table, stop, start, nanos, searchers);
+        }
+        // The main thread goes first, so it runs even when the pool has fewer free workers than threads
+        Future<?> main = pool.submit(() -> searchers[0].iterate(maxDepth));
+        List<Future<?>> helpers = new ArrayList<>(threads - 1);
+        for (int id = 1; id < threads; id++) {
+            Searcher helper = searchers[id];
+            helpers.add(pool.submit(() -> helper.iterate(maxDepth)));
+        }
+        try {
+            main.get();
+            stop.set(true);
+            for (Future<?> helper : helpers) {
+                helper.get();
+            }
+        } catch (InterruptedException e) {
+            stop.set(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search interrupted", e);
+        } catch (ExecutionException e) {
+            stop.set(true);
+            throw new IllegalStateException("Search failed", e.getCause());
+        }
+
+        Searcher searcher = searchers[0];
+        Iteration last = searcher.iterations.get(searcher.iterations.size() - 1);
+        int bestMove = last.pv().length > 0 ? last.pv()[0] : Move.NONE;
+        return new Result(bestMove, last.score(), last.depth(), last.pv(), totalNodes(searchers),
+                System.nanoTime() - start, threads, searcher.iterations);
+    }
+
+    /**
+     * Whether a score announces a forced mate, for either side.
+     */
+    public static boolean isMate(int score) {
+        return Math.abs(score) >= MATE_BOUND;
+    }
+
+    private static long totalNodes(Searcher[] searchers) {
+        long nodes = 0;
+        for (Searcher searcher : searchers) {
+            nodes += searcher.nodes;
+        }
+        return nodes;
+    }
+
+    /**
+     * One Lazy SMP thread: a complete single-threaded search with its own position and ordering tables.
+     */
+    private static final class Searcher {
+
+        private final int id;
+        private final BoardState state;
+        private final TranspositionTable table;
+        private final AtomicBoolean stop;
+        private final long start;
+        private final long budget;
+        private final Searcher[] all;
+
+        private final int[][] moves = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+        private final int[][] scores = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+        private final int[][] killers = new int[MAX_PLY][2];
+        private final int[] history = new int[64 * 64];
+
+        /**
+         * Triangular principal variation table: the line found at each ply.
+         */
+        private final int[][] pv = new int[MAX_PLY][MAX_PLY];
+        private final int[] pvLength = new int[MAX_PLY];
+
+        private final List<Iteration> iterations = new ArrayList<>();
+
+        /**
+         * Written only by this thread; other threads read it for progress reports.
+         */
+        private long nodes;
+
+        Searcher(int id, BoardState state, TranspositionTable table, AtomicBoolean stop, long start, long budget,
+                 Searcher[] all) {
+            this.id = id;
+            this.state = state;
+            this.table = table;
+            this.stop = stop;
+            this.start = start;
+            this.budget = budget;
+            this.all = all;
+        }
+
+        void iterate(int maxDepth) {
+            // Odd helpers skip ahead one ply so the threads spread over neighbouring depths
+            for (int depth = 1 + (id & 1); depth <= maxDepth; depth++) {
+                int score = search(depth, 0, -INFINITY, INFINITY);
+                if (aborted()) {
+                    return;
+                }
+                if (id == 0) {
+                    iterations.add(new Iteration(depth, score, totalNodes(all), System.nanoTime() - start,
+                            Arrays.copyOf(pv[0], pvLength[0])));
+                    if (pvLength[0] == 0 || isMate(score)) {
+                        // No legal move, or a forced mate that deeper search cannot improve
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Count a node and look at the clock now and then.
+         */
+        private boolean stopped() {
+            // Compare elapsed time, not a deadline, so an unlimited budget of Long.MAX_VALUE cannot overflow
+            if ((++nodes & (CLOCK_INTERVAL - 1)) == 0 && System.nanoTime() - start > budget) {
+                stop.set(true);
+            }
+            return aborted();
+        }
+
+        /**
+         * The main thread only honours the stop flag once it has an iteration done, so every search has a move.
+         */
+        private boolean aborted() {
+            return stop.get() && (id != 0 || !iterations.isEmpty());
+        }
+
+        private int search(int depth, int ply, int alpha, int beta) {
+            pvLength[ply] = 0;
+            if (stopped()) {
+                return 0;
+            }
+            if (ply > 0 && (state.halfmoveClock() >= 100 || state.isRepetition())) {
+                return 0;
+            }
+            boolean inCheck = state.inCheck();
+            if (inCheck && ply + depth < MAX_PLY - 16) {
+                depth++;
+            }
+            if (depth <= 0) {
+                return quiesce(ply, alpha, beta);
+            }
+            if (ply >= MAX_PLY - 1) {
+                return Evaluation.evaluate(state);
+            }
+
+            long key = state.key();
+            int hashMove = Move.NONE;
+            long entry = table.probe(key);
+            if (entry != TranspositionTable.NOT_FOUND) {
+                long payload = TranspositionTable.payload(entry);
+                hashMove = (int) (payload & 0xFFFF);
+                if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                    int score = fromTable((int) (payload >>> 16 & 0xFFFF) - INFINITY, ply);
+                    int bound = (int) (payload >>> 32 & 3);
+                    if (bound == EXACT
+                            || bound == LOWER && score >= beta
+                            || bound == UPPER && score <= alpha) {
+                        return score;
+                    }
+                }
+            }
+
+            int[] list = moves[ply];
+            int count = MoveGenerator.generate(state, list, 0);
+            if (count == 0) {
+                return inCheck ? -MATE + ply : 0;
+            }
+            scoreMoves(list, count, ply, hashMove);
+
+            int originalAlpha = alpha;
+            int bestScore = -INFINITY;
+            int bestMove = Move.NONE;
+            for (int i = 0; i < count; i++) {
+                int move = pickNext(list, scores[ply], i, count);
+                state.makeMove(move);
+                int score;
+                if (i == 0) {
+                    score = -search(depth - 1, ply + 1, -beta, -alpha);
+                } else {
+                    // Later moves are expected to fail low; only re-search with the full window if one does not
+                    score = -search(depth - 1, ply + 1, -alpha - 1, -alpha);
+                    if (score > alpha && score < beta) {
+                        score = -search(depth - 1, ply + 1, -beta, -alpha);
+                    }
+                }
+                state.unmakeMove(move);
+                if (aborted()) {
+                    return 0;
+                }
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = move;
+                    if (score > alpha) {
+                        alpha = score;
+                        updatePv(ply, move);
+                        if (alpha >= beta) {
+                            if (!Move.isCapture(move) && !Move.isPromotion(move)) {
+                                rememberQuiet(move, ply, depth);
+                            }
+                            break;
+                        }
+                    }
+                }
+            }
+
+            int bound = bestScore >= beta ? LOWER : bestScore <= originalAlpha ? UPPER : EXACT;
+            table.store(key, depth, (bestMove & 0xFFFFL)
+                    | (long) (toTable(bestScore, ply) + INFINITY) << 16
+                    | (long) bound << 32);
+            return bestScore;
+        }
+
+        /**
+         * Resolve captures until the position is quiet, so the static evaluation is not taken in the middle of
+         * an exchange. In check every evasion is searched, since standing pat is not an option.
+         */
+        private int quiesce(int ply, int alpha, int beta) {
+            pvLength[ply] = 0;
+            if (stopped()) {
+                return 0;
+            }
+            boolean inCheck = state.inCheck();
+            if (ply >= MAX_PLY - 1) {
+                return Evaluation.evaluate(state);
+            }
+            int[] list = moves[ply];
+            int count = MoveGenerator.generate(state, list, 0);
+            if (count == 0) {
+                return inCheck ? -MATE + ply : 0;
+            }
+            if (!inCheck) {
+                int standPat = Evaluation.evaluate(state);
+                if (standPat >= beta) {
+                    return standPat;
+                }
+                alpha = Math.max(alpha, standPat);
+                int tactical = 0;
+                for (int i = 0; i < count; i++) {
+                    if (Move.isCapture(list[i]) || Move.isPromotion(list[i])) {
+                        list[tactical++] = list[i];
+                    }
+                }
+                count = tactical;
+            }
+            scoreMoves(list, count, ply, Move.NONE);
+            for (int i = 0; i < count; i++) {
+                int move = pickNext(list, scores[ply], i, count);
+                state.makeMove(move);
+                int score = -quiesce(ply + 1, -beta, -alpha);
+                state.unmakeMove(move);
+                if (aborted()) {
+                    return 0;
+                }
+                if (score > alpha) {
+                    alpha = score;
+                    updatePv(ply, move);
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+            return alpha;
+        }
+
+        /**
+         * Ordering keys: the hash move first, then captures by most valuable victim and least valuable
+         * attacker, promotions, the two killer moves of this ply and finally the history score.
+         */
+        private void scoreMoves(int[] list, int count, int ply, int hashMove) {
+            int[] keys = scores[ply];
+            for (int i = 0; i < count; i++) {
+                int move = list[i];
+                int from = Move.from(move);
+                int to = Move.to(move);
+                if (move == hashMove) {
+                    keys[i] = 1 << 30;
+                } else if (Move.isCapture(move)) {
+                    int victim = Move.flags(move) == Move.EN_PASSANT ? BoardState.PAWN : state.pieceAt(to) % 6;
+                    keys[i] = (1 << 29) + Evaluation.pieceValue(victim) * 16 - state.pieceAt(from) % 6;
+                } else if (Move.isPromotion(move)) {
+                    keys[i] = (1 << 28) + Move.promotionType(move);
+                } else if (move == killers[ply][0]) {
+                    keys[i] = (1 << 27) + 1;
+                } else if (move == killers[ply][1]) {
+                    keys[i] = 1 << 27;
+                } else {
+                    keys[i] = history[from * 64 + to];
+                }
+            }
+        }
+
+        /**
+         * Selection sort step: swap the best remaining move to {@code index} and return it.
+         */
+        private static int pickNext(int[] list, int[] keys, int index, int count) {
+            int best = index;
+            for (int i = index + 1; i < count; i++) {
+                if (keys[i] > keys[best]) {
+                    best = i;
+                }
+            }
+            int move = list[best];
+            list[best] = list[index];
+            list[index] = move;
+            int key = keys[best];
+            keys[best] = keys[index];
+            keys[index] = key;
+            return move;
+        }
+
+        private void rememberQuiet(int move, int ply, int depth) {
+            if (killers[ply][0] != move) {
+                killers[ply][1] = killers[ply][0];
+                killers[ply][0] = move;
+            }
+            int slot = Move.from(move) * 64 + Move.to(move);
+            // Keep history scores below the killer range
+            history[slot] = Math.min(history[slot] + depth * depth, (1 << 26));
+        }
+
+        private void updatePv(int ply, int move) {
+            pv[ply][0] = move;
+            System.arraycopy(pv[ply + 1], 0, pv[ply], 1, pvLength[ply + 1]);
+            pvLength[ply] = pvLength[ply + 1] + 1;
+        }
+    }
+
+    /**
+     * Mate scores count plies from the root; in the table they count from the node that stored them.
+     */
+    private static int toTable(int score, int ply) {
+        return score >= MATE_BOUND ? score + ply : score <= -MATE_BOUND ? score - ply : score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        return score >= MATE_BOUND ? score - ply : score <= -MATE_BOUND ? score + ply : score;
+    }
+}
@@ -0,0 +1,173 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free transposition table keyed by {@link Zobrist} position keys, stored off-heap.
+ *
+ * <p>Memory is one direct {@link ByteBuffer} split into 64-byte buckets (one cache line) of four 16-byte
+ * entries. An entry is the pair {@code (key ^ data, data)}; {@code data} packs a caller-defined 48-bit
+ * payload with an 8-bit depth, a 7-bit generation and an occupied bit, so it is never zero. Threads read
+ * and write entries without locks or CAS: an entry torn by a concurrent write no longer XORs back to its
+ * key and reads as a miss. Nothing is allocated per probe or store, and the entries are invisible to the
+ * garbage collector.</p>
+ *
+ * <p>The table lives in a direct buffer accessed through a {@link VarHandle} view rather than a
+ * {@code MemorySegment}, since the FFM API is still a preview feature on the Java 21 baseline.</p>
+ *
+ * <p>When a bucket is full, {@link #store} replaces the entry with the lowest worth, where worth is the
+ * entry's depth minus a penalty for each generation (see {@link #newGeneration()}) since it was written.</p>
+ */
+public final class TranspositionTable {
+
+    /**
+     * Returned by {@link #probe(long)} when the key is not in the table.
+     */
+    public static final long NOT_FOUND = -1L;
+
+    /**
+     * Largest depth that can be stored; 255 is reserved so that no stored entry equals {@link #NOT_FOUND}.
+     */
+    public static final int MAX_DEPTH = 254;
+
+    /**
+     * Largest payload that fits in an entry.
+     */
+    public static final long MAX_PAYLOAD = (1L << 48) - 1;
+
+    private static final int ENTRY_BYTES = 16;
+    private static final int BUCKET_ENTRIES = 4;
+    private static final int BUCKET_BYTES = ENTRY_BYTES * BUCKET_ENTRIES;
+    private static final int AGE_PENALTY = 8;
+    private static final long OCCUPIED = 1L << 15;
+    private static final int GENERATION_MASK = 0x7F;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer memory;
+    private final long bucketMask;
+    private volatile int generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    /**
+     * Snapshot of the table counters. A collision is a store that evicted a live entry for another key.
+     */
+    public record Stats(long sizeBytes, long hits, long misses, long collisions) {
+    }
+
+    /**
+     * @param megabytes table size, rounded down to a power-of-two number of buckets; 1 to 1024
+     */
+    public TranspositionTable(int megabytes) {
+        if (megabytes < 1 || megabytes > 1024) {
+            throw new IllegalArgumentException("Transposition table size must be between 1 and 1024 MB: " + megabytes);
+        }
+        long buckets = Long.highestOneBit(megabytes * 1024L * 1024L / BUCKET_BYTES);
+        this.memory = ByteBuffer.allocateDirect((int) (buckets * BUCKET_BYTES)).order(ByteOrder.nativeOrder());
+        this.bucketMask = buckets - 1;
+    }
+
+    /**
+     * Look up a key.
+     *
+     * @return the entry's packed data (see {@link #payload}, {@link #depth}), or {@link #NOT_FOUND}
+     */
+    public long probe(long key) {
+        int bucket = bucketOffset(key);
+        for (int i = 0; i < BUCKET_ENTRIES; i++) {
+            int entry = bucket + i * ENTRY_BYTES;
+            long data = (long) LONGS.getOpaque(memory, entry + 8);
+            if (data != 0 && ((long) LONGS.getOpaque(memory, entry) ^ data) == key) {
+                hits.increment();
+                return data;
+            }
+        }
+        misses.increment();
+        return NOT_FOUND;
+    }
+
+    /**
+     * Store a payload for a key, replacing any entry already held for that key.
+     *
+     * @param key     position key
+     * @param depth   depth the payload was computed for, 0 to {@link #MAX_DEPTH}; deeper entries are kept longer
+     * @param payload caller-defined value, 0 to {@link #MAX_PAYLOAD}
+     */
+    public void store(long key, int depth, long payload) {
+        int currentGeneration = generation;
+        long data = (payload & MAX_PAYLOAD) << 16 | OCCUPIED | (long) currentGeneration << 8 | Math.min(depth, MAX_DEPTH);
+        int bucket = bucketOffset(key);
+
+        int victim = bucket;
+        int victimWorth = Integer.MAX_VALUE;
+        for (int i = 0; i < BUCKET_ENTRIES; i++) {
+            int entry = bucket + i * ENTRY_BYTES;
+            long existing = (long) LONGS.getOpaque(memory, entry + 8);
+            if (existing == 0 || ((long) LONGS.getOpaque(memory, entry) ^ existing) == key) {
+                victim = entry;
+                victimWorth = Integer.MIN_VALUE;
+                break;
+            }
+            int age = (currentGeneration - (int) (existing >>> 8)) & GENERATION_MASK;
+            int worth = depth(existing) - age * AGE_PENALTY;
+            if (worth < victimWorth) {
+                victim = entry;
+                victimWorth = worth;
+            }
+        }
+        if (victimWorth != Integer.MIN_VALUE) {
+            collisions.increment();
+        }
+        LONGS.setOpaque(memory, victim, key ^ data);
+        LONGS.setOpaque(memory, victim + 8, data);
+    }
+
+    /**
+     * Start a new generation so entries from earlier work are replaced first.
+     */
+    public void newGeneration() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    /**
+     * Remove every entry and reset the counters. Not safe to run concurrently with probes or stores.
+     */
+    public void clear() {
+        for (int offset = 0; offset < memory.capacity(); offset += 8) {
+            LONGS.set(memory, offset, 0L);
+        }
+        hits.reset();
+        misses.reset();
+        collisions.reset();
+    }
+
+    public Stats stats() {
+        return new Stats(memory.capacity(), hits.sum(), misses.sum(), collisions.sum());
+    }
+
+    /**
+     * Caller-defined payload of a value returned by {@link #probe(long)}.
+     */
+    public static long payload(long data) {
+        return data >>> 16;
+    }
+
+    /**
+     * Depth of a value returned by {@link #probe(long)}.
+     */
+    public static int depth(long data) {
+        return (int) (data & 0xFF);
+    }
+
+    private int bucketOffset(long key) {
+        // The low bits pick the bucket; the full key is verified against the entry
+        return (int) ((key & bucketMask) * BUCKET_BYTES);
+    }
+}
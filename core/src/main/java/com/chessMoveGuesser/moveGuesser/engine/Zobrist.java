@@ -0,0 +1,68 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist hashing keys: a position's key is the XOR of one random number per (piece, square), the side to
+ * move, the castling rights and a capturable en passant file. {@link BoardState} updates its key
+ * incrementally in make/unmake.
+ *
+ * <p>The keys come from a fixed seed, so a position hashes to the same value in every JVM; anything
+ * persisted by key (such as an opening book) depends on that.</p>
+ */
+public final class Zobrist {
+
+    private static final long SEED = 0x5EED_C0FF_EE15_600DL;
+
+    private static final long[][] PIECE_SQUARE = new long[12][64];
+    private static final long[] CASTLING = new long[16];
+    private static final long[] EN_PASSANT_FILE = new long[8];
+    private static final long SIDE_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] squares : PIECE_SQUARE) {
+            for (int square = 0; square < 64; square++) {
+                squares[square] = random.nextLong();
+            }
+        }
+        // Each combination of rights gets the XOR of the keys of its individual rights
+        long[] rights = {random.nextLong(), random.nextLong(), random.nextLong(), random.nextLong()};
+        for (int mask = 0; mask < CASTLING.length; mask++) {
+            for (int right = 0; right < 4; right++) {
+                if ((mask & 1 << right) != 0) {
+                    CASTLING[mask] ^= rights[right];
+                }
+            }
+        }
+        for (int file = 0; file < 8; file++) {
+            EN_PASSANT_FILE[file] = random.nextLong();
+        }
+        SIDE_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Key of a piece ({@code color * 6 + type}) standing on a square.
+     */
+    public static long piece(int piece, int square) {
+        return PIECE_SQUARE[piece][square];
+    }
+
+    public static long castling(int rights) {
+        return CASTLING[rights];
+    }
+
+    public static long enPassant(int square) {
+        return EN_PASSANT_FILE[square >>> 3];
+    }
+
+    /**
+     * Mixed in whenever black is to move.
+     */
+    public static long sideToMove() {
+        return SIDE_TO_MOVE;
+    }
+}
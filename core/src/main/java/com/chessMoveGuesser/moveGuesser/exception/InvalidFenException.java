@@ -0,0 +1,7 @@
+package com.chessMoveGuesser.moveGuesser.exception;
+
+public class InvalidFenException extends RuntimeException {
+    public InvalidFenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,110 @@
+package com.chessMoveGuesser.moveGuesser.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class Board {
+
+    /**
+     * Largest number of rows or columns a board may have.
+     */
+    public static final int MAX_DIMENSION = 32;
+
+    private final int rows;
+    private final int columns;
+
+    public Board(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public boolean isValid(Position position) {
+        return position.getRow() > 0 &&
+                position.getRow() <= rows &&
+                position.getColumn() > 0 &&
+                position.getColumn() <= columns;
+    }
+
+    /**
+     * Whether a geometry can be used for move queries: each side between 1 and {@link #MAX_DIMENSION}.
+     */
+    public static boolean isSupported(int rows, int columns) {
+        return rows >= 1 && rows <= MAX_DIMENSION && columns >= 1 && columns <= MAX_DIMENSION;
+    }
+
+    /**
+     * Number of squares on this board.
+     */
+    public int squareCount() {
+        return rows * columns;
+    }
+
+    /**
+     * Number of {@code long} words in a square mask of this board, one bit per square index.
+     */
+    public int maskWords() {
+        return (squareCount() + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Square index of a position, numbered column by column starting at A1 = 0, A2 = 1, ...
+     *
+     * <p>Column-major numbering means ascending indices follow {@link Position#compareTo(Position)},
+     * so walking the set bits of an attack mask yields positions already sorted.</p>
+     *
+     * @param position a position that is valid on this board
+     * @return the zero-based square index
+     */
+    public int squareIndex(Position position) {
+        return (position.getColumn() - 1) * rows + (position.getRow() - 1);
+    }
+
+    /**
+     * Inverse of {@link #squareIndex(Position)}.
+     */
+    public Position positionAt(int square) {
+        return Position.of(square % rows + 1, square / rows + 1);
+    }
+
+    /**
+     * Convert an attack mask into the sorted list of positions it contains. Square {@code i} is bit
+     * {@code i % 64} of word {@code i / 64}.
+     */
+    public List<Position> toPositions(long[] mask) {
+        int count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        List<Position> positions = new ArrayList<>(count);
+        for (int word = 0; word < mask.length; word++) {
+            for (long bits = mask[word]; bits != 0; bits &= bits - 1) {
+                positions.add(positionAt(word * Long.SIZE + Long.numberOfTrailingZeros(bits)));
+            }
+        }
+        return Collections.unmodifiableList(positions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Board other && rows == other.rows && columns == other.columns;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rows + columns;
+    }
+
+    @Override
+    public String toString() {
+        return "Board(rows=" + rows + ", columns=" + columns + ")";
+    }
+}
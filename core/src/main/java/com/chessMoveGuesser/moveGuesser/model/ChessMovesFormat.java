@@ -0,0 +1,50 @@
+package com.chessMoveGuesser.moveGuesser.model;
+
+/**
+ * Compact binary encoding of a move list, served as {@value #MEDIA_TYPE}.
+ *
+ * <p>The body is the target square indices (see {@link Board#squareIndex}) in ascending order, with no header
+ * or separators. Boards of up to 256 squares use one unsigned byte per square; larger boards use two bytes
+ * per square, big-endian. The client already knows the geometry it asked for, so it knows the width and
+ * can turn an index back into a coordinate. An empty body means no moves.</p>
+ */
+public final class ChessMovesFormat {
+
+    public static final String MEDIA_TYPE = "application/x-chess-moves";
+
+    private ChessMovesFormat() {
+    }
+
+    /**
+     * Bytes per square index on a board with {@code squares} squares.
+     */
+    public static int bytesPerSquare(int squares) {
+        return squares <= 256 ? 1 : 2;
+    }
+
+    /**
+     * Encode a square mask (square {@code i} is bit {@code i % 64} of word {@code i / 64}).
+     *
+     * @param mask    target squares
+     * @param squares number of squares on the board the mask belongs to
+     */
+    public static byte[] encode(long[] mask, int squares) {
+        int width = bytesPerSquare(squares);
+        int count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        byte[] encoded = new byte[count * width];
+        int offset = 0;
+        for (int word = 0; word < mask.length; word++) {
+            for (long bits = mask[word]; bits != 0; bits &= bits - 1) {
+                int square = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                if (width == 2) {
+                    encoded[offset++] = (byte) (square >>> 8);
+                }
+                encoded[offset++] = (byte) square;
+            }
+        }
+        return encoded;
+    }
+}
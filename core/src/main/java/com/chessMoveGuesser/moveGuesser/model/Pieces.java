@@ -5,7 +5,10 @@ import com.chessMoveGuesser.moveGuesser.exception.PieceNotFoundException;
 public enum Pieces {
     KING,
     QUEEN,
-    PAWN;
+    PAWN,
+    ROOK,
+    BISHOP,
+    KNIGHT;
 
     public static Pieces fromString(String value) {
         try {
@@ -0,0 +1,147 @@
+package com.chessMoveGuesser.moveGuesser.model;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+
+/**
+ * Immutable square coordinate: a one-based row and column.
+ *
+ * <p>Every square of the largest supported board ({@value Board#MAX_DIMENSION} x {@value Board#MAX_DIMENSION})
+ * has one canonical instance, built at class load with its rendered name. {@link #of} and {@link #parse}
+ * return those instances, so looking up, comparing or rendering a position on a board allocates nothing.
+ * Coordinates outside that range, which no board can contain, get a fresh instance so they can still be
+ * reported as out of bounds.</p>
+ */
+public final class Position implements Comparable<Position> {
+
+    /**
+     * Longest coordinate accepted, e.g. {@code ZZZ9999}; longer input cannot name a square of any board.
+     */
+    private static final int MAX_LENGTH = 7;
+
+    private static final int SIZE = Board.MAX_DIMENSION;
+
+    /**
+     * Canonical instances, indexed like a {@code SIZE x SIZE} board: {@code (column - 1) * SIZE + row - 1}.
+     */
+    private static final Position[] CANONICAL = new Position[SIZE * SIZE];
+
+    static {
+        for (int column = 1; column <= SIZE; column++) {
+            for (int row = 1; row <= SIZE; row++) {
+                CANONICAL[(column - 1) * SIZE + row - 1] = new Position(row, column);
+            }
+        }
+    }
+
+    private final int row;
+    private final int column;
+
+    /**
+     * Rendered form, e.g. {@code "E4"}; see {@link #toDto()}.
+     */
+    private final String name;
+
+    private Position(int row, int column) {
+        this.row = row;
+        this.column = column;
+        this.name = columnName(column) + row;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Position at a one-based row and column.
+     */
+    public static Position of(int row, int column) {
+        if (row >= 1 && row <= SIZE && column >= 1 && column <= SIZE) {
+            return CANONICAL[(column - 1) * SIZE + row - 1];
+        }
+        return new Position(row, column);
+    }
+
+    /**
+     * Parse a coordinate such as {@code E4}, {@code j10} or {@code AF32}: column letters followed by the row
+     * number. Columns after {@code Z} continue as {@code AA}, {@code AB}, ... like spreadsheet columns.
+     * Letters may be either case and surrounding whitespace is ignored.
+     *
+     * @throws InvalidParameterException if the text is not letters followed by digits
+     */
+    public static Position parse(CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start > MAX_LENGTH) {
+            throw invalid(text);
+        }
+        int i = start;
+        int column = 0;
+        for (char c; i < end && ((c = (char) (text.charAt(i) & ~0x20)) >= 'A' && c <= 'Z'); i++) {
+            column = column * 26 + (c - 'A' + 1);
+        }
+        int letters = i;
+        int row = 0;
+        for (char c; i < end && (c = text.charAt(i)) >= '0' && c <= '9'; i++) {
+            row = row * 10 + (c - '0');
+        }
+        if (letters == start || i == letters || i != end) {
+            throw invalid(text);
+        }
+        return of(row, column);
+    }
+
+    private static InvalidParameterException invalid(CharSequence text) {
+        return new InvalidParameterException("Invalid position: " + text.toString().trim().toUpperCase());
+    }
+
+    /**
+     * Orders by column, then row; the same order as {@link Board#squareIndex(Position)}.
+     */
+    @Override
+    public int compareTo(Position o) {
+        int temp = this.column - o.column;
+        if (temp != 0) return temp;
+        return this.row - o.row;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        // Canonical instances are unique per square; only off-board coordinates need the field check
+        return this == o || o instanceof Position other && row == other.row && column == other.column;
+    }
+
+    @Override
+    public int hashCode() {
+        return column * SIZE + row;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public String toDto() {
+        return name;
+    }
+
+    /**
+     * Letters of a one-based column: {@code A} to {@code Z}, then {@code AA}, {@code AB}, ...
+     */
+    public static String columnName(int column) {
+        StringBuilder name = new StringBuilder(2);
+        for (int c = column; c > 0; c = (c - 1) / 26) {
+            name.append((char) ('A' + (c - 1) % 26));
+        }
+        return name.reverse().toString();
+    }
+}
@@ -0,0 +1,27 @@
+package com.chessMoveGuesser.moveGuesser.protocol;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A move query answered over the {@link MoveProtocol}.
+ *
+ * @param board   geometry the answer was computed for
+ * @param squares target square indices on {@code board} in ascending order, see {@link Board#squareIndex}
+ */
+public record MoveAnswer(Board board, int[] squares) {
+
+    /**
+     * The target squares as positions, in the same order.
+     */
+    public List<Position> positions() {
+        List<Position> positions = new ArrayList<>(squares.length);
+        for (int square : squares) {
+            positions.add(board.positionAt(square));
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,133 @@
+package com.chessMoveGuesser.moveGuesser.protocol;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.ChessMovesFormat;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Length-prefixed binary protocol for single-piece move queries over TCP, for service-to-service traffic
+ * that does not need HTTP.
+ *
+ * <p>Every frame is an unsigned 16-bit big-endian length followed by that many bytes. A connection carries
+ * any number of requests and the server answers them in order, so a client may pipeline: write many
+ * requests before reading the first answer.</p>
+ *
+ * <pre>
+ * request   length = 6 | MOVES (1) | piece ordinal | rows | columns | row | column
+ * answer    length     | OK (0)    | rows | columns | target squares in {@link ChessMovesFormat}
+ * error     length     | status    | UTF-8 message
+ * </pre>
+ *
+ * <p>All request fields are unsigned bytes. {@code rows} and {@code columns} of 0 ask for the server's
+ * configured board, and one of them alone is used for both, as in the REST API. {@code row} and {@code column}
+ * are one-based, so {@code E4} is column 5, row 4. An answer names the geometry it was computed for, so the
+ * client can tell the width of the square indices and turn them back into positions. A request longer than
+ * {@link #MAX_REQUEST_LENGTH} is a protocol violation and the server closes the connection.</p>
+ */
+public final class MoveProtocol {
+
+    /**
+     * Bytes of the length prefix.
+     */
+    public static final int LENGTH_BYTES = 2;
+
+    /**
+     * Opcode of a move query.
+     */
+    public static final byte MOVES = 1;
+
+    /**
+     * Length of a move query after the prefix.
+     */
+    public static final int MOVES_LENGTH = 6;
+
+    /**
+     * Longest request the server reads; anything longer closes the connection.
+     */
+    public static final int MAX_REQUEST_LENGTH = 64;
+
+    /**
+     * Longest error message, in bytes.
+     */
+    public static final int MAX_MESSAGE_LENGTH = 255;
+
+    /**
+     * Longest answer frame including its prefix: every square of the largest board, two bytes each.
+     */
+    public static final int MAX_ANSWER_FRAME = LENGTH_BYTES + 3
+            + 2 * Board.MAX_DIMENSION * Board.MAX_DIMENSION;
+
+    public static final byte OK = 0;
+
+    /**
+     * Malformed request, unknown piece or unsupported geometry.
+     */
+    public static final byte BAD_REQUEST = 1;
+
+    /**
+     * Position outside the board.
+     */
+    public static final byte OUT_OF_BOARD = 2;
+
+    private MoveProtocol() {
+    }
+
+    /**
+     * Write a move query frame.
+     *
+     * @param rows    rows of the board, or 0 for the server's board
+     * @param columns columns of the board, or 0 for the server's board
+     * @throws IllegalArgumentException if a coordinate or side does not fit in a byte
+     */
+    public static void writeMovesRequest(ByteBuffer out, Pieces piece, Position position, int rows, int columns) {
+        out.putShort((short) MOVES_LENGTH)
+                .put(MOVES)
+                .put((byte) piece.ordinal())
+                .put(unsignedByte(rows))
+                .put(unsignedByte(columns))
+                .put(unsignedByte(position.getRow()))
+                .put(unsignedByte(position.getColumn()));
+    }
+
+    /**
+     * Write an answer frame.
+     *
+     * @param squares target squares in {@link ChessMovesFormat} for a {@code rows x columns} board
+     */
+    public static void writeAnswer(ByteBuffer out, int rows, int columns, byte[] squares) {
+        out.putShort((short) (3 + squares.length))
+                .put(OK)
+                .put((byte) rows)
+                .put((byte) columns)
+                .put(squares);
+    }
+
+    /**
+     * Write an error frame; the message is cut to {@link #MAX_MESSAGE_LENGTH} bytes.
+     */
+    public static void writeError(ByteBuffer out, byte status, String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_MESSAGE_LENGTH);
+        out.putShort((short) (1 + length))
+                .put(status)
+                .put(bytes, 0, length);
+    }
+
+    /**
+     * Number of bytes per square index in an answer for a {@code rows x columns} board.
+     */
+    public static int bytesPerSquare(int rows, int columns) {
+        return ChessMovesFormat.bytesPerSquare(rows * columns);
+    }
+
+    private static byte unsignedByte(int value) {
+        if (value < 0 || value > 0xFF) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in the protocol's unsigned byte");
+        }
+        return (byte) value;
+    }
+}
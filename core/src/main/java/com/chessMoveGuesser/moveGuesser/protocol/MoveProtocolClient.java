@@ -0,0 +1,151 @@
+package com.chessMoveGuesser.moveGuesser.protocol;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Blocking client for one {@link MoveProtocol} connection. Not thread-safe; use one client per thread.
+ *
+ * <p>{@link #moves} makes one round trip per query. To pipeline, {@link #send} any number of queries and then
+ * {@link #receive} their answers in the same order. Requests are buffered and written when the buffer fills
+ * or on the first {@code receive}, so a batch usually goes out in a few writes. Keep the number of unanswered
+ * queries to a few thousand: the server stops reading a connection whose answers are not being read.</p>
+ *
+ * <p>An error answer is thrown as the exception the service would throw: {@link PostionOutOfBoardException}
+ * for a position off the board and {@link InvalidParameterException} for anything else.</p>
+ */
+public final class MoveProtocolClient implements Closeable {
+
+    private static final int BUFFER_BYTES = 16 * 1024;
+
+    private final SocketChannel channel;
+
+    private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+    private final ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+    private MoveProtocolClient(SocketChannel channel) {
+        this.channel = channel;
+        in.flip();
+    }
+
+    public static MoveProtocolClient connect(InetSocketAddress address) throws IOException {
+        SocketChannel channel = SocketChannel.open(address);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        return new MoveProtocolClient(channel);
+    }
+
+    /**
+     * Possible moves on the server's board, in one round trip.
+     */
+    public MoveAnswer moves(Pieces piece, Position position) throws IOException {
+        send(piece, position);
+        return receive();
+    }
+
+    /**
+     * Possible moves on a {@code rows x columns} board, in one round trip.
+     */
+    public MoveAnswer moves(Pieces piece, Position position, int rows, int columns) throws IOException {
+        send(piece, position, rows, columns);
+        return receive();
+    }
+
+    /**
+     * Queue a query on the server's board.
+     */
+    public void send(Pieces piece, Position position) throws IOException {
+        send(piece, position, 0, 0);
+    }
+
+    /**
+     * Queue a query on a {@code rows x columns} board; 0 for either side means the server's board.
+     */
+    public void send(Pieces piece, Position position, int rows, int columns) throws IOException {
+        if (out.remaining() < MoveProtocol.LENGTH_BYTES + MoveProtocol.MOVES_LENGTH) {
+            flush();
+        }
+        MoveProtocol.writeMovesRequest(out, piece, position, rows, columns);
+    }
+
+    /**
+     * Write every queued query.
+     */
+    public void flush() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /**
+     * Read the answer to the oldest unanswered query, flushing queued queries first.
+     *
+     * @throws PostionOutOfBoardException if the query's position was off the board
+     * @throws InvalidParameterException  if the server rejected the query
+     * @throws ProtocolException          if the server's answer is malformed
+     */
+    public MoveAnswer receive() throws IOException {
+        if (out.position() > 0) {
+            flush();
+        }
+        fill(MoveProtocol.LENGTH_BYTES);
+        int length = in.getShort() & 0xFFFF;
+        if (length < 1 || length > MoveProtocol.MAX_ANSWER_FRAME - MoveProtocol.LENGTH_BYTES) {
+            throw new ProtocolException("Invalid answer length " + length);
+        }
+        fill(length);
+        byte status = in.get();
+        if (status != MoveProtocol.OK) {
+            byte[] message = new byte[length - 1];
+            in.get(message);
+            String text = new String(message, StandardCharsets.UTF_8);
+            throw status == MoveProtocol.OUT_OF_BOARD
+                    ? new PostionOutOfBoardException(text)
+                    : new InvalidParameterException(text);
+        }
+        int rows = in.get() & 0xFF;
+        int columns = in.get() & 0xFF;
+        int width = MoveProtocol.bytesPerSquare(rows, columns);
+        int[] squares = new int[(length - 3) / width];
+        for (int i = 0; i < squares.length; i++) {
+            squares[i] = width == 1 ? in.get() & 0xFF : in.getShort() & 0xFFFF;
+        }
+        return new MoveAnswer(new Board(rows, columns), squares);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Read until at least {@code bytes} are buffered.
+     */
+    private void fill(int bytes) throws IOException {
+        if (in.remaining() >= bytes) {
+            return;
+        }
+        in.compact();
+        while (in.position() < bytes) {
+            if (channel.read(in) < 0) {
+                throw new EOFException("Connection closed by the server");
+            }
+        }
+        in.flip();
+    }
+}
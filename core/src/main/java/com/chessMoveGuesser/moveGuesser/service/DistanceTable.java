@@ -0,0 +1,182 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+
+import java.util.Arrays;
+
+/**
+ * Minimum number of moves between every pair of squares for one piece on one board geometry.
+ *
+ * <p>The table is filled once by a breadth-first search from every square over the piece's
+ * {@link MoveStratergy} masks, expanding a whole frontier at a time with bitset ORs. Afterwards a distance
+ * is one array read, the squares reachable within {@code n} moves are one scan of the source's row, and a
+ * shortest path is walked greedily in {@code O(path)} steps: from each square, move to any target that is
+ * one move closer to the destination.</p>
+ */
+public final class DistanceTable {
+
+    /**
+     * Distance of a square the piece can never reach, e.g. a dark square for a bishop on a light one.
+     */
+    public static final int UNREACHABLE = -1;
+
+    /**
+     * Cache key of a table: the piece and the geometry it was built for.
+     */
+    public record Key(Board board, Pieces piece) {
+    }
+
+    private final Board board;
+
+    private final int squares;
+
+    /**
+     * Distance from {@code from} to {@code to} at {@code from * squares + to}; {@link #UNREACHABLE} as -1.
+     */
+    private final byte[] distances;
+
+    /**
+     * Empty-board move masks per square, shared with the strategy.
+     */
+    private final long[][] moves;
+
+    private DistanceTable(Board board, byte[] distances, long[][] moves) {
+        this.board = board;
+        this.squares = board.squareCount();
+        this.distances = distances;
+        this.moves = moves;
+    }
+
+    /**
+     * Compute the all-pairs distances of a piece on {@code board}.
+     *
+     * @param board    geometry to build the table for
+     * @param strategy move strategy of the piece
+     * @return the populated table
+     */
+    public static DistanceTable build(Board board, MoveStratergy strategy) {
+        int squares = board.squareCount();
+        int words = board.maskWords();
+        long[][] moves = new long[squares][];
+        for (int square = 0; square < squares; square++) {
+            moves[square] = strategy.getMovesMask(square, board);
+        }
+
+        byte[] distances = new byte[squares * squares];
+        Arrays.fill(distances, (byte) UNREACHABLE);
+        long[] visited = new long[words];
+        long[] frontier = new long[words];
+        long[] next = new long[words];
+        for (int from = 0; from < squares; from++) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(frontier, 0);
+            visited[from >>> 6] = frontier[from >>> 6] = 1L << from;
+            distances[from * squares + from] = 0;
+            // The longest distances, a king or pawn crossing a 32x32 board, are 31 moves, so a byte is enough
+            for (int distance = 1; ; distance++) {
+                Arrays.fill(next, 0);
+                for (int word = 0; word < words; word++) {
+                    for (long bits = frontier[word]; bits != 0; bits &= bits - 1) {
+                        long[] targets = moves[word * Long.SIZE + Long.numberOfTrailingZeros(bits)];
+                        for (int w = 0; w < words; w++) {
+                            next[w] |= targets[w];
+                        }
+                    }
+                }
+                boolean found = false;
+                for (int word = 0; word < words; word++) {
+                    next[word] &= ~visited[word];
+                    visited[word] |= next[word];
+                    for (long bits = next[word]; bits != 0; bits &= bits - 1) {
+                        distances[from * squares + word * Long.SIZE + Long.numberOfTrailingZeros(bits)] = (byte) distance;
+                        found = true;
+                    }
+                }
+                if (!found) {
+                    break;
+                }
+                long[] swap = frontier;
+                frontier = next;
+                next = swap;
+            }
+        }
+        return new DistanceTable(board, distances, moves);
+    }
+
+    /**
+     * Geometry this table was built for.
+     */
+    public Board board() {
+        return board;
+    }
+
+    /**
+     * Minimum number of moves from one square to another, 0 for the same square.
+     *
+     * @return the distance, or {@link #UNREACHABLE}
+     */
+    public int distance(int from, int to) {
+        return distances[from * squares + to];
+    }
+
+    /**
+     * Squares reachable from {@code from} in one to {@code moves} moves.
+     *
+     * @return a new mask, {@link Board#maskWords()} long; the starting square is not included
+     */
+    public long[] reachable(int from, int moves) {
+        long[] mask = new long[board.maskWords()];
+        int row = from * squares;
+        for (int to = 0; to < squares; to++) {
+            int distance = distances[row + to];
+            if (distance > 0 && distance <= moves) {
+                mask[to >>> 6] |= 1L << to;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * One shortest path between two squares. Where several exist, each step takes the lowest square index
+     * that is one move closer.
+     *
+     * @return the squares from {@code from} to {@code to}, both included; empty when {@code to} is unreachable
+     */
+    public int[] path(int from, int to) {
+        int distance = distance(from, to);
+        if (distance == UNREACHABLE) {
+            return new int[0];
+        }
+        int[] path = new int[distance + 1];
+        path[0] = from;
+        for (int step = 1, current = from; step <= distance; step++) {
+            current = closerTarget(current, to, distance - step);
+            path[step] = current;
+        }
+        return path;
+    }
+
+    /**
+     * First move target of {@code square} that lies {@code remaining} moves from {@code to}.
+     */
+    private int closerTarget(int square, int to, int remaining) {
+        long[] targets = moves[square];
+        for (int word = 0; word < targets.length; word++) {
+            for (long bits = targets[word]; bits != 0; bits &= bits - 1) {
+                int target = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                if (distances[target * squares + to] == remaining) {
+                    return target;
+                }
+            }
+        }
+        throw new IllegalStateException("Distance table is inconsistent at square " + square);
+    }
+
+    /**
+     * Approximate heap taken by the distances, for sizing the table cache.
+     */
+    public long sizeBytes() {
+        return distances.length;
+    }
+}
@@ -0,0 +1,27 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.engine.AttackTables;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+
+/**
+ * Move strategy for the King piece.
+ *
+ * <p>Registered under {@link Pieces#KING} by the {@code MoveStratergyFactory}.
+ * The King can move one square in any of the eight surrounding directions; those targets are
+ * precomputed per square in {@link AttackTables}, so a lookup is a single array read.</p>
+ */
+public class KingMoveStratergy implements MoveStratergy {
+
+    /**
+     * Return the precomputed king attack mask for the given square.
+     *
+     * @param square index of the square the king stands on
+     * @param board board whose geometry selects the attack tables
+     * @return mask of valid target squares the king can move to
+     */
+    @Override
+    public long[] getMovesMask(int square, Board board) {
+        return AttackTables.forBoard(board).mask(Pieces.KING, square);
+    }
+}
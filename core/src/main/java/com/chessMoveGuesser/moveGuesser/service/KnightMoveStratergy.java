@@ -0,0 +1,28 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.engine.AttackTables;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+
+/**
+ * Move strategy for the Knight piece.
+ *
+ * <p>Registered under {@link Pieces#KNIGHT} by the {@code MoveStratergyFactory}.</p>
+ *
+ * <p>The Knight jumps to the squares two rows and one column (or one row and two columns) away,
+ * regardless of the pieces in between. Those jump targets are precomputed per square in {@link
+ * AttackTables}, so a lookup is a single array read.</p>
+ */
+public class KnightMoveStratergy implements MoveStratergy {
+    /**
+     * Return the precomputed knight attack mask for the given square.
+     *
+     * @param square index of the square the knight stands on
+     * @param board board whose geometry selects the attack tables
+     * @return mask of valid target squares the knight can move to
+     */
+    @Override
+    public long[] getMovesMask(int square, Board board) {
+        return AttackTables.forBoard(board).mask(Pieces.KNIGHT, square);
+    }
+}
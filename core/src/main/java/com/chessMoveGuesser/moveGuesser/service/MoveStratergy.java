@@ -0,0 +1,40 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+
+import java.util.List;
+
+public interface MoveStratergy {
+
+    /**
+     * Compute the target squares of the piece as a bitset: square {@code i} (see
+     * {@link Board#squareIndex(Position)}) is bit {@code i % 64} of word {@code i / 64}.
+     *
+     * @param square index of the square the piece stands on
+     * @param board  board geometry; each side at most {@link Board#MAX_DIMENSION}
+     * @return attack mask of valid target squares, {@link Board#maskWords()} long; shared, so callers must
+     *         not modify it
+     */
+    public long[] getMovesMask(int square, Board board);
+
+    /**
+     * Target squares with other pieces on the board. Sliding pieces stop at the first occupied square in
+     * each direction and include it, since it may hold a piece to capture; whether it is an own piece is
+     * left to the caller. Pieces that step or jump are not blocked, so by default this is the empty-board
+     * mask.
+     *
+     * @param occupied occupied squares, in the same layout as the returned mask
+     * @return a new mask owned by the caller
+     */
+    public default long[] getMovesMask(int square, Board board, long[] occupied) {
+        return getMovesMask(square, board).clone();
+    }
+
+    /**
+     * List view of {@link #getMovesMask(int, Board)}, sorted by {@link Position#compareTo(Position)}.
+     */
+    public default List<Position> getMoves(Position position, Board board) {
+        return board.toPositions(getMovesMask(board.squareIndex(position), board));
+    }
+}
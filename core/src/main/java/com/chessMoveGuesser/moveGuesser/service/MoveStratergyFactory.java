@@ -0,0 +1,55 @@
+// java
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Factory that provides a {@link MoveStratergy} implementation for a given {@link Pieces} value.
+ *
+ * <p>The no-argument constructor registers the built-in strategy of every piece. Callers that want to
+ * replace or leave out a piece pass their own map instead. Strategies are stateless, so one factory can be
+ * shared by any number of threads.</p>
+ */
+public class MoveStratergyFactory {
+    /**
+     * Internal mapping from piece enum to its associated move strategy implementation.
+     */
+    private final Map<Pieces, MoveStratergy> moveStratergyMap;
+
+    /**
+     * Construct the factory with the built-in strategy of every piece.
+     */
+    public MoveStratergyFactory() {
+        this(Map.of(
+                Pieces.KING, new KingMoveStratergy(),
+                Pieces.QUEEN, new QueenMoveStratergy(),
+                Pieces.ROOK, new RookMoveStratergy(),
+                Pieces.BISHOP, new BishopMoveStratergy(),
+                Pieces.KNIGHT, new KnightMoveStratergy(),
+                Pieces.PAWN, new PawnMoveStratergy()));
+    }
+
+    /**
+     * Construct the factory from an explicit set of strategies.
+     *
+     * @param moveStratergyMap strategy to use for each piece; pieces left out have no strategy
+     */
+    public MoveStratergyFactory(Map<Pieces, MoveStratergy> moveStratergyMap) {
+        this.moveStratergyMap = moveStratergyMap.isEmpty()
+                ? new EnumMap<>(Pieces.class)
+                : new EnumMap<>(moveStratergyMap);
+    }
+
+    /**
+     * Retrieve the strategy for the requested piece.
+     *
+     * @param piece piece enum for which a strategy is required
+     * @return the corresponding MoveStratergy, or null if none is registered for the piece
+     */
+    public MoveStratergy getStrategy(Pieces piece) {
+        return moveStratergyMap.get(piece);
+    }
+}
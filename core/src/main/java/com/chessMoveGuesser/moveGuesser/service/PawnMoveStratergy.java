@@ -0,0 +1,48 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.engine.AttackTables;
+import com.chessMoveGuesser.moveGuesser.engine.Pawns;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+
+/**
+ * Move strategy for the Pawn piece.
+ *
+ * <p>Registered under {@link Pieces#PAWN} by the {@code MoveStratergyFactory}.</p>
+ *
+ * <p>Behavior:
+ * - Produces a single forward move by incrementing the row by 1 (assumes pawns move in the +row direction).
+ * - The target is precomputed per square in {@link AttackTables}; the mask is empty on the last row.
+ * </p>
+ *
+ * <p>This is the single-square special case of pawn movement: one pawn with no colour, which always moves
+ * towards higher rows. On 8x8 its mask is {@link Pawns#advance} of that square for white, and the
+ * occupancy overload is {@link Pawns#pushes}. Colour, double pushes, captures, promotion and en passant depend
+ * on a full position. {@link com.chessMoveGuesser.moveGuesser.engine.MoveGenerator} generates them for all
+ * pawns of a side at once with {@link Pawns}.</p>
+ */
+public class PawnMoveStratergy implements MoveStratergy {
+    /**
+     * Return the precomputed pawn move mask for the given square.
+     *
+     * @param square index of the square the pawn stands on
+     * @param board board whose geometry selects the attack tables
+     * @return mask of valid target squares (at most one in this implementation)
+     */
+    @Override
+    public long[] getMovesMask(int square, Board board) {
+        return AttackTables.forBoard(board).mask(Pieces.PAWN, square);
+    }
+
+    /**
+     * The forward step is not a capture, so an occupied target square removes it.
+     */
+    @Override
+    public long[] getMovesMask(int square, Board board, long[] occupied) {
+        long[] moves = getMovesMask(square, board).clone();
+        for (int word = 0; word < moves.length; word++) {
+            moves[word] &= ~occupied[word];
+        }
+        return moves;
+    }
+}
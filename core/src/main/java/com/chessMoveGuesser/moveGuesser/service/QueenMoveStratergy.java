@@ -0,0 +1,41 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.engine.AttackTables;
+import com.chessMoveGuesser.moveGuesser.engine.Magics;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+
+/**
+ * Move strategy for the Queen piece.
+ *
+ * <p>Registered under {@link Pieces#QUEEN} by the {@code MoveStratergyFactory}.</p>
+ *
+ * <p>The Queen combines the movement patterns of the Rook and Bishop: it can slide any number
+ * of squares along the eight cardinal and diagonal directions. On an empty board those rays only
+ * depend on the source square, so they are precomputed once per geometry in {@link AttackTables}.</p>
+ */
+public class QueenMoveStratergy implements MoveStratergy {
+    /**
+     * Return the precomputed queen attack mask for the given square.
+     *
+     * @param square index of the square the queen stands on
+     * @param board board whose geometry selects the attack tables
+     * @return mask of valid target squares the queen can move to
+     */
+    @Override
+    public long[] getMovesMask(int square, Board board) {
+        return AttackTables.forBoard(board).mask(Pieces.QUEEN, square);
+    }
+
+    /**
+     * Occupancy-aware queen attacks: a constant-time {@link Magics} lookup on the 8x8 board, a ray walk on
+     * other geometries.
+     */
+    @Override
+    public long[] getMovesMask(int square, Board board, long[] occupied) {
+        if (Magics.supports(board)) {
+            return new long[]{Magics.queen(square, occupied[0])};
+        }
+        return AttackTables.forBoard(board).slidingAttacks(Pieces.QUEEN, square, occupied);
+    }
+}
@@ -0,0 +1,41 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.engine.AttackTables;
+import com.chessMoveGuesser.moveGuesser.engine.Magics;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+
+/**
+ * Move strategy for the Rook piece.
+ *
+ * <p>Registered under {@link Pieces#ROOK} by the {@code MoveStratergyFactory}.</p>
+ *
+ * <p>The Rook slides any number of squares along its rank or file. Its rays are the orthogonal half of
+ * the per-direction rays the Queen uses, so both come from the same precomputed tables in {@link
+ * AttackTables}.</p>
+ */
+public class RookMoveStratergy implements MoveStratergy {
+    /**
+     * Return the precomputed rook attack mask for the given square.
+     *
+     * @param square index of the square the rook stands on
+     * @param board board whose geometry selects the attack tables
+     * @return mask of valid target squares the rook can move to
+     */
+    @Override
+    public long[] getMovesMask(int square, Board board) {
+        return AttackTables.forBoard(board).mask(Pieces.ROOK, square);
+    }
+
+    /**
+     * Occupancy-aware rook attacks: a constant-time {@link Magics} lookup on the 8x8 board, a ray walk on
+     * other geometries.
+     */
+    @Override
+    public long[] getMovesMask(int square, Board board, long[] occupied) {
+        if (Magics.supports(board)) {
+            return new long[]{Magics.rook(square, occupied[0])};
+        }
+        return AttackTables.forBoard(board).slidingAttacks(Pieces.ROOK, square, occupied);
+    }
+}
@@ -0,0 +1,57 @@
+package com.chessMoveGuesser.moveGuesser;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.service.DistanceTable;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergyFactory;
+import com.chessMoveGuesser.moveGuesser.service.RookMoveStratergy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGuesserTest {
+
+    private final MoveGuesser guesser = new MoveGuesser(new Board(8, 8));
+
+    private static List<String> names(List<Position> positions) {
+        return positions.stream().map(Position::toDto).toList();
+    }
+
+    @Test
+    void movesAreSortedPositions() {
+        assertEquals(List.of("A3", "C3", "D2"), names(guesser.moves(Pieces.KNIGHT, Position.parse("B1"))));
+        assertEquals(List.of("E5"), names(guesser.moves(Pieces.PAWN, Position.parse("E4"))));
+        assertEquals(27, guesser.moves(Pieces.QUEEN, Position.parse("D4")).size());
+    }
+
+    @Test
+    void reachableAndPathUseDistanceTables() {
+        assertEquals(List.of("A3", "C3", "D2"), names(guesser.reachable(Pieces.KNIGHT, Position.parse("B1"), 1)));
+        assertEquals(6, guesser.distance(Pieces.KNIGHT, Position.parse("A1"), Position.parse("H8")));
+        List<Position> path = guesser.path(Pieces.KNIGHT, Position.parse("A1"), Position.parse("H8"));
+        assertEquals(7, path.size());
+        assertEquals("A1", path.getFirst().toDto());
+        assertEquals("H8", path.getLast().toDto());
+
+        assertEquals(DistanceTable.UNREACHABLE, guesser.distance(Pieces.PAWN, Position.parse("E4"), Position.parse("E3")));
+        assertTrue(guesser.path(Pieces.PAWN, Position.parse("E4"), Position.parse("E3")).isEmpty());
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        assertThrows(PostionOutOfBoardException.class, () -> guesser.moves(Pieces.KING, Position.parse("I1")));
+        assertThrows(InvalidParameterException.class, () -> guesser.reachable(Pieces.KING, Position.parse("A1"), -1));
+        assertThrows(InvalidParameterException.class, () -> new MoveGuesser(new Board(0, 8)));
+
+        MoveGuesser rooksOnly = new MoveGuesser(new Board(8, 8),
+                new MoveStratergyFactory(Map.of(Pieces.ROOK, new RookMoveStratergy())));
+        assertEquals(14, rooksOnly.moves(Pieces.ROOK, Position.parse("A1")).size());
+        assertThrows(InvalidParameterException.class, () -> rooksOnly.moves(Pieces.KING, Position.parse("A1")));
+    }
+}
@@ -0,0 +1,151 @@
+package com.chessMoveGuesser.moveGuesser.analysis;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.MoveGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpdAnalyzerTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w -";
+
+    private static final String SUITE = """
+            # perft suite
+            rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - ;D1 20 ;D2 400 ;D3 8902
+            %s ;D1 48 ;D2 2039\r
+
+            %s - D2 191; id "position 3";
+            8/8/8/8/8/8/8/8 w - - 0 1
+            4k3/8/8/8/8/8/8/4K3 w - - bm Kd2; D2 99;
+            """.formatted(KIWIPETE, POSITION_3);
+
+    private static ForkJoinPool pool;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(3);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    private List<String> run(String epd, EpdAnalyzer.Options options, int chunkBytes, EpdAnalyzer.Summary[] summary)
+            throws Exception {
+        Path input = directory.resolve("positions.epd");
+        Files.writeString(input, epd, StandardCharsets.US_ASCII);
+        Path output = directory.resolve("results.tsv");
+        summary[0] = EpdAnalyzer.analyze(input, output, options, pool, chunkBytes);
+        List<String> lines = Files.readAllLines(output, StandardCharsets.US_ASCII);
+        assertEquals(EpdAnalyzer.HEADER.strip(), lines.getFirst());
+        return lines.subList(1, lines.size());
+    }
+
+    @Test
+    void suite_movesPerftAndChecks() throws Exception {
+        EpdAnalyzer.Summary[] summary = new EpdAnalyzer.Summary[1];
+        List<String> lines = run(SUITE, new EpdAnalyzer.Options(2, true), EpdAnalyzer.CHUNK_BYTES, summary);
+
+        assertEquals(5, lines.size());
+        String[] start = lines.get(0).split("\t");
+        assertEquals("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq -", start[0]);
+        assertEquals("20", start[1]);
+        assertEquals(20, start[2].split(" ").length);
+        assertTrue(start[2].contains("e2e4") && start[2].contains("g1f3"));
+        assertEquals("400", start[3]);
+        assertEquals("ok", start[4]);
+
+        assertEquals(KIWIPETE + "\t48", lines.get(1).substring(0, lines.get(1).indexOf('\t', KIWIPETE.length() + 1)));
+        assertTrue(lines.get(1).endsWith("\t2039\tok"));
+        assertTrue(lines.get(2).startsWith(POSITION_3 + " -\t14\t"));
+        assertTrue(lines.get(2).endsWith("\t191\tok"));
+        assertTrue(lines.get(3).startsWith("8/8/8/8/8/8/8/8 w - - 0 1\t-\t-\t-\tinvalid: "));
+        assertTrue(lines.get(4).startsWith("4k3/8/8/8/8/8/8/4K3 w - -\t5\t"));
+        assertTrue(lines.get(4).endsWith("\t25\texpected 99"));
+
+        assertEquals(4, summary[0].positions());
+        assertEquals(1, summary[0].invalid());
+        assertEquals(1, summary[0].mismatches());
+        assertEquals(400 + 2039 + 191 + 25, summary[0].perftNodes());
+        assertEquals(SUITE.length(), summary[0].bytesRead());
+    }
+
+    @Test
+    void manySmallChunks_keepInputOrder() throws Exception {
+        // Every position after a different number of plies from the start, so each line is distinct
+        List<String> fens = new ArrayList<>();
+        BoardState state = BoardState.startPosition();
+        for (int ply = 0; ply < 300; ply++) {
+            fens.add(state.toFen());
+            int[] moves = MoveGenerator.legalMoves(state);
+            if (moves.length == 0) {
+                state = BoardState.startPosition();
+            } else {
+                state.makeMove(moves[ply % moves.length]);
+            }
+        }
+        String epd = String.join("\n", fens);
+
+        EpdAnalyzer.Summary[] summary = new EpdAnalyzer.Summary[1];
+        List<String> lines = run(epd, new EpdAnalyzer.Options(0, false), 200, summary);
+
+        assertEquals(fens.size(), lines.size());
+        for (int i = 0; i < fens.size(); i++) {
+            String[] columns = lines.get(i).split("\t");
+            assertEquals(fens.get(i), columns[0]);
+            assertEquals(String.valueOf(MoveGenerator.legalMoves(BoardState.fromFen(fens.get(i))).length), columns[1]);
+            assertEquals("-", columns[2]);
+            assertEquals("-", columns[3]);
+        }
+        assertEquals(fens.size(), summary[0].positions());
+    }
+
+    @Test
+    void failingLine_reportedInPlace() {
+        // A move buffer too small for the start position fails generation on that line only
+        String epd = "4k3/8/8/8/8/8/8/4K3 w - - ;D1 5\n"
+                + "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - ;D1 20\n"
+                + "4k3/8/8/8/8/8/8/3RK3 w - -\n";
+        byte[] data = epd.getBytes(StandardCharsets.US_ASCII);
+        EpdAnalyzer.Result result = EpdAnalyzer.analyzeChunk(data, data.length, new EpdAnalyzer.Options(1, true),
+                new int[16]);
+
+        List<String> lines = new String(result.output(), StandardCharsets.US_ASCII).lines().toList();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).endsWith("\t5\tok"));
+        assertTrue(lines.get(1).startsWith("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq -\t-\t-\t-\t"
+                + "invalid: java.lang.ArrayIndexOutOfBoundsException"), lines.get(1));
+        assertTrue(lines.get(2).startsWith("4k3/8/8/8/8/8/8/3RK3 w - -\t"));
+        assertEquals(2, result.positions());
+        assertEquals(1, result.invalid());
+        assertEquals(5 + Long.parseLong(lines.get(2).split("\t")[3]), result.perftNodes());
+    }
+
+    @Test
+    void splitRecord_separatesFenFromOperations() {
+        assertArrayEquals(new String[]{"8/8/8/8/8/8/8/8 w - -", "bm Kd2;"},
+                EpdAnalyzer.splitRecord("8/8/8/8/8/8/8/8 w - - bm Kd2;"));
+        assertArrayEquals(new String[]{"8/8/8/8/8/8/8/8 b - - 3 40", ";D1 5"},
+                EpdAnalyzer.splitRecord("8/8/8/8/8/8/8/8 b - - 3 40 ;D1 5"));
+        assertArrayEquals(new String[]{"8/8/8/8/8/8/8/8 w - -", "7; D1 5"},
+                EpdAnalyzer.splitRecord("8/8/8/8/8/8/8/8 w - - 7; D1 5"));
+        assertEquals(5, EpdAnalyzer.expectedPerft(";D1 5 ;D2 40", 1));
+        assertEquals(-1, EpdAnalyzer.expectedPerft("bm Kd2; id \"x\";", 1));
+    }
+}
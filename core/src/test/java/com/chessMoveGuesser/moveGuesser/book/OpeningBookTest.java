@@ -0,0 +1,140 @@
+package com.chessMoveGuesser.moveGuesser.book;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.Move;
+import com.chessMoveGuesser.moveGuesser.engine.San;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningBookTest {
+
+    private static final String GAMES = """
+            [Event "Casual"]
+            [Site "?"]
+            [Result "1-0"]
+
+            1. e4 e5 2. Nf3 {the main line} Nc6 (2... d6 3. d4) 3. Bb5 a6 $1 1-0
+
+            [Event "Casual"]
+            [Result "1/2-1/2"]
+
+            1.e4 e5 2.Nf3 Nf6 3.Nxe5 d6 4.Nf3 Nxe4 1/2-1/2
+
+            [Event "Casual"]
+            [Result "0-1"]
+
+            1. d4 d5 2. c4 e6; Queen's Gambit Declined
+            3. Nc3 Nf6 0-1
+
+            [Event "Unfinished"]
+            [Result "*"]
+
+            1. e4 c5 *
+
+            [Event "Odds"]
+            [SetUp "1"]
+            [FEN "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBN1 w Qkq - 0 1"]
+            [Result "1-0"]
+
+            1. e4 e5 1-0
+            """;
+
+    @TempDir
+    Path directory;
+
+    private OpeningBook build(String pgn, int maxPly, int minGames, int threads) throws Exception {
+        Path input = directory.resolve("games.pgn");
+        Files.writeString(input, pgn, StandardCharsets.US_ASCII);
+        Path output = directory.resolve("book.bin");
+        BookIngester.Summary summary = BookIngester.ingest(List.of(input), output, maxPly, minGames, threads);
+        assertEquals(3, summary.games());
+        assertEquals(2, summary.skipped());
+        return OpeningBook.open(output);
+    }
+
+    private static long keyAfter(String... san) {
+        BoardState state = BoardState.startPosition();
+        for (String move : san) {
+            state.makeMove(San.parse(state, move));
+        }
+        return state.key();
+    }
+
+    @Test
+    void ingest_countsMovesAndResultsPerPosition() throws Exception {
+        OpeningBook book = build(GAMES, 30, 1, 2);
+
+        assertEquals(3, book.games());
+        List<OpeningBook.Entry> start = book.lookup(keyAfter());
+        assertEquals(2, start.size());
+        assertEquals("e2e4", Move.toUci(start.get(0).move()));
+        assertEquals(new OpeningBook.Entry(start.get(0).move(), 1, 1, 0), start.get(0));
+        assertEquals("d2d4", Move.toUci(start.get(1).move()));
+        assertEquals(1, start.get(1).blackWins());
+
+        // Only the main line counts, not the variation 2... d6
+        List<OpeningBook.Entry> afterNf3 = book.lookup(keyAfter("e4", "e5", "Nf3"));
+        assertEquals(List.of("b8c6", "g8f6"), afterNf3.stream().map(e -> Move.toUci(e.move())).sorted().toList());
+        assertEquals(1, book.lookup(keyAfter("d4", "d5", "c4", "e6")).size());
+        assertTrue(book.lookup(keyAfter("e4", "c5")).isEmpty());
+    }
+
+    @Test
+    void ingest_respectsMaxPlyAndMinGames() throws Exception {
+        OpeningBook book = build(GAMES, 2, 2, 1);
+
+        // Only 1. e4 e5 was played twice within the first two plies
+        assertEquals(2, book.entryCount());
+        assertEquals(2, book.lookup(keyAfter()).get(0).games());
+        assertEquals(2, book.lookup(keyAfter("e4")).get(0).games());
+        assertTrue(book.lookup(keyAfter("e4", "e5")).isEmpty());
+    }
+
+    @Test
+    void ingest_replaysAtMostTheBoardHistory() throws Exception {
+        // Knights shuffling back and forth: 1032 plies, longer than a BoardState can take back
+        Path input = directory.resolve("long.pgn");
+        Files.writeString(input, "[Result \"1/2-1/2\"]\n\n" + "Nf3 Nf6 Ng1 Ng8 ".repeat(258) + "1/2-1/2\n",
+                StandardCharsets.US_ASCII);
+        Path output = directory.resolve("long.bin");
+
+        BookIngester.Summary summary = BookIngester.ingest(List.of(input), output, BoardState.MAX_PLY, 1, 1);
+        assertEquals(1, summary.games());
+        // The start position recurs every four plies of the 1024 replayed
+        assertEquals(BoardState.MAX_PLY / 4, OpeningBook.open(output).lookup(keyAfter()).get(0).games());
+        assertThrows(IllegalArgumentException.class,
+                () -> BookIngester.ingest(List.of(input), output, BoardState.MAX_PLY + 1, 1, 1));
+    }
+
+    @Test
+    void ingest_splitsLargeInputsAtGameBoundaries() throws Exception {
+        String game = GAMES.substring(0, GAMES.indexOf("[Event \"Unfinished\"]"));
+        int copies = BookIngester.CHUNK_BYTES / game.length() * 3 + 7;
+        Path input = directory.resolve("large.pgn");
+        Files.writeString(input, game.repeat(copies), StandardCharsets.US_ASCII);
+        Path output = directory.resolve("large.bin");
+
+        BookIngester.Summary summary = BookIngester.ingest(List.of(input), output, 4, 1, 3);
+
+        assertEquals(3L * copies, summary.games());
+        assertEquals(0, summary.skipped());
+        OpeningBook book = OpeningBook.open(output);
+        assertEquals(2L * copies, book.lookup(keyAfter()).get(0).games());
+    }
+
+    @Test
+    void open_rejectsOtherFiles() throws IOException {
+        Path file = directory.resolve("games.pgn");
+        Files.writeString(file, GAMES);
+
+        assertThrows(IOException.class, () -> OpeningBook.open(file));
+    }
+}
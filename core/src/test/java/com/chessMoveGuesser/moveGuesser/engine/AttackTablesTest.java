@@ -0,0 +1,49 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttackTablesTest {
+
+    @Test
+    void concurrentCallers_shareOneBuildPerGeometry() throws Exception {
+        int[] sizes = {29, 30, 31};
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AttackTables>> lookups = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(6)) {
+            for (int i = 0; i < 12; i++) {
+                int size = sizes[i % sizes.length];
+                lookups.add(executor.submit(() -> {
+                    start.await();
+                    return AttackTables.forBoard(new Board(size, size));
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < lookups.size(); i++) {
+                int size = sizes[i % sizes.length];
+                assertSame(AttackTables.forBoard(new Board(size, size)), lookups.get(i).get());
+            }
+        }
+        long[] corner = AttackTables.forBoard(new Board(30, 30)).mask(Pieces.KNIGHT, 0);
+        assertEquals(2, Arrays.stream(corner).map(Long::bitCount).sum());
+    }
+
+    @Test
+    void unsupportedGeometry_rejectedEveryTime() {
+        Board board = new Board(Board.MAX_DIMENSION + 1, 8);
+        assertThrows(IllegalArgumentException.class, () -> AttackTables.forBoard(board));
+        assertThrows(IllegalArgumentException.class, () -> AttackTables.forBoard(board));
+        assertNotNull(AttackTables.forBoard(new Board(8, 8)));
+    }
+}
@@ -0,0 +1,38 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MagicsTest {
+
+    @Test
+    void lookups_matchRayWalk_forRandomOccupancies() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 2_000; i++) {
+            // Vary the density from nearly empty to nearly full
+            long occupied = random.nextLong() & random.nextLong() | (i % 3 == 0 ? random.nextLong() : 0);
+            for (int square = 0; square < 64; square++) {
+                assertEquals(Attacks.rookByRays(square, occupied), Magics.rook(square, occupied));
+                assertEquals(Attacks.bishopByRays(square, occupied), Magics.bishop(square, occupied));
+            }
+        }
+    }
+
+    @Test
+    void blockers_stopTheRay_andAreIncluded() {
+        int d4 = 3 * 8 + 3;
+        long d6 = 1L << (3 * 8 + 5);
+        long f4 = 1L << (5 * 8 + 3);
+
+        long attacks = Magics.rook(d4, d6 | f4);
+
+        assertEquals(d6, attacks & d6);
+        assertEquals(f4, attacks & f4);
+        assertEquals(0, attacks & 1L << (3 * 8 + 6));
+        assertEquals(0, attacks & 1L << (6 * 8 + 3));
+        assertEquals(Long.bitCount(Attacks.rookRays(d4)), Long.bitCount(Magics.rook(d4, 0)));
+    }
+}
@@ -0,0 +1,102 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidFenException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Legal move generation checked against published perft node counts
+ * (https://www.chessprogramming.org/Perft_Results).
+ */
+class MoveGeneratorTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+    private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    private static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+    private static final String POSITION_6 = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    private static long perft(BoardState state, int depth, int[] moves, int offset) {
+        int end = MoveGenerator.generate(state, moves, offset);
+        if (depth == 1) {
+            return end - offset;
+        }
+        long nodes = 0;
+        for (int i = offset; i < end; i++) {
+            state.makeMove(moves[i]);
+            nodes += perft(state, depth - 1, moves, end);
+            state.unmakeMove(moves[i]);
+        }
+        return nodes;
+    }
+
+    private static long perft(String fen, int depth) {
+        BoardState state = BoardState.fromFen(fen);
+        String before = state.toFen();
+        long nodes = perft(state, depth, new int[MoveGenerator.MAX_MOVES * (depth + 1)], 0);
+        // make/unmake must restore the position exactly
+        assertEquals(before, state.toFen());
+        return nodes;
+    }
+
+    @Test
+    void startPosition_matchesReferenceCounts() {
+        assertEquals(20, perft(BoardState.START_FEN, 1));
+        assertEquals(400, perft(BoardState.START_FEN, 2));
+        assertEquals(8_902, perft(BoardState.START_FEN, 3));
+        assertEquals(197_281, perft(BoardState.START_FEN, 4));
+    }
+
+    @Test
+    void kiwipete_coversCastlingEnPassantAndPromotions() {
+        assertEquals(48, perft(KIWIPETE, 1));
+        assertEquals(2_039, perft(KIWIPETE, 2));
+        assertEquals(97_862, perft(KIWIPETE, 3));
+    }
+
+    @Test
+    void endgame_coversPinsAndDiscoveredEnPassantChecks() {
+        assertEquals(14, perft(POSITION_3, 1));
+        assertEquals(2_812, perft(POSITION_3, 3));
+        assertEquals(43_238, perft(POSITION_3, 4));
+    }
+
+    @Test
+    void promotionAndCheckHeavyPositions_matchReferenceCounts() {
+        assertEquals(9_467, perft(POSITION_4, 3));
+        assertEquals(62_379, perft(POSITION_5, 3));
+        assertEquals(89_890, perft(POSITION_6, 3));
+    }
+
+    @Test
+    void legalMoves_rendersUciNotation() {
+        BoardState state = BoardState.fromFen("4k3/P7/8/8/8/8/8/4K3 w - - 0 1");
+        String[] moves = Arrays.stream(MoveGenerator.legalMoves(state)).mapToObj(Move::toUci).sorted().toArray(String[]::new);
+        assertArrayEquals(new String[]{"a7a8b", "a7a8n", "a7a8q", "a7a8r", "e1d1", "e1d2", "e1e2", "e1f1", "e1f2"}, moves);
+    }
+
+    @Test
+    void invalidFen_throwsInvalidFenException() {
+        assertThrows(InvalidFenException.class, () -> BoardState.fromFen("8/8/8/8/8/8/8/8 w - - 0 1"));
+        assertThrows(InvalidFenException.class, () -> BoardState.fromFen("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq -"));
+        assertThrows(InvalidFenException.class, () -> BoardState.fromFen("4k3/8/8/8/8/8/8/4K2r b - - 0 1"));
+    }
+
+    @Test
+    void unreachableMaterial_throwsInvalidFenException() {
+        // 271 legal moves, more than any game position has and than MAX_MOVES holds
+        assertThrows(InvalidFenException.class,
+                () -> BoardState.fromFen("KQQQQQQQ/Q6Q/Q6Q/Q6Q/Q6Q/Q6Q/Q5RB/QQQQQQBk w - - 0 1"));
+        // Nine pawns; and a third knight with all eight pawns still on the board
+        assertThrows(InvalidFenException.class, () -> BoardState.fromFen("4k3/8/8/8/8/P7/PPPPPPPP/4K3 w - - 0 1"));
+        assertThrows(InvalidFenException.class, () -> BoardState.fromFen("4k3/8/8/8/8/N7/PPPPPPPP/NN2K3 w - - 0 1"));
+
+        // Eight promotions from eight missing pawns: the 218-move record position
+        BoardState record = BoardState.fromFen("R6R/3Q4/1Q4Q1/4Q3/2Q4Q/Q4Q2/pp1Q4/kBNN1KB1 w - - 0 1");
+        assertEquals(218, MoveGenerator.legalMoves(record).length);
+        assertEquals(218, Perft.perft(record, 1));
+    }
+}
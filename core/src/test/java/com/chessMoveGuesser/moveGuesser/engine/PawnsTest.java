@@ -0,0 +1,61 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import com.chessMoveGuesser.moveGuesser.service.PawnMoveStratergy;
+import org.junit.jupiter.api.Test;
+
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.BLACK;
+import static com.chessMoveGuesser.moveGuesser.engine.BoardState.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PawnsTest {
+
+    private static long squares(String... names) {
+        long set = 0;
+        for (String name : names) {
+            set |= 1L << BoardState.square(name.charAt(0) - 'a', name.charAt(1) - '1');
+        }
+        return set;
+    }
+
+    @Test
+    void setwiseAttacksMatchThePerSquareTable() {
+        for (int color = WHITE; color <= BLACK; color++) {
+            long all = 0;
+            for (int square = 0; square < 64; square++) {
+                assertEquals(Attacks.pawn(color, square), Pawns.attacks(color, 1L << square), "square " + square);
+                all |= Attacks.pawn(color, square);
+            }
+            assertEquals(all, Pawns.attacks(color, ~0L));
+            assertEquals(Pawns.attacks(color, ~0L), Pawns.westAttacks(color, ~0L) | Pawns.eastAttacks(color, ~0L));
+        }
+    }
+
+    @Test
+    void pushesStopAtOccupiedSquaresAndNeverWrap() {
+        long pawns = squares("a2", "b2", "c7", "h8");
+        long occupied = pawns | squares("b3", "a4");
+
+        long pushes = Pawns.pushes(WHITE, pawns, ~occupied);
+        assertEquals(squares("a3", "c8"), pushes);
+        assertEquals(0, Pawns.doublePushes(WHITE, pushes, ~occupied));
+        assertEquals(squares("a4"), Pawns.doublePushes(WHITE, pushes, ~squares("b3")));
+
+        long black = squares("d7", "e7", "a1");
+        long blackPushes = Pawns.pushes(BLACK, black, ~squares("e6"));
+        assertEquals(squares("d6"), blackPushes);
+        assertEquals(squares("d5"), Pawns.doublePushes(BLACK, blackPushes, ~0L));
+        assertEquals(squares("a2", "c2"), Pawns.attacks(WHITE, squares("b1")));
+        assertEquals(squares("b7"), Pawns.attacks(BLACK, squares("a8")));
+    }
+
+    @Test
+    void singleSquareStrategyIsTheWhiteSpecialCase() {
+        PawnMoveStratergy strategy = new PawnMoveStratergy();
+        long occupied = squares("e5", "a2", "h8");
+        for (int square = 0; square < 64; square++) {
+            assertEquals(Pawns.advance(WHITE, 1L << square), strategy.getMovesMask(square, Attacks.CHESS_BOARD)[0]);
+            assertEquals(Pawns.pushes(WHITE, 1L << square, ~occupied),
+                    strategy.getMovesMask(square, Attacks.CHESS_BOARD, new long[]{occupied})[0]);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void divide_splitsAcrossThreads_andMatchesReferenceCounts() {
+        Perft.Result result = Perft.divide(BoardState.fromFen(KIWIPETE), 4, pool, null);
+
+        assertEquals(4_085_603, result.nodes());
+        assertEquals(48, result.divide().size());
+        assertEquals(result.nodes(), result.divide().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void divide_withHashTable_matchesReferenceCounts() {
+        TranspositionTable table = new TranspositionTable(16);
+
+        assertEquals(674_624, Perft.divide(BoardState.fromFen(POSITION_3), 5, pool, table).nodes());
+        // A second run is served largely from the table and must not change the answer
+        assertEquals(674_624, Perft.divide(BoardState.fromFen(POSITION_3), 5, pool, table).nodes());
+        assertEquals(4_865_609, Perft.divide(BoardState.startPosition(), 5, pool, table).nodes());
+        assertTrue(table.stats().hits() > 0);
+    }
+
+    @Test
+    void incrementalZobristKey_matchesKeyOfFreshlyParsedPosition() {
+        BoardState state = BoardState.fromFen(KIWIPETE);
+        assertKeysConsistent(state, 3);
+    }
+
+    private static void assertKeysConsistent(BoardState state, int depth) {
+        assertEquals(BoardState.fromFen(state.toFen()).key(), state.key(), state::toFen);
+        if (depth == 0) {
+            return;
+        }
+        for (int move : MoveGenerator.legalMoves(state)) {
+            state.makeMove(move);
+            assertKeysConsistent(state, depth - 1);
+            state.unmakeMove(move);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SanTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    private static final String TWO_KNIGHTS = "4k3/8/8/2N5/8/2N1N3/8/4K3 w - - 0 1";
+
+    @Test
+    void parse_resolvesPawnPieceAndCastlingMoves() {
+        BoardState state = BoardState.fromFen(KIWIPETE);
+
+        assertEquals("d5e6", Move.toUci(San.parse(state, "dxe6")));
+        assertEquals("e5f7", Move.toUci(San.parse(state, "Nxf7!?")));
+        assertEquals("c3b1", Move.toUci(San.parse(state, "Ncb1")));
+        assertEquals("e1g1", Move.toUci(San.parse(state, "O-O")));
+        assertEquals("e1c1", Move.toUci(San.parse(state, "0-0-0")));
+        assertEquals("f3f6", Move.toUci(San.parse(state, "Qxf6")));
+    }
+
+    @Test
+    void parse_promotionWithOrWithoutEquals() {
+        BoardState state = BoardState.fromFen(POSITION_4).copy();
+        state.makeMove(San.parse(state, "Qb3"));
+
+        assertEquals("b2a1q", Move.toUci(San.parse(state, "bxa1=Q")));
+        assertEquals("b2a1n", Move.toUci(San.parse(state, "bxa1N+")));
+        assertEquals("b2b1r", Move.toUci(San.parse(state, "b1=R")));
+    }
+
+    @Test
+    void parse_rejectsIllegalAndAmbiguousMoves() {
+        BoardState state = BoardState.fromFen(KIWIPETE);
+
+        assertEquals(Move.NONE, San.parse(state, "e5"));
+        assertEquals(Move.NONE, San.parse(BoardState.fromFen(TWO_KNIGHTS), "Nd5"));
+        assertEquals(Move.NONE, San.parse(state, "Kb8"));
+        assertEquals(Move.NONE, San.parse(state, "e8=K"));
+        assertEquals(Move.NONE, San.parse(state, "x"));
+    }
+
+    @Test
+    void toSan_roundTripsEveryLegalMove() {
+        for (String fen : new String[]{BoardState.START_FEN, KIWIPETE, POSITION_4, TWO_KNIGHTS}) {
+            BoardState state = BoardState.fromFen(fen);
+            for (int move : MoveGenerator.legalMoves(state)) {
+                String san = San.toSan(state, move);
+                assertEquals(move, San.parse(state, san), fen + " " + san);
+            }
+        }
+    }
+
+    @Test
+    void toSan_addsDisambiguationAndCheckMarks() {
+        BoardState knights = BoardState.fromFen(TWO_KNIGHTS);
+        BoardState mate = BoardState.fromFen("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        BoardState check = BoardState.fromFen("6k1/8/8/8/8/8/8/R5K1 w - - 0 1");
+
+        assertEquals("Ncd5", San.toSan(knights, San.parse(knights, "Ncd5")));
+        assertEquals("N3e4", San.toSan(knights, San.parse(knights, "N3e4")));
+        assertEquals("Ra8#", San.toSan(mate, San.parse(mate, "Ra8")));
+        assertEquals("Ra8+", San.toSan(check, San.parse(check, "Ra8")));
+    }
+}
@@ -0,0 +1,88 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchTest {
+
+    private static final long TEN_SECONDS = TimeUnit.SECONDS.toNanos(10);
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void search_findsBackRankMate() {
+        Search.Result result = Search.search(BoardState.fromFen("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"), 4,
+                TEN_SECONDS, 1, pool, new TranspositionTable(1));
+
+        assertEquals("a1a8", Move.toUci(result.bestMove()));
+        assertEquals(Search.MATE - 1, result.score());
+        assertTrue(Search.isMate(result.score()));
+    }
+
+    @Test
+    void search_takesHangingQueen() {
+        Search.Result result = Search.search(BoardState.fromFen("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1"), 4,
+                TEN_SECONDS, 1, pool, new TranspositionTable(1));
+
+        assertEquals("d2d5", Move.toUci(result.bestMove()));
+        assertTrue(result.score() > 300);
+        assertEquals(result.bestMove(), result.pv()[0]);
+    }
+
+    @Test
+    void search_stalemate_hasNoMoveAndDrawScore() {
+        Search.Result result = Search.search(BoardState.fromFen("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1"), 4,
+                TEN_SECONDS, 1, pool, new TranspositionTable(1));
+
+        assertEquals(Move.NONE, result.bestMove());
+        assertEquals(0, result.score());
+        assertEquals(0, result.pv().length);
+    }
+
+    @Test
+    void search_withHelperThreads_returnsLegalMoveAndReportsEveryDepth() {
+        BoardState root = BoardState.fromFen(BoardState.START_FEN);
+        Search.Result result = Search.search(root, 5, TEN_SECONDS, 4, pool, new TranspositionTable(4));
+
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generate(root, moves, 0);
+        boolean legal = false;
+        for (int i = 0; i < count; i++) {
+            legal |= moves[i] == result.bestMove();
+        }
+        assertTrue(legal);
+        assertEquals(4, result.threads());
+        assertEquals(5, result.depth());
+        assertEquals(5, result.iterations().size());
+        for (int i = 1; i < result.iterations().size(); i++) {
+            assertTrue(result.iterations().get(i).nodes() >= result.iterations().get(i - 1).nodes());
+        }
+    }
+
+    @Test
+    void search_stopsAtDeadline() {
+        long start = System.nanoTime();
+        Search.Result result = Search.search(BoardState.fromFen(BoardState.START_FEN), Search.MAX_DEPTH,
+                TimeUnit.MILLISECONDS.toNanos(200), 2, pool, new TranspositionTable(4));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertNotEquals(Move.NONE, result.bestMove());
+        assertTrue(result.depth() >= 1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.chessMoveGuesser.moveGuesser.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void store_thenProbe_returnsPayloadAndDepth() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(0x1234_5678_9ABC_DEF0L, 7, 0);
+        table.store(0x0FED_CBA9_8765_4321L, 3, TranspositionTable.MAX_PAYLOAD);
+
+        long data = table.probe(0x1234_5678_9ABC_DEF0L);
+        assertEquals(0, TranspositionTable.payload(data));
+        assertEquals(7, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.MAX_PAYLOAD, TranspositionTable.payload(table.probe(0x0FED_CBA9_8765_4321L)));
+        assertEquals(TranspositionTable.NOT_FOUND, table.probe(42L));
+        assertEquals(new TranspositionTable.Stats(1 << 20, 2, 1, 0), table.stats());
+    }
+
+    @Test
+    void fullBucket_evictsShallowestEntry_andCountsCollision() {
+        TranspositionTable table = new TranspositionTable(1);
+        long buckets = (1 << 20) / 64;
+        // Five keys that all map to bucket 0
+        for (int i = 1; i <= 5; i++) {
+            table.store(i * buckets, i == 2 ? 1 : 10, i);
+        }
+
+        assertEquals(TranspositionTable.NOT_FOUND, table.probe(2 * buckets));
+        assertEquals(5, TranspositionTable.payload(table.probe(5 * buckets)));
+        assertEquals(1, table.stats().collisions());
+    }
+
+    @Test
+    void olderGenerations_areReplacedFirst() {
+        TranspositionTable table = new TranspositionTable(1);
+        long buckets = (1 << 20) / 64;
+        table.store(buckets, 12, 1);
+        table.newGeneration();
+        for (int i = 2; i <= 5; i++) {
+            table.store(i * buckets, 10, i);
+        }
+
+        assertEquals(TranspositionTable.NOT_FOUND, table.probe(buckets));
+    }
+}
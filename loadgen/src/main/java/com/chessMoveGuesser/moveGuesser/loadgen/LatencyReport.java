@@ -0,0 +1,101 @@
+package com.chessMoveGuesser.moveGuesser.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+/**
+ * Result of one load run as plain text meant to be kept and diffed between builds.
+ *
+ * <p>The layout is fixed: the run's settings, the counts, a short percentile table for both histograms and
+ * then the full HdrHistogram percentile distribution of the corrected latency. Lines only change when the
+ * measurement does, so {@code diff before.txt after.txt} shows exactly what a change did to the tail.</p>
+ *
+ * @param options   settings of the run
+ * @param latency   nanoseconds from each request's intended start to its response, so queueing behind a slow
+ *                  response counts (corrected for coordinated omission)
+ * @param service   nanoseconds from each request's actual send to its response
+ * @param errors    requests that failed or timed out without a response
+ * @param statuses  responses by HTTP status
+ */
+public record LatencyReport(LoadOptions options, Histogram latency, Histogram service, long errors,
+                            SortedMap<Integer, Long> statuses) {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Responses received in the recorded part of the run, whatever their status.
+     */
+    public long responses() {
+        return service.getTotalCount();
+    }
+
+    public String format() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        line(out, "url", options.url());
+        line(out, "mode", options.mode().name().toLowerCase(Locale.ROOT));
+        line(out, "rate", options.rate() > 0 ? number(options.rate()) + "/s" : "unpaced");
+        line(out, "concurrency", options.concurrency());
+        line(out, "warmup", options.warmup().toMillis() + " ms");
+        line(out, "duration", options.duration().toMillis() + " ms");
+        line(out, "pieces", mix(options.pieces()));
+        line(out, "squares", mix(options.squares()));
+        line(out, "board", options.rows() > 0 || options.columns() > 0
+                ? options.rows() + "x" + options.columns() : "server default");
+        line(out, "format", options.binary() ? "binary" : "text");
+        line(out, "seed", options.seed());
+        out.println();
+        line(out, "responses", responses());
+        line(out, "errors", errors);
+        statuses.forEach((status, count) -> line(out, "status " + status, count));
+        line(out, "throughput", number(responses() / (options.duration().toNanos() / 1e9)) + "/s");
+        out.println();
+        percentiles(out, "latency ms (corrected)", latency);
+        percentiles(out, "service time ms", service);
+        out.println();
+        out.println("corrected latency distribution (ms)");
+        latency.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void percentiles(PrintStream out, String title, Histogram histogram) {
+        out.println(title);
+        for (double percentile : PERCENTILES) {
+            line(out, "  p" + number(percentile), millis(histogram.getValueAtPercentile(percentile)));
+        }
+        line(out, "  max", millis(histogram.getMaxValue()));
+        line(out, "  mean", String.format(Locale.ROOT, "%.3f", histogram.getMean() / NANOS_PER_MILLI));
+    }
+
+    private static void line(PrintStream out, String name, Object value) {
+        out.printf(Locale.ROOT, "%-24s %s%n", name, value);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * A number to two decimals without trailing zeros: {@code 1000}, {@code 99.9}, {@code 99.99}.
+     */
+    private static String number(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+    }
+
+    private static String mix(Map<String, Integer> weights) {
+        return weights.isEmpty() ? "uniform" : weights.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,237 @@
+package com.chessMoveGuesser.moveGuesser.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a running moveGuesser instance with a weighted mix of move queries and reports latency percentiles.
+ *
+ * <p>Every request has an intended start time and its latency is measured from then, not from when it was
+ * actually sent. A stalled server therefore shows up as the queueing delay every waiting user would see,
+ * instead of the load generator quietly sending less (coordinated omission). The time from the actual send is
+ * recorded as well, as the service time.</p>
+ *
+ * <ul>
+ *     <li><b>Open model</b>: requests are scheduled at {@code --rate} per second regardless of responses, each
+ *     on its own virtual thread. At most {@code --concurrency} are in flight; a request that has to wait for a
+ *     slot keeps its intended start time.</li>
+ *     <li><b>Closed model, paced</b>: {@code --concurrency} workers share {@code --rate}; each waits for its
+ *     response and then for its next slot, and a response that overruns the slot makes the next request
+ *     late, which its latency includes.</li>
+ *     <li><b>Closed model, unpaced</b> ({@code --rate 0}): workers send back to back, so there is no schedule
+ *     to measure against. The corrected histogram is then the service times corrected with HdrHistogram's
+ *     expected-interval method, using the median service time as the interval.</li>
+ * </ul>
+ *
+ * <p>Only requests intended to start after the warm-up are recorded. A progress line goes to stderr every
+ * second and the {@link LatencyReport} to stdout, and to {@code --output} when given.</p>
+ */
+public final class LoadGenerator {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LoadOptions options;
+
+    private final QueryMix mix;
+
+    private final HttpClient client;
+
+    private final String accept;
+
+    private final Recorder latency = new Recorder(3);
+
+    private final Recorder service = new Recorder(3);
+
+    private final LongAdder errors = new LongAdder();
+
+    private final ConcurrentHashMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    private long measureStart;
+
+    private long end;
+
+    public LoadGenerator(LoadOptions options, HttpClient client) {
+        this.options = options;
+        this.mix = new QueryMix(options.url(), options.pieces(), options.squares(), options.rows(), options.columns());
+        this.client = client;
+        this.accept = options.binary() ? "application/x-chess-moves" : "text/plain";
+    }
+
+    public static void main(String... args) throws IOException, InterruptedException {
+        if (List.of(args).contains("--help")) {
+            System.out.print(LoadOptions.USAGE);
+            return;
+        }
+        LoadOptions options;
+        LoadGenerator generator;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                options = LoadOptions.parse(args);
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(options.timeout())
+                        .executor(executor)
+                        .build();
+                generator = new LoadGenerator(options, client);
+            } catch (IllegalArgumentException ex) {
+                System.err.println(ex.getMessage());
+                System.err.print(LoadOptions.USAGE);
+                System.exit(2);
+                return;
+            }
+            String report = generator.run().format();
+            System.out.print(report);
+            if (options.output() != null) {
+                Files.writeString(options.output(), report);
+            }
+        }
+    }
+
+    /**
+     * Run the warm-up and the recorded part, and wait for every request still in flight.
+     */
+    public LatencyReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        measureStart = start + options.warmup().toNanos();
+        end = measureStart + options.duration().toNanos();
+        System.err.printf(Locale.ROOT, "%s %s, %d distinct queries, warming up for %d s%n",
+                options.mode().name().toLowerCase(Locale.ROOT), options.url(), mix.size(), options.warmup().toSeconds());
+
+        Histogram latencyTotal = new Histogram(3);
+        Histogram serviceTotal = new Histogram(3);
+        Thread load = Thread.ofPlatform().name("loadgen").start(options.mode() == LoadOptions.Mode.OPEN
+                ? () -> open(start) : () -> closed(start));
+        for (long tick = measureStart + SECOND; load.isAlive(); tick += SECOND) {
+            load.join(TimeUnit.NANOSECONDS.toMillis(Math.max(tick - System.nanoTime(), 1_000_000)));
+            Histogram latencyInterval = latency.getIntervalHistogram();
+            Histogram serviceInterval = service.getIntervalHistogram();
+            latencyTotal.add(latencyInterval);
+            serviceTotal.add(serviceInterval);
+            if (serviceInterval.getTotalCount() > 0) {
+                System.err.printf(Locale.ROOT, "%5d responses  p50 %8.3f ms  p99 %8.3f ms  max %8.3f ms  errors %d%n",
+                        serviceInterval.getTotalCount(),
+                        latencyInterval.getValueAtPercentile(50) / 1e6,
+                        latencyInterval.getValueAtPercentile(99) / 1e6,
+                        latencyInterval.getMaxValue() / 1e6,
+                        errors.sum());
+            }
+        }
+        latencyTotal.add(latency.getIntervalHistogram());
+        serviceTotal.add(service.getIntervalHistogram());
+
+        if (options.mode() == LoadOptions.Mode.CLOSED && options.rate() == 0 && serviceTotal.getTotalCount() > 0) {
+            latencyTotal = serviceTotal.copyCorrectedForCoordinatedOmission(serviceTotal.getValueAtPercentile(50));
+        }
+        SortedMap<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        return new LatencyReport(options, latencyTotal, serviceTotal, errors.sum(), statusCounts);
+    }
+
+    /**
+     * Schedule requests at a constant rate until the end, then wait for the ones in flight.
+     */
+    private void open(long start) {
+        double interval = SECOND / options.rate();
+        Semaphore inFlight = new Semaphore(options.concurrency());
+        SplittableRandom random = new SplittableRandom(options.seed());
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + (long) (i * interval);
+                if (intended - end >= 0) {
+                    break;
+                }
+                parkUntil(intended);
+                URI uri = mix.next(random);
+                inFlight.acquireUninterruptibly();
+                requests.execute(() -> {
+                    try {
+                        send(uri, intended);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Run the workers until the end. Each worker draws its queries from its own split of the seed.
+     */
+    private void closed(long start) {
+        long interval = options.rate() > 0 ? (long) (SECOND * options.concurrency() / options.rate()) : 0;
+        SplittableRandom seed = new SplittableRandom(options.seed());
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < options.concurrency(); w++) {
+                SplittableRandom random = seed.split();
+                // Stagger paced workers across the first interval so they do not fire together
+                long first = start + interval * w / options.concurrency();
+                workers.execute(() -> {
+                    for (long intended = first; ; intended += interval) {
+                        if (interval > 0) {
+                            parkUntil(intended);
+                        } else {
+                            intended = System.nanoTime();
+                        }
+                        if (intended - end >= 0) {
+                            return;
+                        }
+                        send(mix.next(random), intended);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Send one request and record it when it was intended to start after the warm-up.
+     */
+    private void send(URI uri, long intended) {
+        boolean recorded = intended - measureStart >= 0;
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(options.timeout())
+                .header("Accept", accept)
+                .GET()
+                .build();
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long received = System.nanoTime();
+            if (recorded) {
+                latency.recordValue(received - intended);
+                service.recordValue(received - sent);
+                statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+            }
+        } catch (IOException ex) {
+            if (recorded) {
+                errors.increment();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        for (long remaining; (remaining = deadline - System.nanoTime()) > 0; ) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
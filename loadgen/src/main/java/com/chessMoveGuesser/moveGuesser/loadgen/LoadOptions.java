@@ -0,0 +1,150 @@
+package com.chessMoveGuesser.moveGuesser.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Settings of one load run, parsed from {@code --name value} arguments.
+ *
+ * @param url          endpoint under test
+ * @param mode         arrival model
+ * @param rate         open model: requests started per second. Closed model: total requests per second the
+ *                     workers are paced to, or 0 to send back to back
+ * @param concurrency  closed model: number of workers. Open model: most requests in flight at once; arrivals
+ *                     beyond it wait, and the wait counts towards their latency
+ * @param warmup       time before recording starts
+ * @param duration     recorded time after the warm-up
+ * @param pieces       relative weight of each piece, e.g. {@code QUEEN=3,KNIGHT=1}; empty for all pieces equally
+ * @param squares      relative weight of each square, e.g. {@code E4=2,D5=1}; empty for every square equally
+ * @param rows         rows of the board queried, sent as a parameter when set; 0 for the server's default
+ * @param columns      columns of the board queried, sent as a parameter when set; 0 for the server's default
+ * @param binary       ask for the binary {@code application/x-chess-moves} form instead of text
+ * @param timeout      per-request timeout; timed-out requests count as errors
+ * @param seed         seed of the query sequence, so runs with equal settings send the same queries
+ * @param output       file the report is also written to, or {@code null}
+ */
+public record LoadOptions(URI url, Mode mode, double rate, int concurrency, Duration warmup, Duration duration,
+                          Map<String, Integer> pieces, Map<String, Integer> squares, int rows, int columns,
+                          boolean binary, Duration timeout, long seed, Path output) {
+
+    public enum Mode {
+        /**
+         * Requests start on a fixed schedule whatever the server does, like independent users.
+         */
+        OPEN,
+        /**
+         * A fixed number of workers each wait for a response before sending the next request.
+         */
+        CLOSED
+    }
+
+    /**
+     * Options that take a value.
+     */
+    private static final List<String> KNOWN = List.of("url", "mode", "rate", "concurrency", "warmup", "duration",
+            "pieces", "squares", "rows", "columns", "timeout", "seed", "output");
+
+    public static final String USAGE = """
+            Usage: java -jar moveGuesser-loadgen.jar [options]
+              --url URL            endpoint (default http://localhost:8080/api/v1/moveGuesser)
+              --mode open|closed   constant arrival rate, or a fixed number of workers (default open)
+              --rate N             open: requests per second; closed: pacing, 0 = back to back (default 1000 / 0)
+              --concurrency N      closed: workers; open: most requests in flight (default 64 / 10000)
+              --warmup D           unrecorded warm-up, e.g. 10s (default 10s)
+              --duration D         recorded run, e.g. 30s or 2m (default 30s)
+              --pieces P=W,...     piece weights, e.g. QUEEN=3,KNIGHT=1 (default all equal)
+              --squares S=W,...    square weights, e.g. E4=2,D5=1 (default every square equally)
+              --rows N --columns N board geometry to query (default the server's)
+              --binary             request application/x-chess-moves
+              --timeout D          per-request timeout (default 5s)
+              --seed N             seed of the query sequence (default 1)
+              --output FILE        also write the report to FILE
+              --help               print this help
+            """;
+
+    /**
+     * Parse command-line arguments.
+     *
+     * @throws IllegalArgumentException on an unknown option or a malformed value
+     */
+    public static LoadOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        boolean binary = false;
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i];
+            if (name.equals("--binary")) {
+                binary = true;
+            } else if (name.startsWith("--") && i + 1 < args.length && KNOWN.contains(name.substring(2))) {
+                values.put(name.substring(2), args[++i]);
+            } else {
+                throw new IllegalArgumentException("Unknown or incomplete option: " + name);
+            }
+        }
+        Mode mode = Mode.valueOf(values.getOrDefault("mode", "open").toUpperCase(Locale.ROOT));
+        boolean open = mode == Mode.OPEN;
+        LoadOptions options = new LoadOptions(
+                URI.create(values.getOrDefault("url", "http://localhost:8080/api/v1/moveGuesser")),
+                mode,
+                Double.parseDouble(values.getOrDefault("rate", open ? "1000" : "0")),
+                Integer.parseInt(values.getOrDefault("concurrency", open ? "10000" : "64")),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("duration", "30s")),
+                weights(values.get("pieces")),
+                weights(values.get("squares")),
+                Integer.parseInt(values.getOrDefault("rows", "0")),
+                Integer.parseInt(values.getOrDefault("columns", "0")),
+                binary,
+                duration(values.getOrDefault("timeout", "5s")),
+                Long.parseLong(values.getOrDefault("seed", "1")),
+                values.containsKey("output") ? Path.of(values.get("output")) : null);
+        if (open ? options.rate <= 0 : options.rate < 0) {
+            throw new IllegalArgumentException("Rate must be positive in the open model and not negative in the closed one");
+        }
+        if (options.concurrency < 1 || options.duration.isZero() || options.duration.isNegative()) {
+            throw new IllegalArgumentException("Concurrency and duration must be positive");
+        }
+        return options;
+    }
+
+    /**
+     * Parse {@code 500ms}, {@code 30s}, {@code 2m} or a plain number of seconds.
+     */
+    static Duration duration(String text) {
+        String value = text.trim().toLowerCase(Locale.ROOT);
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /**
+     * Parse {@code NAME=WEIGHT,...}; a name without a weight counts 1. Names are upper-cased and kept sorted.
+     */
+    static Map<String, Integer> weights(String text) {
+        Map<String, Integer> weights = new TreeMap<>();
+        if (text == null || text.isBlank()) {
+            return weights;
+        }
+        for (String entry : text.split(",")) {
+            String[] parts = entry.split("=", 2);
+            int weight = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight: " + entry);
+            }
+            weights.merge(parts[0].trim().toUpperCase(Locale.ROOT), weight, Integer::sum);
+        }
+        return weights;
+    }
+}
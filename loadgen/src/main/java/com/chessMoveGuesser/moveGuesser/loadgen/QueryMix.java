@@ -0,0 +1,141 @@
+package com.chessMoveGuesser.moveGuesser.loadgen;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted mix of move queries. Pieces and squares are drawn independently, each by its own weights.
+ *
+ * <p>Every piece and square URI is built once up front, so drawing a query costs two binary searches over
+ * cumulative weights and never allocates. With the same seed, the same sequence of draws gives the same
+ * sequence of queries.</p>
+ */
+public final class QueryMix {
+
+    private final URI[][] uris;
+
+    private final long[] pieceWeights;
+
+    private final long[] squareWeights;
+
+    /**
+     * @param url endpoint; query parameters are appended
+     * @param pieces piece name to weight, empty for every piece equally
+     * @param squares square name (e.g. {@code E4}) to weight, empty for every square of the board equally
+     * @param rows rows of the board, or 0 for 8 and no parameter
+     * @param columns columns of the board, or 0 for {@code rows} and no parameter
+     * @throws IllegalArgumentException for an unknown piece, a malformed or off-board square, or all-zero weights
+     */
+    public QueryMix(URI url, Map<String, Integer> pieces, Map<String, Integer> squares, int rows, int columns) {
+        int boardRows = rows > 0 ? rows : columns > 0 ? columns : 8;
+        Board board = new Board(boardRows, columns > 0 ? columns : boardRows);
+        String geometry = (rows > 0 ? "&rows=" + rows : "") + (columns > 0 ? "&columns=" + columns : "");
+
+        List<Pieces> pieceList = new ArrayList<>();
+        List<Integer> pieceWeightList = new ArrayList<>();
+        for (Pieces piece : Pieces.values()) {
+            int weight = pieces.isEmpty() ? 1 : pieces.getOrDefault(piece.name(), 0);
+            if (weight > 0) {
+                pieceList.add(piece);
+                pieceWeightList.add(weight);
+            }
+        }
+        for (String name : pieces.keySet()) {
+            if (Arrays.stream(Pieces.values()).noneMatch(piece -> piece.name().equals(name))) {
+                throw new IllegalArgumentException("Unknown piece: " + name);
+            }
+        }
+
+        List<Position> squareList = new ArrayList<>();
+        List<Integer> squareWeightList = new ArrayList<>();
+        if (squares.isEmpty()) {
+            for (int square = 0; square < board.squareCount(); square++) {
+                squareList.add(board.positionAt(square));
+                squareWeightList.add(1);
+            }
+        } else {
+            squares.forEach((name, weight) -> {
+                Position position = square(name);
+                if (!board.isValid(position)) {
+                    throw new IllegalArgumentException("Square " + name + " is not on a "
+                            + board.getRows() + "x" + board.getColumns() + " board");
+                }
+                if (weight > 0) {
+                    squareList.add(position);
+                    squareWeightList.add(weight);
+                }
+            });
+        }
+
+        this.pieceWeights = cumulative(pieceWeightList);
+        this.squareWeights = cumulative(squareWeightList);
+        this.uris = new URI[pieceList.size()][squareList.size()];
+        for (int p = 0; p < pieceList.size(); p++) {
+            for (int s = 0; s < squareList.size(); s++) {
+                uris[p][s] = URI.create(url + "?piece=" + pieceList.get(p) + "&pos=" + squareList.get(s).toDto() + geometry);
+            }
+        }
+    }
+
+    /**
+     * Draw the next query.
+     */
+    public URI next(SplittableRandom random) {
+        return uris[draw(pieceWeights, random)][draw(squareWeights, random)];
+    }
+
+    /**
+     * Number of distinct queries the mix can draw.
+     */
+    public int size() {
+        return uris.length * squareWeights.length;
+    }
+
+    private static Position square(String name) {
+        try {
+            return Position.parse(name);
+        } catch (InvalidParameterException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+    }
+
+    private static long[] cumulative(List<Integer> weights) {
+        long[] cumulative = new long[weights.size()];
+        long total = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            total += weights.get(i);
+            cumulative[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one piece and one square need a positive weight");
+        }
+        return cumulative;
+    }
+
+    /**
+     * Index of the first cumulative weight above a uniform draw.
+     */
+    private static int draw(long[] cumulative, SplittableRandom random) {
+        long target = random.nextLong(cumulative[cumulative.length - 1]);
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulative[middle] > target) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,90 @@
+package com.chessMoveGuesser.moveGuesser.loadgen;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs short loads against an in-process stub server. The stub stalls once for 300 ms, which only the
+ * corrected latency should show for the requests that were scheduled behind it.
+ */
+class LoadGeneratorTest {
+
+    private HttpServer server;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/moveGuesser", exchange -> {
+            if (requests.incrementAndGet() == 50) {
+                sleep(300);
+            }
+            byte[] body = "E5".getBytes(StandardCharsets.US_ASCII);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void closedPacedRunChargesTheStallToQueuedRequests() throws InterruptedException {
+        LatencyReport report = run("--mode", "closed", "--concurrency", "1", "--rate", "100");
+
+        assertEquals(0, report.errors());
+        assertEquals(report.responses(), report.statuses().get(200));
+        assertTrue(report.responses() >= 60, "responses " + report.responses());
+        // One stalled request of 300 ms delays the next ~30 scheduled ones by up to 300 ms each
+        assertTrue(report.latency().getValueAtPercentile(90) >= 100_000_000L, report.format());
+        assertTrue(report.service().getValueAtPercentile(90) < 100_000_000L, report.format());
+    }
+
+    @Test
+    void openRunReportsEveryScheduledRequest() throws InterruptedException {
+        LatencyReport report = run("--rate", "100", "--pieces", "KNIGHT", "--squares", "B1");
+
+        assertEquals(0, report.errors());
+        assertEquals(100, report.responses(), 2);
+        String text = report.format();
+        assertTrue(text.contains("pieces                   KNIGHT=1"), text);
+        assertTrue(text.contains("corrected latency distribution (ms)"), text);
+    }
+
+    private LatencyReport run(String... args) throws InterruptedException {
+        String[] all = new String[args.length + 6];
+        all[0] = "--url";
+        all[1] = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/moveGuesser";
+        all[2] = "--warmup";
+        all[3] = "200ms";
+        all[4] = "--duration";
+        all[5] = "1s";
+        System.arraycopy(args, 0, all, 6, args.length);
+        return new LoadGenerator(LoadOptions.parse(all), HttpClient.newHttpClient()).run();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.chessMoveGuesser.moveGuesser.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadOptionsTest {
+
+    @Test
+    void defaultsDependOnTheModel() {
+        LoadOptions open = LoadOptions.parse();
+        assertEquals(LoadOptions.Mode.OPEN, open.mode());
+        assertEquals(1000, open.rate());
+        assertEquals(10000, open.concurrency());
+        assertEquals(Duration.ofSeconds(10), open.warmup());
+        assertTrue(open.pieces().isEmpty());
+
+        LoadOptions closed = LoadOptions.parse("--mode", "closed");
+        assertEquals(0, closed.rate());
+        assertEquals(64, closed.concurrency());
+    }
+
+    @Test
+    void parsesValuesAndWeights() {
+        LoadOptions options = LoadOptions.parse("--url", "http://host:9000/api/v1/moveGuesser", "--rate", "250",
+                "--duration", "2m", "--warmup", "500ms", "--pieces", "queen=3,knight", "--squares", "E4=2,e4,D5",
+                "--binary", "--seed", "7");
+        assertEquals("host", options.url().getHost());
+        assertEquals(250, options.rate());
+        assertEquals(Duration.ofMinutes(2), options.duration());
+        assertEquals(Duration.ofMillis(500), options.warmup());
+        assertEquals(Map.of("KNIGHT", 1, "QUEEN", 3), options.pieces());
+        assertEquals(Map.of("D5", 1, "E4", 3), options.squares());
+        assertTrue(options.binary());
+        assertEquals(7, options.seed());
+    }
+
+    @Test
+    void rejectsBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--rat", "10"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--rate"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--rate", "0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--mode", "closed", "--concurrency", "0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--pieces", "QUEEN=-1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--mode", "sideways"));
+    }
+}
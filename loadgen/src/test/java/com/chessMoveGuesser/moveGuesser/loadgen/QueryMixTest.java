@@ -0,0 +1,56 @@
+package com.chessMoveGuesser.moveGuesser.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryMixTest {
+
+    private static final URI URL = URI.create("http://localhost:8080/api/v1/moveGuesser");
+
+    @Test
+    void uniformMixCoversEveryPieceAndSquare() {
+        QueryMix mix = new QueryMix(URL, Map.of(), Map.of(), 0, 0);
+        assertEquals(6 * 64, mix.size());
+
+        QueryMix small = new QueryMix(URL, Map.of("ROOK", 1), Map.of(), 5, 7);
+        assertEquals(35, small.size());
+        assertTrue(small.next(new SplittableRandom(1)).toString().endsWith("&rows=5&columns=7"));
+    }
+
+    @Test
+    void drawsFollowTheWeights() {
+        QueryMix mix = new QueryMix(URL, Map.of("QUEEN", 3, "KNIGHT", 1), Map.of("E4", 1, "H8", 0), 0, 0);
+        SplittableRandom random = new SplittableRandom(42);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 40_000; i++) {
+            counts.merge(mix.next(random).getQuery(), 1, Integer::sum);
+        }
+        assertEquals(2, counts.size());
+        int queens = counts.get("piece=QUEEN&pos=E4");
+        assertEquals(30_000, queens, 500);
+    }
+
+    @Test
+    void sameSeedSameSequence() {
+        QueryMix mix = new QueryMix(URL, Map.of(), Map.of(), 0, 0);
+        SplittableRandom first = new SplittableRandom(9);
+        SplittableRandom second = new SplittableRandom(9);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(mix.next(first), mix.next(second));
+        }
+    }
+
+    @Test
+    void rejectsUnknownPiecesAndSquares() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryMix(URL, Map.of("DRAGON", 1), Map.of(), 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new QueryMix(URL, Map.of(), Map.of("I9", 1), 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new QueryMix(URL, Map.of(), Map.of("4E", 1), 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new QueryMix(URL, Map.of("KING", 0), Map.of(), 0, 0));
+    }
+}
@@ -0,0 +1,78 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.MoveGuesserApplication;
+import com.chessMoveGuesser.moveGuesser.controller.HttpCaching;
+import com.chessMoveGuesser.moveGuesser.controller.MoveGuesserController;
+import com.chessMoveGuesser.moveGuesser.metrics.MoveMetrics;
+import com.chessMoveGuesser.moveGuesser.service.MoveGuesserService;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link MoveMetrics} instrumentation on the single-query handler.
+ *
+ * <p>{@code instrumented} records into a Prometheus registry as in production. {@code uninstrumented} gives
+ * the controller an empty composite registry, whose meters are no-ops, so the difference between the two
+ * is the cost of recording.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private MoveGuesserController instrumented;
+
+    private MoveGuesserController uninstrumented;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        SpringApplication application = new SpringApplication(MoveGuesserApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--logging.level.root=WARN", "--spring.devtools.restart.enabled=false");
+        MoveGuesserService service = context.getBean(MoveGuesserService.class);
+        HttpCaching httpCaching = context.getBean(HttpCaching.class);
+        instrumented = new MoveGuesserController(service, null, null, null, null, null,
+                new MoveMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)), httpCaching);
+        uninstrumented = new MoveGuesserController(service, null, null, null, null, null,
+                new MoveMetrics(new CompositeMeterRegistry()), httpCaching);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> instrumented() {
+        return instrumented.moveGuesser("QUEEN", "D4", null, null, null, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> uninstrumented() {
+        return uninstrumented.moveGuesser("QUEEN", "D4", null, null, null, null);
+    }
+}
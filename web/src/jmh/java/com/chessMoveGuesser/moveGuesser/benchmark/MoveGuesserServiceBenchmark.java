@@ -0,0 +1,155 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.MoveGuesserApplication;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.service.MoveGuesserService;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergyFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@link MoveGuesserService#getPossibleMoves}, served from its precomputed response table ({@code table}),
+ * against the previous {@code @Cacheable} implementation kept here as {@link CachedLookup}, with the Caffeine
+ * {@code moves} cache either cleared before every call ({@code cacheableCold}) or already holding the answer
+ * ({@code cacheableWarm}).
+ *
+ * <p>{@code cacheableCold} pays JMH's per-invocation setup cost as well, so compare it against the others
+ * only in orders of magnitude. Run with {@code -prof gc} to compare allocation per call.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGuesserServiceBenchmark {
+
+    @Param({"KING", "QUEEN", "PAWN", "ROOK", "BISHOP", "KNIGHT"})
+    public Pieces piece;
+
+    private ConfigurableApplicationContext context;
+
+    private MoveGuesserService service;
+
+    private CachedLookup cachedLookup;
+
+    private Cache moves;
+
+    private final Position position = Position.parse("D4");
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        SpringApplication application = new SpringApplication(MoveGuesserApplication.class, CachingConfig.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.addInitializers(context -> ((GenericApplicationContext) context).registerBean(CachedLookup.class));
+        context = application.run("--logging.level.root=WARN", "--spring.devtools.restart.enabled=false");
+        service = context.getBean(MoveGuesserService.class);
+        moves = context.getBean(CacheManager.class).getCache("moves");
+        cachedLookup = context.getBean(CachedLookup.class);
+        service.getPossibleMoves(position, piece);
+        cachedLookup.getPossibleMoves(position, piece);
+    }
+
+    /**
+     * The {@code moves} cache the {@code @Cacheable} lookup used, as the application configured it before the
+     * response table; declared only in the benchmark context.
+     */
+    @Configuration
+    @EnableCaching
+    public static class CachingConfig {
+
+        @Bean
+        public CacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager("moves");
+            cacheManager.setCaffeine(Caffeine.newBuilder()
+                    .initialCapacity(100)
+                    .maximumSize(1000)
+                    .expireAfterWrite(Duration.ofHours(24)));
+            return cacheManager;
+        }
+    }
+
+    /**
+     * The string-keyed {@code @Cacheable} lookup that the response table replaced, registered only in the
+     * benchmark context.
+     */
+    public static class CachedLookup {
+
+        private final Board board;
+
+        private final MoveStratergyFactory moveStratergyFactory;
+
+        public CachedLookup(@Value("${board.size}") int size, MoveStratergyFactory moveStratergyFactory) {
+            this.board = new Board(size, size);
+            this.moveStratergyFactory = moveStratergyFactory;
+        }
+
+        @Cacheable(value = "moves", key = "T(java.lang.String).valueOf(#piece) + '_' + #position.toString()")
+        public String getPossibleMoves(Position position, Pieces piece) {
+            return moveStratergyFactory.getStrategy(piece).getMoves(position, board).stream()
+                    .map(Position::toDto)
+                    .collect(Collectors.joining(", "));
+        }
+    }
+
+    /**
+     * Clears the cache before every invocation so each call recomputes the moves.
+     */
+    @State(Scope.Thread)
+    public static class ColdCache {
+        @Setup(Level.Invocation)
+        public void clear(MoveGuesserServiceBenchmark benchmark) {
+            benchmark.moves.clear();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public String table() {
+        return service.getPossibleMoves(position, piece);
+    }
+
+    @Benchmark
+    public String cacheableCold(ColdCache coldCache) {
+        return cachedLookup.getPossibleMoves(position, piece);
+    }
+
+    @Benchmark
+    public String cacheableWarm() {
+        return cachedLookup.getPossibleMoves(position, piece);
+    }
+}
@@ -0,0 +1,116 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.MoveGuesserApplication;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.ChessMovesFormat;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.protocol.MoveAnswer;
+import com.chessMoveGuesser.moveGuesser.protocol.MoveProtocolClient;
+import com.chessMoveGuesser.moveGuesser.protocol.MoveProtocolServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queries per second over a single connection: the REST endpoint (binary body, one request at a time)
+ * against the {@link MoveProtocolServer}, one query per round trip ({@code protocol}) and
+ * {@value #PIPELINE} queries per round trip ({@code protocolPipelined}).
+ *
+ * <p>The service runs in the benchmark JVM with client and server on the same machine, so the numbers
+ * include both sides' CPU. Each query is a queen on the next of the 64 squares.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtocolBenchmark {
+
+    static final int PIPELINE = 64;
+
+    private final Board board = new Board(8, 8);
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private HttpRequest[] requests;
+
+    private MoveProtocolClient client;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        context = SpringApplication.run(MoveGuesserApplication.class, "--logging.level.root=WARN",
+                "--server.port=0", "--protocol.enabled=true", "--protocol.port=0", "--warmup.rounds=0",
+                "--spring.devtools.restart.enabled=false");
+        int httpPort = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        int protocolPort = context.getBean(MoveProtocolServer.class).getPort();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        requests = new HttpRequest[board.squareCount()];
+        for (int square = 0; square < requests.length; square++) {
+            requests[square] = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + httpPort
+                            + "/api/v1/moveGuesser?piece=QUEEN&pos=" + board.positionAt(square).toDto()))
+                    .header("Accept", ChessMovesFormat.MEDIA_TYPE)
+                    .build();
+        }
+        client = MoveProtocolClient.connect(new InetSocketAddress("127.0.0.1", protocolPort));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        client.close();
+        httpClient.close();
+        context.close();
+    }
+
+    private Position nextPosition() {
+        return board.positionAt(next++ & 63);
+    }
+
+    @Benchmark
+    public byte[] rest() throws IOException, InterruptedException {
+        return httpClient.send(requests[next++ & 63], HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public MoveAnswer protocol() throws IOException {
+        return client.moves(Pieces.QUEEN, nextPosition());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE)
+    public void protocolPipelined(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < PIPELINE; i++) {
+            client.send(Pieces.QUEEN, nextPosition());
+        }
+        for (int i = 0; i < PIPELINE; i++) {
+            blackhole.consume(client.receive());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.chessMoveGuesser.moveGuesser.benchmark;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.ChessMovesFormat;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.engine.AttackTables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rendering of a move list into a response body: the comma-separated text, encoded to UTF-8 as it is when
+ * written, against the binary {@link ChessMovesFormat}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseBuildingBenchmark {
+
+    @Param({"KING", "QUEEN", "PAWN", "ROOK", "BISHOP", "KNIGHT"})
+    public Pieces piece;
+
+    private List<Position> moves;
+
+    private long[] mask;
+
+    @Setup
+    public void setUp() {
+        Board board = new Board(8, 8);
+        int d4 = board.squareIndex(Position.parse("D4"));
+        mask = AttackTables.forBoard(board).mask(piece, d4);
+        moves = board.toPositions(mask);
+    }
+
+    @Benchmark
+    public byte[] joining() {
+        return moves.stream()
+                .map(Position::toDto)
+                .collect(Collectors.joining(", "))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encoded() {
+        return ChessMovesFormat.encode(mask, 64);
+    }
+}
@@ -0,0 +1,267 @@
+package com.chessMoveGuesser.moveGuesser.admission;
+
+import com.chessMoveGuesser.moveGuesser.exception.AdmissionRejectedException;
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.service.MoveGuesserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for the expensive endpoints of the move guesser API, registered for
+ * {@code /api/v1/moveGuesser} and its sub-paths.
+ *
+ * <p>Each expensive endpoint has its own {@link AdmissionLimiter}, so a flood of searches cannot take the
+ * slots of reachability queries. The single-move lookup at {@code /api/v1/moveGuesser} is limited (as
+ * {@code geometry}) only when it names a board geometry whose response table is not built yet, since the
+ * build runs on the request thread; any other lookup passes after a map read and never waits or touches a
+ * lock. Rejected requests get {@code 429} (queue full) or {@code 503} (deadline) with {@code Retry-After}
+ * from {@code GlobalExceptionHandler}.</p>
+ *
+ * <p>Queued requests wait on the container thread that received them. Unless requests run on virtual
+ * threads, all endpoints together may hold at most {@code admission.max-threads} container threads, running
+ * or queued, by default three quarters of {@code server.tomcat.threads.max}; beyond that they are turned
+ * away with {@code 429}, so the rest of the pool stays free for the cheap lookups. A streamed response gives
+ * its container thread back as soon as streaming starts.</p>
+ *
+ * <p>A request must start within the endpoint's {@code max-wait}. A client can shorten that with an
+ * {@value #TIMEOUT_HEADER} header, in milliseconds, so it is turned away at once instead of queueing for an
+ * answer it will no longer wait for. Every setting can be overridden per endpoint as
+ * {@code admission.<endpoint>.limit}, {@code .max-limit}, {@code .queue} and {@code .max-wait}, and
+ * {@code admission.enabled=false} turns admission control off.</p>
+ *
+ * <p>The endpoint is identified by the handler's matched mapping pattern, not the request URI: Spring
+ * matches {@code /search;x=1} and {@code /s%65arch} to the search handler as well, and they must not
+ * escape its limit.</p>
+ *
+ * <p>A streamed {@code /batch} response keeps its slot until the stream completes: the slot is released
+ * after the asynchronous dispatch that ends the request, not when the handler method returns.</p>
+ */
+@Component
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String[] PATH_PATTERNS = {"/api/v1/moveGuesser", "/api/v1/moveGuesser/*"};
+
+    /**
+     * Request header with the most milliseconds the client will wait for its request to start.
+     */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private static final String MOVES_PATH = "/api/v1/moveGuesser";
+
+    private static final String BASE_PATH = MOVES_PATH + "/";
+
+    private static final String PERMIT = AdmissionInterceptor.class.getName() + ".permit";
+
+    /**
+     * Set while a request holds one of the {@link #maxThreads} container threads.
+     */
+    private static final String THREAD = AdmissionInterceptor.class.getName() + ".thread";
+
+    private final boolean enabled;
+
+    private final MoveGuesserService moveGuesserService;
+
+    /**
+     * Endpoints by the mapping pattern of their handler.
+     */
+    private final Map<String, Endpoint> endpoints = new HashMap<>();
+
+    private final Map<String, AdmissionLimiter> limiters = new HashMap<>();
+
+    private final int maxThreads;
+
+    private final AtomicInteger threads = new AtomicInteger();
+
+    public AdmissionInterceptor(@Value("${admission.enabled:true}") boolean enabled, Environment environment,
+                                MeterRegistry registry, MoveGuesserService moveGuesserService) {
+        this.enabled = enabled;
+        this.moveGuesserService = moveGuesserService;
+        boolean virtual = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int containerThreads = environment.getProperty("server.tomcat.threads.max", Integer.class, 200);
+        this.maxThreads = virtual ? Integer.MAX_VALUE
+                : environment.getProperty("admission.max-threads", Integer.class, containerThreads * 3 / 4);
+        Gauge.builder("moveguesser.admission.threads", threads, AtomicInteger::get)
+                .description("Container threads held by admitted or queued requests")
+                .register(registry);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        // Table lookups and short walks: many at once, and none should wait long
+        for (String name : new String[]{"reachable", "path", "legalMoves", "book"}) {
+            register(name, environment, registry, 32, 256, 64, Duration.ofMillis(100));
+        }
+        // CPU-bound work on the compute pool: a few per core, queued for up to one default search
+        register("perft", environment, registry, cores, 4 * cores, 16, Duration.ofSeconds(1));
+        register("search", environment, registry, cores, 4 * cores, 16, Duration.ofSeconds(1));
+        // Long streams, each holding its slot until it ends
+        register("batch", environment, registry, 16, 64, 32, Duration.ofSeconds(1));
+        // Response table builds for new geometries on the single-move lookup: CPU-bound, 30 ms to a second
+        endpoints.put(MOVES_PATH, endpoint("geometry", environment, registry, cores, 2 * cores, 16,
+                Duration.ofSeconds(1)));
+    }
+
+    private void register(String name, Environment environment, MeterRegistry registry,
+                          int limit, int maxLimit, int queue, Duration maxWait) {
+        endpoints.put(BASE_PATH + name, endpoint(name, environment, registry, limit, maxLimit, queue, maxWait));
+    }
+
+    private Endpoint endpoint(String name, Environment environment, MeterRegistry registry,
+                              int limit, int maxLimit, int queue, Duration maxWait) {
+        String prefix = "admission." + name + ".";
+        int initial = environment.getProperty(prefix + "limit", Integer.class, limit);
+        int max = Math.max(initial, environment.getProperty(prefix + "max-limit", Integer.class, maxLimit));
+        AdmissionLimiter limiter = new AdmissionLimiter(name, initial, 1, max,
+                environment.getProperty(prefix + "queue", Integer.class, queue));
+        Duration wait = environment.getProperty(prefix + "max-wait", Duration.class, maxWait);
+
+        Gauge.builder("moveguesser.admission.limit", limiter, AdmissionLimiter::limit)
+                .description("Current adaptive concurrency limit")
+                .tag("endpoint", name)
+                .register(registry);
+        Gauge.builder("moveguesser.admission.in.flight", limiter, AdmissionLimiter::inFlight)
+                .description("Requests running")
+                .tag("endpoint", name)
+                .register(registry);
+        Gauge.builder("moveguesser.admission.queued", limiter, AdmissionLimiter::queued)
+                .description("Requests waiting to start")
+                .tag("endpoint", name)
+                .register(registry);
+        Counter[] rejected = new Counter[AdmissionRejectedException.Reason.values().length];
+        for (AdmissionRejectedException.Reason reason : AdmissionRejectedException.Reason.values()) {
+            rejected[reason.ordinal()] = Counter.builder("moveguesser.admission.rejected")
+                    .description("Requests turned away by admission control")
+                    .tag("endpoint", name)
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        limiters.put(name, limiter);
+        return new Endpoint(limiter, wait.toNanos(), rejected);
+    }
+
+    /**
+     * Limiter of an endpoint, e.g. {@code "search"}; for tests and diagnostics.
+     */
+    AdmissionLimiter limiter(String name) {
+        return limiters.get(name);
+    }
+
+    /**
+     * Container threads held by admitted or queued requests; for tests and diagnostics.
+     */
+    int threads() {
+        return threads.get();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!enabled || request.getDispatcherType() == DispatcherType.ASYNC) {
+            // The asynchronous dispatch of a stream already holds the slot taken by its first dispatch
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Endpoint endpoint = pattern == null ? null : endpoints.get(pattern.toString());
+        if (endpoint == null || MOVES_PATH.equals(pattern) && !buildsTable(request)) {
+            return true;
+        }
+        long now = System.nanoTime();
+        long deadline = now + Math.min(endpoint.maxWaitNanos, clientTimeout(request));
+        try {
+            if (threads.incrementAndGet() > maxThreads) {
+                threads.decrementAndGet();
+                throw new AdmissionRejectedException("Too many expensive requests are running or queued",
+                        AdmissionRejectedException.Reason.QUEUE_FULL, Duration.ofSeconds(1));
+            }
+            try {
+                request.setAttribute(PERMIT, new Permit(endpoint.limiter, endpoint.limiter.acquire(deadline)));
+            } catch (RuntimeException | InterruptedException ex) {
+                threads.decrementAndGet();
+                throw ex;
+            }
+            request.setAttribute(THREAD, Boolean.TRUE);
+        } catch (AdmissionRejectedException ex) {
+            endpoint.rejected[ex.getReason().ordinal()].increment();
+            throw ex;
+        }
+        return true;
+    }
+
+    /**
+     * Whether a single-move lookup names a geometry whose response table would be built for it. Malformed
+     * and unsupported geometries are not: the controller rejects them without building anything.
+     */
+    private boolean buildsTable(HttpServletRequest request) {
+        String rows = request.getParameter("rows");
+        String columns = request.getParameter("columns");
+        if (rows == null && columns == null) {
+            return false;
+        }
+        try {
+            int boardRows = Integer.parseInt(rows != null ? rows : columns);
+            int boardColumns = Integer.parseInt(columns != null ? columns : rows);
+            return moveGuesserService.findResponseTable(boardRows, boardColumns) == null;
+        } catch (NumberFormatException | InvalidParameterException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The stream goes on on the async executor; the container thread is free again
+        releaseThread(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        releaseThread(request);
+        if (request.getAttribute(PERMIT) instanceof Permit permit) {
+            request.removeAttribute(PERMIT);
+            permit.limiter.release(permit.start);
+        }
+    }
+
+    private void releaseThread(HttpServletRequest request) {
+        if (request.getAttribute(THREAD) != null) {
+            request.removeAttribute(THREAD);
+            threads.decrementAndGet();
+        }
+    }
+
+    /**
+     * The {@value #TIMEOUT_HEADER} header in nanoseconds, or no limit when it is absent or malformed.
+     */
+    private static long clientTimeout(HttpServletRequest request) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            try {
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Long.parseLong(header.trim())));
+            } catch (NumberFormatException ex) {
+                // Ignore it like any other malformed optional header
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private record Endpoint(AdmissionLimiter limiter, long maxWaitNanos, Counter[] rejected) {
+    }
+
+    private record Permit(AdmissionLimiter limiter, long start) {
+    }
+}
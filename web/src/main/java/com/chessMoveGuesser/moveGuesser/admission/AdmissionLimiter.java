@@ -0,0 +1,231 @@
+package com.chessMoveGuesser.moveGuesser.admission;
+
+import com.chessMoveGuesser.moveGuesser.exception.AdmissionRejectedException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit for one endpoint, with a bounded FIFO queue and a limit that adapts to latency.
+ *
+ * <ul>
+ *     <li>Up to {@link #limit()} requests run at once. Further requests wait in arrival order, at most
+ *     {@code maxQueue} of them. A request arriving at a full queue is rejected at once with
+ *     {@link AdmissionRejectedException.Reason#QUEUE_FULL}.</li>
+ *     <li>Every request has a deadline by which it must have started. A request whose expected wait (its
+ *     place in the queue times the recent latency, divided by the limit) already runs past the deadline is
+ *     rejected at once. One still queued at its deadline is rejected too. Both use
+ *     {@link AdmissionRejectedException.Reason#DEADLINE}. Nothing is started that would be too late.</li>
+ *     <li>The limit follows the gradient of latency. A short average of recent latencies is compared with a
+ *     long one that stands for the unloaded latency. While the short average stays within
+ *     {@value #TOLERANCE} times the long one, the limit grows by about the square root of itself. When it
+ *     rises above, the limit shrinks in proportion, down to {@code minLimit}. It only grows while at least
+ *     half of it is in use, so an idle endpoint does not drift to its maximum.</li>
+ * </ul>
+ *
+ * <p>All state is guarded by one lock, held only for a few arithmetic operations; waiting requests park on
+ * their own condition, so releasing a slot wakes exactly the next request in line.</p>
+ */
+public final class AdmissionLimiter {
+
+    /**
+     * Latency may rise to this multiple of the long-term average before the limit shrinks.
+     */
+    static final double TOLERANCE = 1.5;
+
+    private static final double SHORT_SMOOTHING = 0.1;
+
+    private static final double LONG_SMOOTHING = 0.01;
+
+    private static final double LIMIT_SMOOTHING = 0.2;
+
+    private final String name;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final int maxQueue;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+
+    private double limit;
+
+    private int inFlight;
+
+    /**
+     * Exponential averages of recent and long-term latency in nanoseconds; 0 before the first sample.
+     */
+    private double shortLatency;
+
+    private double longLatency;
+
+    /**
+     * @param name         endpoint name used in messages
+     * @param initialLimit concurrency limit to start from
+     * @param minLimit     lowest the limit adapts down to
+     * @param maxLimit     highest the limit adapts up to
+     * @param maxQueue     most requests waiting at once; 0 to reject whenever the limit is reached
+     */
+    public AdmissionLimiter(String name, int initialLimit, int minLimit, int maxLimit, int maxQueue) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit || maxQueue < 0) {
+            throw new IllegalArgumentException("Invalid limits for " + name + ": need 1 <= min <= initial <= max"
+                    + " and a queue of at least 0");
+        }
+        this.name = name;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+    }
+
+    /**
+     * Wait for a slot.
+     *
+     * @param deadline {@link System#nanoTime()} by which the request must have started
+     * @return start time to pass to {@link #release}
+     * @throws AdmissionRejectedException if the queue is full or the deadline cannot be met
+     */
+    public long acquire(long deadline) throws InterruptedException {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (queue.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                return now;
+            }
+            if (queue.size() >= maxQueue) {
+                throw rejected(AdmissionRejectedException.Reason.QUEUE_FULL, "queue is full");
+            }
+            if (now + expectedWait(queue.size() + 1) - deadline > 0) {
+                throw rejected(AdmissionRejectedException.Reason.DEADLINE, "expected wait exceeds the deadline");
+            }
+            Waiter waiter = new Waiter(lock.newCondition());
+            queue.addLast(waiter);
+            try {
+                while (!waiter.admitted) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.remove(waiter);
+                        throw rejected(AdmissionRejectedException.Reason.DEADLINE, "deadline passed in the queue");
+                    }
+                    waiter.ready.awaitNanos(remaining);
+                }
+            } catch (InterruptedException ex) {
+                if (waiter.admitted) {
+                    inFlight--;
+                    admitWaiting();
+                } else {
+                    queue.remove(waiter);
+                }
+                throw ex;
+            }
+            return System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Give back a slot taken by {@link #acquire}, and use the request's latency to adapt the limit.
+     *
+     * @param start the value {@link #acquire} returned
+     */
+    public void release(long start) {
+        long latency = System.nanoTime() - start;
+        lock.lock();
+        try {
+            adapt(latency, inFlight);
+            inFlight--;
+            admitWaiting();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current concurrency limit.
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queued() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adapt(long latency, int inUse) {
+        if (longLatency == 0) {
+            shortLatency = latency;
+            longLatency = latency;
+            return;
+        }
+        shortLatency += (latency - shortLatency) * SHORT_SMOOTHING;
+        longLatency += (latency - longLatency) * LONG_SMOOTHING;
+        if (longLatency > 2 * shortLatency) {
+            // Load has dropped well below what the long average remembers; let it catch up faster
+            longLatency *= 0.95;
+        }
+        if (inUse * 2 < limit) {
+            return;
+        }
+        double gradient = Math.clamp(TOLERANCE * longLatency / shortLatency, 0.5, 1.0);
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.clamp(limit * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING, minLimit, maxLimit);
+    }
+
+    private void admitWaiting() {
+        while (!queue.isEmpty() && inFlight < (int) limit) {
+            Waiter waiter = queue.pollFirst();
+            waiter.admitted = true;
+            inFlight++;
+            waiter.ready.signal();
+        }
+    }
+
+    /**
+     * Time for {@code position} queued requests to start, at the recent latency and the current limit.
+     */
+    private long expectedWait(int position) {
+        return (long) (shortLatency * position / limit);
+    }
+
+    private AdmissionRejectedException rejected(AdmissionRejectedException.Reason reason, String detail) {
+        return new AdmissionRejectedException("Too busy to serve " + name + " now: " + detail,
+                reason, Duration.ofNanos(expectedWait(queue.size() + 1)));
+    }
+
+    private static final class Waiter {
+
+        private final Condition ready;
+
+        private boolean admitted;
+
+        Waiter(Condition ready) {
+            this.ready = ready;
+        }
+    }
+}
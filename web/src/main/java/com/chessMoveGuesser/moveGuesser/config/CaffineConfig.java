@@ -0,0 +1,46 @@
+package com.chessMoveGuesser.moveGuesser.config;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.service.DistanceTable;
+import com.chessMoveGuesser.moveGuesser.service.MoveResponseTable;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CaffineConfig {
+
+    /**
+     * Response tables for board geometries other than the configured one, built on first request and
+     * bounded so that clients cycling through geometries cannot grow the heap without limit. Hit, miss
+     * and eviction counts are published as the {@code responseTables} cache metrics.
+     */
+    @Bean
+    public Cache<Board, MoveResponseTable> responseTableCache(@Value("${board.geometry-cache-size:16}") int size,
+                                                              MeterRegistry meterRegistry) {
+        Cache<Board, MoveResponseTable> cache = Caffeine.newBuilder()
+                .maximumSize(size)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "responseTables");
+    }
+
+    /**
+     * Distance tables for board geometries other than the configured one, one per piece and geometry. A
+     * 32x32 table takes 1 MB, so the default bound keeps them within a few tens of megabytes. Published as
+     * the {@code distanceTables} cache metrics.
+     */
+    @Bean
+    public Cache<DistanceTable.Key, DistanceTable> distanceTableCache(@Value("${reachability.table-cache-size:32}") int size,
+                                                                    MeterRegistry meterRegistry) {
+        Cache<DistanceTable.Key, DistanceTable> cache = Caffeine.newBuilder()
+                .maximumSize(size)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "distanceTables");
+    }
+}
@@ -0,0 +1,52 @@
+package com.chessMoveGuesser.moveGuesser.config;
+
+import com.chessMoveGuesser.moveGuesser.engine.TranspositionTable;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class EngineConfig {
+
+    /**
+     * Built-in move strategy of every piece. The core module knows nothing about Spring, so the factory is
+     * registered here rather than scanned.
+     */
+    @Bean
+    public MoveStratergyFactory moveStratergyFactory() {
+        return new MoveStratergyFactory();
+    }
+
+    /**
+     * Bounded work-stealing pool for long-running engine work such as perft and search; {@code compute.parallelism=0}
+     * uses every available core.
+     *
+     * <p>Request threads only submit work here and wait for the result, so the number of threads burning
+     * CPU stays at the pool's parallelism however many requests (or virtual threads) are in flight.</p>
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool computePool(@Value("${compute.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Off-heap subtree count cache shared by all perft requests; {@code perft.hash-mb=0} disables it.
+     */
+    @Bean
+    @ConditionalOnExpression("${perft.hash-mb:64} > 0")
+    public TranspositionTable perftTable(@Value("${perft.hash-mb:64}") int megabytes) {
+        return new TranspositionTable(megabytes);
+    }
+
+    /**
+     * Hash table shared by the threads of a search and kept between searches.
+     */
+    @Bean
+    public TranspositionTable searchTable(@Value("${search.hash-mb:64}") int megabytes) {
+        return new TranspositionTable(megabytes);
+    }
+}
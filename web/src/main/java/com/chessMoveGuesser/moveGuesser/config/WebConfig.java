@@ -0,0 +1,64 @@
+package com.chessMoveGuesser.moveGuesser.config;
+
+import com.chessMoveGuesser.moveGuesser.admission.AdmissionInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Executor for asynchronous MVC responses such as the streamed {@code /batch} results, and admission control
+ * ({@link AdmissionInterceptor}) for the expensive endpoints.
+ *
+ * <p>Without one, Spring MVC starts a new platform thread for every streaming request, however
+ * {@code spring.threads.virtual.enabled} is set. With virtual threads enabled each stream gets its own
+ * virtual thread; otherwise streams share a bounded platform pool ({@code streaming.pool-size}) and wait
+ * in its queue ({@code streaming.queue-capacity}) when every thread is busy.</p>
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AsyncTaskExecutor streamingExecutor;
+
+    private final AdmissionInterceptor admissionInterceptor;
+
+    public WebConfig(@Qualifier("streamingExecutor") AsyncTaskExecutor streamingExecutor,
+                     AdmissionInterceptor admissionInterceptor) {
+        this.streamingExecutor = streamingExecutor;
+        this.admissionInterceptor = admissionInterceptor;
+    }
+
+    @Bean
+    public static AsyncTaskExecutor streamingExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtual,
+                                                      @Value("${streaming.pool-size:64}") int poolSize,
+                                                      @Value("${streaming.queue-capacity:1000}") int queueCapacity) {
+        if (virtual) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stream-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("stream-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // The single-move lookup at the base path only when it builds a geometry's table; see the interceptor
+        registry.addInterceptor(admissionInterceptor).addPathPatterns(AdmissionInterceptor.PATH_PATTERNS);
+    }
+}
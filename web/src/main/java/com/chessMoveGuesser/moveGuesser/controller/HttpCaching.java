@@ -0,0 +1,119 @@
+package com.chessMoveGuesser.moveGuesser.controller;
+
+import com.chessMoveGuesser.moveGuesser.model.PreparedResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Turns a {@link PreparedResponse} into an HTTP response that caches and revalidates well.
+ *
+ * <ul>
+ *     <li>The gzip variant is sent when the client accepts gzip and it is smaller; nothing is compressed per
+ *     request.</li>
+ *     <li>Every response carries the variant's strong {@code ETag}, {@code Vary: Accept, Accept-Encoding}
+ *     and {@code Cache-Control: public, max-age=..., immutable}. The answers only change with a new release,
+ *     so {@code responses.max-age} only needs to be as short as releases are frequent.</li>
+ *     <li>A conditional GET whose {@code If-None-Match} lists the variant's tag, or {@code *}, gets an empty
+ *     {@code 304 Not Modified}.</li>
+ * </ul>
+ */
+@Component
+public class HttpCaching {
+
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private static final String GZIP = "gzip";
+
+    private final CacheControl cacheControl;
+
+    public HttpCaching(@Value("${responses.max-age:1d}") Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().immutable();
+    }
+
+    /**
+     * Build the response for a prepared body.
+     *
+     * @param ifNoneMatch value of the request's {@code If-None-Match} header, or {@code null}
+     * @param acceptEncoding value of the request's {@code Accept-Encoding} header, or {@code null}
+     * @return a 200 with the body, or a 304 without one
+     */
+    public ResponseEntity<byte[]> respond(PreparedResponse response, MediaType contentType,
+                                          String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = response.hasGzip() && acceptsGzip(acceptEncoding);
+        String etag = gzip ? response.gzipEtag() : response.etag();
+        boolean notModified = matches(ifNoneMatch, etag);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.VARY, VARY);
+        if (notModified) {
+            return builder.build();
+        }
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return builder.contentType(contentType).body(gzip ? response.gzipBody() : response.body());
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header lists the tag. Comparison is weak, as RFC 9110 requires for this
+     * header, so a {@code W/} prefix is ignored.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows gzip: {@code gzip}, {@code x-gzip} or {@code *}, unless
+     * given {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP) || name.equalsIgnoreCase("x-gzip") || name.equals("*")) {
+                return !rejected(parts);
+            }
+        }
+        return false;
+    }
+
+    private static boolean rejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,318 @@
+package com.chessMoveGuesser.moveGuesser.controller;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.metrics.MoveMetrics;
+import com.chessMoveGuesser.moveGuesser.model.BookReport;
+import com.chessMoveGuesser.moveGuesser.model.ChessMovesFormat;
+import com.chessMoveGuesser.moveGuesser.model.PerftReport;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.model.PreparedResponse;
+import com.chessMoveGuesser.moveGuesser.model.SearchReport;
+import com.chessMoveGuesser.moveGuesser.model.ShortestPath;
+import com.chessMoveGuesser.moveGuesser.service.MoveBatchService;
+import com.chessMoveGuesser.moveGuesser.service.MoveGuesserService;
+import com.chessMoveGuesser.moveGuesser.service.MoveResponseTable;
+import com.chessMoveGuesser.moveGuesser.service.OpeningBookService;
+import com.chessMoveGuesser.moveGuesser.service.PerftService;
+import com.chessMoveGuesser.moveGuesser.service.ReachabilityService;
+import com.chessMoveGuesser.moveGuesser.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+/**
+ * REST controller that exposes an endpoint to retrieve possible chess moves
+ * for a given piece at a specified board position.
+ *
+ * <p>Base path: <code>/api/v1/moveGuesser</code></p>
+ * <p>
+ * The controller delegates the move calculation to {@link MoveGuesserService}, batches of queries
+ * to {@link MoveBatchService}, multi-move queries to {@link ReachabilityService}, perft runs to
+ * {@link PerftService}, best-move searches to {@link SearchService} and opening book lookups to
+ * {@link OpeningBookService}.
+ */
+@RestController
+@RequestMapping("api/v1/moveGuesser")
+@RequiredArgsConstructor
+public class MoveGuesserController {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = MediaType.parseMediaType(MoveResponseTable.TEXT_MEDIA_TYPE);
+
+    private static final MediaType CHESS_MOVES = MediaType.parseMediaType(ChessMovesFormat.MEDIA_TYPE);
+
+    /**
+     * Service responsible for computing possible moves.
+     * Injected via constructor by Lombok's {@code @RequiredArgsConstructor}.
+     */
+    private final MoveGuesserService moveGuesserService;
+
+    /**
+     * Service that answers streamed batches of queries.
+     */
+    private final MoveBatchService moveBatchService;
+
+    /**
+     * Service that answers reachability and shortest-path queries.
+     */
+    private final ReachabilityService reachabilityService;
+
+    /**
+     * Service that counts move-tree leaves for move generator validation.
+     */
+    private final PerftService perftService;
+
+    /**
+     * Service that searches for the best move of a position.
+     */
+    private final SearchService searchService;
+
+    /**
+     * Service that looks up positions in the opening book.
+     */
+    private final OpeningBookService openingBookService;
+
+    /**
+     * Latency, outcome and response size meters for move queries.
+     */
+    private final MoveMetrics moveMetrics;
+
+    /**
+     * ETags, cache headers, conditional GETs and pre-compressed bodies for move queries.
+     */
+    private final HttpCaching httpCaching;
+
+    /**
+     * GET endpoint that returns possible moves for a chess piece at a given position.
+     * <p>
+     * Example request: GET /api/v1/moveGuesser?piece=KNIGHT&pos=g1, or on a 10x12 board
+     * GET /api/v1/moveGuesser?piece=QUEEN&pos=J10&rows=10&columns=12
+     * <p>
+     * Answers never change between requests, so they are sent pre-rendered with a strong ETag, long-lived
+     * {@code Cache-Control} and, for clients that accept it, pre-compressed with gzip; see {@link HttpCaching}.
+     *
+     * @param piece   the chess piece type as a string (case-insensitive). Expected values map to {@link Pieces}.
+     * @param pos     the board position in standard algebraic notation (e.g. "E4", "G1", "AB17").
+     * @param rows    optional number of rows; defaults to {@code columns}, or to the configured board when both are absent
+     * @param columns optional number of columns; defaults to {@code rows}
+     * @param ifNoneMatch optional entity tags from a conditional GET
+     * @param acceptEncoding optional content codings the client accepts
+     * @return an HTTP 200 response containing the possible moves as a string (format produced by {@link MoveGuesserService}),
+     *         or 304 when {@code ifNoneMatch} already names it
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> moveGuesser(@RequestParam String piece,
+                                              @RequestParam String pos,
+                                              @RequestParam(required = false) Integer rows,
+                                              @RequestParam(required = false) Integer columns,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Pieces parsedPiece = null;
+        try {
+            // Resolve the canonical Position for the provided string.
+            Position position = Position.parse(pos);
+
+            // Convert the piece string to the enum type; trim and normalize case to be safe.
+            parsedPiece = Pieces.fromString(piece.trim().toUpperCase());
+
+            // Delegate to the service and return the result in the response body.
+            long start = moveMetrics.start();
+            PreparedResponse moves = rows == null && columns == null
+                    ? moveGuesserService.getPreparedMoves(position, parsedPiece)
+                    : moveGuesserService.getPreparedMoves(position, parsedPiece, dimension(rows, columns), dimension(columns, rows));
+            ResponseEntity<byte[]> response = httpCaching.respond(moves, TEXT_PLAIN_UTF8, ifNoneMatch, acceptEncoding);
+            moveMetrics.recordMoves(parsedPiece, start, MoveMetrics.Format.TEXT, bodySize(response));
+            return response;
+        } catch (RuntimeException ex) {
+            moveMetrics.recordFailure(parsedPiece, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Same query as {@link #moveGuesser}, answered in the binary {@link ChessMovesFormat} when the client sends
+     * {@code Accept: application/x-chess-moves}. The pre-encoded bytes are copied straight into the response,
+     * with the same caching headers as the text form.
+     * <p>
+     * Example request: GET /api/v1/moveGuesser?piece=KING&pos=A1 with {@code Accept: application/x-chess-moves}
+     * returns the three bytes {@code 01 08 09} (A2, B1, B2).
+     *
+     * @return an HTTP 200 response whose body is the target square indices, see {@link ChessMovesFormat}, or 304
+     */
+    @GetMapping(produces = ChessMovesFormat.MEDIA_TYPE)
+    public ResponseEntity<byte[]> moveGuesserEncoded(@RequestParam String piece,
+                                                     @RequestParam String pos,
+                                                     @RequestParam(required = false) Integer rows,
+                                                     @RequestParam(required = false) Integer columns,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Pieces parsedPiece = null;
+        try {
+            Position position = Position.parse(pos);
+            parsedPiece = Pieces.fromString(piece.trim().toUpperCase());
+
+            long start = moveMetrics.start();
+            PreparedResponse moves = rows == null && columns == null
+                    ? moveGuesserService.getPreparedMovesEncoded(position, parsedPiece)
+                    : moveGuesserService.getPreparedMovesEncoded(position, parsedPiece, dimension(rows, columns), dimension(columns, rows));
+            ResponseEntity<byte[]> response = httpCaching.respond(moves, CHESS_MOVES, ifNoneMatch, acceptEncoding);
+            moveMetrics.recordMoves(parsedPiece, start, MoveMetrics.Format.BINARY, bodySize(response));
+            return response;
+        } catch (RuntimeException ex) {
+            moveMetrics.recordFailure(parsedPiece, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * GET endpoint that returns the squares a piece can reach in at most {@code moves} moves on an empty board.
+     * <p>
+     * Example request: GET /api/v1/moveGuesser/reachable?piece=KNIGHT&pos=A1&moves=2
+     *
+     * @param moves   number of moves, at least 0
+     * @param rows    optional number of rows, as for {@link #moveGuesser}
+     * @param columns optional number of columns, as for {@link #moveGuesser}
+     * @return an HTTP 200 response with the reachable squares, comma-separated; the starting square is not included
+     */
+    @GetMapping("/reachable")
+    public ResponseEntity<String> reachable(@RequestParam String piece,
+                                            @RequestParam String pos,
+                                            @RequestParam int moves,
+                                            @RequestParam(required = false) Integer rows,
+                                            @RequestParam(required = false) Integer columns) {
+        Position position = Position.parse(pos);
+        Pieces parsedPiece = Pieces.fromString(piece.trim().toUpperCase());
+        return ResponseEntity.ok(rows == null && columns == null
+                ? reachabilityService.getReachableSquares(position, parsedPiece, moves)
+                : reachabilityService.getReachableSquares(position, parsedPiece, moves, dimension(rows, columns), dimension(columns, rows)));
+    }
+
+    /**
+     * GET endpoint that returns the minimum number of moves between two squares and one path of that length.
+     * <p>
+     * Example request: GET /api/v1/moveGuesser/path?piece=KING&from=E1&to=H8
+     *
+     * @param rows    optional number of rows, as for {@link #moveGuesser}
+     * @param columns optional number of columns, as for {@link #moveGuesser}
+     * @return an HTTP 200 response with the distance and path; {@code moves} is -1 when {@code to} is unreachable
+     */
+    @GetMapping("/path")
+    public ResponseEntity<ShortestPath> path(@RequestParam String piece,
+                                             @RequestParam String from,
+                                             @RequestParam String to,
+                                             @RequestParam(required = false) Integer rows,
+                                             @RequestParam(required = false) Integer columns) {
+        Position source = Position.parse(from);
+        Position target = Position.parse(to);
+        Pieces parsedPiece = Pieces.fromString(piece.trim().toUpperCase());
+        return ResponseEntity.ok(rows == null && columns == null
+                ? reachabilityService.getShortestPath(source, target, parsedPiece)
+                : reachabilityService.getShortestPath(source, target, parsedPiece, dimension(rows, columns), dimension(columns, rows)));
+    }
+
+    /**
+     * GET endpoint that returns every legal move for the side to move in a full chess position.
+     * <p>
+     * Example request: GET /api/v1/moveGuesser/legalMoves?fen=rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR%20b%20KQkq%20e3%200%201
+     *
+     * @param fen the position in Forsyth-Edwards Notation; castling, en passant, promotion, checks and pins are honoured
+     * @return an HTTP 200 response containing the legal moves in UCI notation, comma-separated
+     */
+    @GetMapping("/legalMoves")
+    public ResponseEntity<String> legalMoves(@RequestParam String fen) {
+        return ResponseEntity.ok(moveGuesserService.getLegalMoves(fen));
+    }
+
+    /**
+     * GET endpoint that runs perft on a position and returns the node count per root move (divide).
+     * <p>
+     * Example request: GET /api/v1/moveGuesser/perft?depth=5
+     *
+     * @param fen   the position in Forsyth-Edwards Notation; defaults to the standard starting position
+     * @param depth depth in plies, from 1 to the configured {@code perft.max-depth}
+     * @return an HTTP 200 response with the total node count, the divide breakdown and nodes per second
+     */
+    @GetMapping("/perft")
+    public ResponseEntity<PerftReport> perft(@RequestParam(defaultValue = BoardState.START_FEN) String fen,
+                                             @RequestParam int depth) {
+        return ResponseEntity.ok(perftService.perft(fen, depth));
+    }
+
+    /**
+     * GET endpoint that searches a position for its best move within a depth and/or time budget.
+     * <p>
+     * Example request: GET /api/v1/moveGuesser/search?depth=8&threads=4
+     *
+     * @param fen     the position in Forsyth-Edwards Notation; defaults to the standard starting position
+     * @param depth   optional deepest iteration in plies, 1 to 64
+     * @param millis  optional time budget in milliseconds; defaults to {@code search.default-millis}, at most
+     *                {@code search.max-millis}
+     * @param threads optional number of Lazy SMP threads; defaults to {@code search.threads}
+     * @return an HTTP 200 response with the best move, score, principal variation, nodes per second and the
+     *         time at which each depth completed
+     */
+    @GetMapping("/search")
+    public ResponseEntity<SearchReport> search(@RequestParam(defaultValue = BoardState.START_FEN) String fen,
+                                               @RequestParam(required = false) Integer depth,
+                                               @RequestParam(required = false) Integer millis,
+                                               @RequestParam(required = false) Integer threads) {
+        return ResponseEntity.ok(searchService.search(fen, depth, millis, threads));
+    }
+
+    /**
+     * GET endpoint that returns the moves played from a position in the opening book, with how often each
+     * was chosen and how the games went on.
+     * <p>
+     * Example request: GET /api/v1/moveGuesser/book
+     *
+     * @param fen the position in Forsyth-Edwards Notation; defaults to the standard starting position
+     * @return an HTTP 200 response with the book moves, most played first; an empty list when the position is
+     *         not in the book, and HTTP 503 when no book is configured
+     */
+    @GetMapping("/book")
+    public ResponseEntity<BookReport> book(@RequestParam(defaultValue = BoardState.START_FEN) String fen) {
+        return ResponseEntity.ok(openingBookService.lookup(fen));
+    }
+
+    /**
+     * POST endpoint that answers many piece/position queries in one request.
+     * <p>
+     * The body is a JSON array (or NDJSON stream) of objects such as {@code {"piece":"QUEEN","pos":"E4"}}.
+     * Results are streamed back as NDJSON, one line per query in request order, while the body is still
+     * being read; neither the queries nor the results are buffered as a whole.
+     *
+     * @param queries the raw request body
+     * @return an HTTP 200 response streaming {@code application/x-ndjson} result lines
+     */
+    @PostMapping(path = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> batch(InputStream queries) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results -> moveBatchService.streamPossibleMoves(queries, results));
+    }
+
+    /**
+     * One side of a requested board; a single given dimension describes a square board.
+     */
+    private static int dimension(Integer value, Integer other) {
+        return value != null ? value : other;
+    }
+
+    /**
+     * Bytes sent for a move response: 0 for a 304.
+     */
+    private static int bodySize(ResponseEntity<byte[]> response) {
+        byte[] body = response.getBody();
+        return body == null ? 0 : body.length;
+    }
+}
@@ -0,0 +1,41 @@
+package com.chessMoveGuesser.moveGuesser.exception;
+
+import java.time.Duration;
+
+/**
+ * A request turned away by admission control before any work was done for it.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    public enum Reason {
+        /**
+         * The endpoint's queue was full: the caller is sending more than the endpoint can take.
+         */
+        QUEUE_FULL,
+        /**
+         * The request could not have been started before its deadline, or waited in the queue until then.
+         */
+        DEADLINE
+    }
+
+    private final Reason reason;
+
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String message, Reason reason, Duration retryAfter) {
+        super(message);
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * How long the endpoint's current backlog is expected to take to clear.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
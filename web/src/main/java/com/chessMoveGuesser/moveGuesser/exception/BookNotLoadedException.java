@@ -0,0 +1,7 @@
+package com.chessMoveGuesser.moveGuesser.exception;
+
+public class BookNotLoadedException extends RuntimeException {
+    public BookNotLoadedException(String message) {
+        super(message);
+    }
+}
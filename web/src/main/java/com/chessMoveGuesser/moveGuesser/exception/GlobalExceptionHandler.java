@@ -0,0 +1,51 @@
+package com.chessMoveGuesser.moveGuesser.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(PieceNotFoundException.class)
+    public ResponseEntity<String> handlePieceNotFoundException(PieceNotFoundException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(PostionOutOfBoardException.class)
+    public ResponseEntity<String> handlePostionOutOfBoardException(PostionOutOfBoardException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidFenException.class)
+    public ResponseEntity<String> handleInvalidFenException(InvalidFenException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidParameterException.class)
+    public ResponseEntity<String> handleInvalidParameterException(InvalidParameterException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(BookNotLoadedException.class)
+    public ResponseEntity<String> handleBookNotLoadedException(BookNotLoadedException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * 429 when the endpoint's queue is full, 503 when the request's deadline could not be met; both with a
+     * {@code Retry-After} in whole seconds, at least 1.
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<String> handleAdmissionRejectedException(AdmissionRejectedException ex) {
+        HttpStatus status = ex.getReason() == AdmissionRejectedException.Reason.QUEUE_FULL
+                ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+        long retryAfter = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter))
+                .body(ex.getMessage());
+    }
+
+}
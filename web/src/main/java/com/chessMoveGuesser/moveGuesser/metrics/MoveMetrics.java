@@ -0,0 +1,131 @@
+package com.chessMoveGuesser.moveGuesser.metrics;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PieceNotFoundException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for move queries.
+ *
+ * <ul>
+ *     <li>{@code moveguesser.lookup}: time to look up one query's answer in the response tables and, on the
+ *     single-query endpoints, build its response, per {@code piece}</li>
+ *     <li>{@code moveguesser.requests}: queries by {@code piece} and {@code outcome}</li>
+ *     <li>{@code moveguesser.response.size}: response body bytes by {@code format}</li>
+ * </ul>
+ *
+ * <p>Every meter is registered up front and kept in arrays indexed by enum ordinal, so recording is
+ * an array read and an update of the meter: no tag lists are built and no registry lookups happen per
+ * request. The timer keeps count, total and maximum only; a percentile histogram would cost more than the
+ * lookup it measures.</p>
+ */
+@Component
+public class MoveMetrics {
+
+    public enum Outcome {
+        OK, OUT_OF_BOARD, UNKNOWN_PIECE, INVALID, ERROR
+    }
+
+    public enum Format {
+        TEXT, BINARY
+    }
+
+    /**
+     * Tag value for queries whose piece could not be determined.
+     */
+    private static final String UNKNOWN = "unknown";
+
+    private final Timer[] lookups;
+
+    /**
+     * Indexed by {@code [piece.ordinal() + 1][outcome.ordinal()]}; row 0 is the unknown piece.
+     */
+    private final Counter[][] requests;
+
+    private final DistributionSummary[] responseSize;
+
+    public MoveMetrics(MeterRegistry registry) {
+        Pieces[] pieces = Pieces.values();
+        Outcome[] outcomes = Outcome.values();
+        this.lookups = new Timer[pieces.length];
+        this.requests = new Counter[pieces.length + 1][outcomes.length];
+        for (Pieces piece : pieces) {
+            lookups[piece.ordinal()] = Timer.builder("moveguesser.lookup")
+                    .description("Time to look up the answer to one query")
+                    .tag("piece", piece.name())
+                    .register(registry);
+        }
+        for (int row = 0; row <= pieces.length; row++) {
+            String piece = row == 0 ? UNKNOWN : pieces[row - 1].name();
+            for (Outcome outcome : outcomes) {
+                requests[row][outcome.ordinal()] = Counter.builder("moveguesser.requests")
+                        .description("Move queries by piece and outcome")
+                        .tag("piece", piece)
+                        .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+        }
+        this.responseSize = new DistributionSummary[Format.values().length];
+        for (Format format : Format.values()) {
+            responseSize[format.ordinal()] = DistributionSummary.builder("moveguesser.response.size")
+                    .description("Size of move query response bodies")
+                    .baseUnit("bytes")
+                    .tag("format", format.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Timestamp to pass to {@link #recordMoves}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a successful query whose answer took from {@code startNanos} until now to look up.
+     */
+    public void recordMoves(Pieces piece, long startNanos) {
+        lookups[piece.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        requests[piece.ordinal() + 1][Outcome.OK.ordinal()].increment();
+    }
+
+    /**
+     * Record a successful query and the size of the response body it produced.
+     */
+    public void recordMoves(Pieces piece, long startNanos, Format format, int responseBytes) {
+        recordMoves(piece, startNanos);
+        responseSize[format.ordinal()].record(responseBytes);
+    }
+
+    /**
+     * Record a query that failed.
+     *
+     * @param piece the query's piece, or {@code null} if it was not parsed yet
+     */
+    public void recordFailure(Pieces piece, RuntimeException failure) {
+        requests[piece == null ? 0 : piece.ordinal() + 1][outcome(failure).ordinal()].increment();
+    }
+
+    private static Outcome outcome(RuntimeException failure) {
+        if (failure instanceof PostionOutOfBoardException) {
+            return Outcome.OUT_OF_BOARD;
+        }
+        if (failure instanceof PieceNotFoundException) {
+            return Outcome.UNKNOWN_PIECE;
+        }
+        if (failure instanceof InvalidParameterException || failure instanceof IllegalArgumentException) {
+            return Outcome.INVALID;
+        }
+        return Outcome.ERROR;
+    }
+}
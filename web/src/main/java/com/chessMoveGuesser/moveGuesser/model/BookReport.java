@@ -0,0 +1,19 @@
+package com.chessMoveGuesser.moveGuesser.model;
+
+import java.util.List;
+
+/**
+ * Opening book statistics of a position: how often each move was played in the ingested games and how those
+ * games ended. {@code games} is the number of games that reached the position, {@code moves} lists the
+ * book moves most played first and is empty for a position the book does not know.
+ */
+public record BookReport(String fen, long games, List<BookMove> moves) {
+
+    /**
+     * One book move. {@code frequency} is its share of the position's games; {@code score} is the points
+     * scored by the side to move after it, a win counting 1 and a draw 0.5, divided by its games.
+     */
+    public record BookMove(String move, String san, int games, double frequency, int whiteWins, int draws,
+                           int blackWins, double score) {
+    }
+}
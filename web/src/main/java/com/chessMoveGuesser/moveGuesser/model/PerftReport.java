@@ -0,0 +1,20 @@
+package com.chessMoveGuesser.moveGuesser.model;
+
+import com.chessMoveGuesser.moveGuesser.engine.TranspositionTable;
+
+import java.util.Map;
+
+/**
+ * Result of a perft run: the total leaf count at {@code depth}, the count under each root move
+ * (in UCI notation) and the measured throughput. {@code hashTable} holds the cumulative counters of the shared
+ * subtree cache, or {@code null} when it is disabled.
+ */
+public record PerftReport(String fen,
+                          int depth,
+                          long nodes,
+                          long timeMillis,
+                          long nodesPerSecond,
+                          int threads,
+                          TranspositionTable.Stats hashTable,
+                          Map<String, Long> divide) {
+}
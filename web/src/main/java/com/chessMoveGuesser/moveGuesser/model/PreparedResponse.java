@@ -0,0 +1,76 @@
+package com.chessMoveGuesser.moveGuesser.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body encoded once, on its first request, together with everything an HTTP cache needs: a strong
+ * {@code ETag} and, when it is smaller, a gzip-encoded variant with its own {@code ETag}.
+ *
+ * <p>The identity tag is the first 64 bits of the SHA-256 of the media type and the body. Every replica and
+ * every restart therefore give the same tag for the same representation. A change to the answer changes the
+ * tag, and so does another media type with the same bytes, such as an empty answer as text and as
+ * {@code application/x-chess-moves}. The gzip variant's tag is the identity tag with a {@code -gzip} suffix,
+ * since it is a different representation of the same resource.</p>
+ *
+ * @param body identity-encoded body; shared, so callers must not modify it
+ * @param etag quoted strong entity tag of {@code body}
+ * @param gzipBody gzip-encoded body, or {@code null} when gzip would not make it smaller
+ * @param gzipEtag quoted strong entity tag of {@code gzipBody}, or {@code null}
+ */
+public record PreparedResponse(byte[] body, String etag, byte[] gzipBody, String gzipEtag) {
+
+    /**
+     * Number of digest bytes kept in a tag.
+     */
+    private static final int TAG_BYTES = 8;
+
+    /**
+     * Hash and compress a body.
+     *
+     * @param mediaType media type the body is sent as, part of its tag
+     * @param body      identity-encoded body
+     */
+    public static PreparedResponse of(String mediaType, byte[] body) {
+        String tag = HexFormat.of().formatHex(sha256(mediaType, body), 0, TAG_BYTES);
+        byte[] gzip = gzip(body);
+        boolean smaller = gzip.length < body.length;
+        return new PreparedResponse(body, '"' + tag + '"',
+                smaller ? gzip : null, smaller ? "\"" + tag + "-gzip\"" : null);
+    }
+
+    public boolean hasGzip() {
+        return gzipBody != null;
+    }
+
+    private static byte[] sha256(String mediaType, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(mediaType.getBytes(StandardCharsets.US_ASCII));
+            // A separator no media type contains, so type and body cannot run into each other
+            digest.update((byte) 0);
+            return digest.digest(body);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform", ex);
+        }
+    }
+
+    /**
+     * GZIP output with a zero timestamp, so the same body always compresses to the same bytes.
+     */
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, Math.max(body.length, 1))) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,28 @@
+package com.chessMoveGuesser.moveGuesser.model;
+
+import com.chessMoveGuesser.moveGuesser.engine.TranspositionTable;
+
+import java.util.List;
+
+/**
+ * Result of a best-move search. {@code score} is in centipawns from the side to move's point of view;
+ * {@code mate} is the number of moves to a forced mate instead (negative when the side to move gets mated),
+ * or {@code null}. {@code bestMove} is {@code null} when the side to move has no legal move. Each iteration
+ * records when the main thread completed that depth, which gives the time-to-depth curve.
+ */
+public record SearchReport(String fen,
+                           String bestMove,
+                           int score,
+                           Integer mate,
+                           int depth,
+                           List<String> pv,
+                           long nodes,
+                           long timeMillis,
+                           long nodesPerSecond,
+                           int threads,
+                           List<Iteration> iterations,
+                           TranspositionTable.Stats hashTable) {
+
+    public record Iteration(int depth, int score, long nodes, long timeMillis, List<String> pv) {
+    }
+}
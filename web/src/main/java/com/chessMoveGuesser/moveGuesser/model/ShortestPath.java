@@ -0,0 +1,15 @@
+package com.chessMoveGuesser.moveGuesser.model;
+
+import java.util.List;
+
+/**
+ * Result of a shortest-path query: the minimum number of moves the piece needs from {@code from} to
+ * {@code to} and one path of that length, both ends included. When the target cannot be reached,
+ * {@code moves} is -1 and {@code path} is empty.
+ */
+public record ShortestPath(Pieces piece,
+                           String from,
+                           String to,
+                           int moves,
+                           List<String> path) {
+}
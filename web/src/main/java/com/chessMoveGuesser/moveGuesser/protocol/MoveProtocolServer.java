@@ -0,0 +1,481 @@
+package com.chessMoveGuesser.moveGuesser.protocol;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.service.MoveGuesserService;
+import com.chessMoveGuesser.moveGuesser.service.MoveResponseTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * TCP listener for the {@link MoveProtocol}, next to the REST API, for service-to-service move queries.
+ *
+ * <p>An acceptor thread hands each new connection to one of {@code protocol.selector-threads} selector
+ * threads, round robin. A selector thread does everything for its connections: it reads into a direct buffer
+ * per connection, answers every complete request in it from the {@link MoveGuesserService} response tables
+ * and writes the answers from a second direct buffer. A lookup in a built table is an array read, far cheaper
+ * than a hand-off to another thread. Pipelined requests that arrive together are answered together and
+ * written back in one write.</p>
+ *
+ * <p>A table that is not built yet is not built on the selector thread, where it would stall every other
+ * connection of the loop for up to a second on the largest boards. The connection stops being served, the
+ * table is built on the {@code computePool}, and the connection resumes with the request that needed it, so
+ * answers keep their order. That request is answered from the table the builder hands back, not from the
+ * cache, which may have evicted it again; if the build failed it gets an error answer.</p>
+ *
+ * <p>A connection that fails in any other way than a rejected query is closed on its own; the other
+ * connections of its loop are not affected.</p>
+ *
+ * <p>A connection whose answer buffer cannot be written, because the client is not reading, is not read
+ * again until it drains. A slow client therefore cannot make the server buffer without bound.</p>
+ *
+ * <p>Enabled with {@code protocol.enabled=true}; listens on {@code protocol.port} (0 for any free port).</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "protocol.enabled", havingValue = "true")
+public class MoveProtocolServer implements SmartLifecycle {
+
+    private static final int READ_BUFFER_BYTES = 16 * 1024;
+
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private static final Pieces[] PIECES = Pieces.values();
+
+    private final MoveGuesserService moveGuesserService;
+
+    private final Executor tableBuilder;
+
+    private final int boardSize;
+
+    private final int port;
+
+    private final int selectorThreads;
+
+    private ServerSocketChannel serverChannel;
+
+    private SelectorLoop[] loops;
+
+    private Thread acceptor;
+
+    private volatile boolean running;
+
+    /**
+     * @param tableBuilder    where response tables missing for a query are built
+     * @param boardSize       the service's configured board, named in answers to queries without a geometry
+     * @param selectorThreads selector threads; 0 for one per two cores
+     */
+    public MoveProtocolServer(MoveGuesserService moveGuesserService,
+                              @Qualifier("computePool") Executor tableBuilder,
+                              @Value("${board.size}") int boardSize,
+                              @Value("${protocol.port:9090}") int port,
+                              @Value("${protocol.selector-threads:0}") int selectorThreads) {
+        this.moveGuesserService = moveGuesserService;
+        this.tableBuilder = tableBuilder;
+        this.boardSize = boardSize;
+        this.port = port;
+        this.selectorThreads = selectorThreads > 0
+                ? selectorThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    @Override
+    public synchronized void start() {
+        try {
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(port));
+            loops = new SelectorLoop[selectorThreads];
+            for (int i = 0; i < loops.length; i++) {
+                loops[i] = new SelectorLoop(Selector.open());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot listen for the move protocol on port " + port, ex);
+        }
+        running = true;
+        for (int i = 0; i < loops.length; i++) {
+            loops[i].thread = Thread.ofPlatform().name("move-protocol-" + i).daemon().start(loops[i]);
+        }
+        acceptor = Thread.ofPlatform().name("move-protocol-acceptor").daemon().start(this::accept);
+        log.info("Move protocol listening on port {} with {} selector thread(s)", getPort(), loops.length);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            serverChannel.close();
+            acceptor.join();
+            for (SelectorLoop loop : loops) {
+                loop.selector.wakeup();
+                loop.thread.join();
+            }
+        } catch (IOException ex) {
+            log.warn("Closing the move protocol listener failed", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Port the listener is bound to, which differs from {@code protocol.port} when that is 0.
+     */
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void accept() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                loops[next].register(channel);
+                next = (next + 1) % loops.length;
+            } catch (ClosedChannelException ex) {
+                return;
+            } catch (IOException ex) {
+                log.warn("Accepting a move protocol connection failed", ex);
+            }
+        }
+    }
+
+    /**
+     * One selector thread and its connections.
+     */
+    private final class SelectorLoop implements Runnable {
+
+        private final Selector selector;
+
+        private final Queue<SocketChannel> accepted = new ConcurrentLinkedQueue<>();
+
+        private final Queue<Built> built = new ConcurrentLinkedQueue<>();
+
+        private Thread thread;
+
+        SelectorLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        void register(SocketChannel channel) {
+            accepted.add(channel);
+            selector.wakeup();
+        }
+
+        /**
+         * Hand a connection the table it waited for, or why it could not be built, and serve it again; called
+         * from the builder.
+         */
+        void resume(SelectionKey key, MoveResponseTable table, RuntimeException failure) {
+            built.add(new Built(key, table, failure));
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    for (SocketChannel channel; (channel = accepted.poll()) != null; ) {
+                        channel.register(selector, SelectionKey.OP_READ, new Connection(this, channel));
+                    }
+                    for (Built result; (result = built.poll()) != null; ) {
+                        if (result.key().isValid()) {
+                            ((Connection) result.key().attachment()).outcome = result;
+                            serve(result.key());
+                        }
+                    }
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        serve(key);
+                    }
+                    selector.selectedKeys().clear();
+                }
+            } catch (IOException ex) {
+                log.error("Move protocol selector failed", ex);
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    close(key);
+                }
+                accepted.forEach(MoveProtocolServer::closeQuietly);
+                closeQuietly(selector);
+            }
+        }
+
+        private void serve(SelectionKey key) {
+            Connection connection = (Connection) key.attachment();
+            try {
+                if (key.isReadable() && connection.channel.read(connection.in) < 0) {
+                    close(key);
+                    return;
+                }
+                connection.drain(key);
+            } catch (IOException ex) {
+                // Reset by the peer or a protocol violation; either way the connection is done
+                close(key);
+            } catch (RuntimeException ex) {
+                log.warn("Closing a move protocol connection after an unexpected failure", ex);
+                close(key);
+            }
+        }
+
+        private void close(SelectionKey key) {
+            key.cancel();
+            closeQuietly(key.channel());
+        }
+    }
+
+    /**
+     * Outcome of building a table for a waiting connection: the table, or the failure.
+     */
+    private record Built(SelectionKey key, MoveResponseTable table, RuntimeException failure) {
+    }
+
+    /**
+     * Why a connection stopped answering the requests in its read buffer.
+     */
+    private enum Stop {
+        /** No complete request is left. */
+        NEED_INPUT,
+        /** The write buffer has no room for another answer. */
+        OUTPUT_FULL,
+        /** The next request needs a response table that is not built yet. */
+        TABLE_MISSING
+    }
+
+    /**
+     * Buffers of one connection. Only its selector thread touches it.
+     */
+    private final class Connection {
+
+        private final SelectorLoop loop;
+
+        private final SocketChannel channel;
+
+        private final ByteBuffer in = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+
+        private final ByteBuffer out = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+
+        /**
+         * Geometry whose table the next request waits for; {@code null} when it waits for nothing.
+         */
+        private Board waitingFor;
+
+        /**
+         * The table built for the waiting request, or why it could not be built, once the builder is done. The
+         * request is answered from this reference, so the cache evicting the table again in the meantime does
+         * not matter.
+         */
+        private Built outcome;
+
+        /**
+         * Table the request being answered is looked up in; {@code null} for the configured board.
+         */
+        private MoveResponseTable table;
+
+        /**
+         * Why the request being answered cannot be looked up at all.
+         */
+        private RuntimeException failure;
+
+        Connection(SelectorLoop loop, SocketChannel channel) {
+            this.loop = loop;
+            this.channel = channel;
+        }
+
+        /**
+         * Answer the buffered requests and write the answers, until either no complete request is left or
+         * the client stops taking answers. Reading resumes only once every answer has been written.
+         */
+        void drain(SelectionKey key) throws IOException {
+            while (true) {
+                in.flip();
+                Stop stop = answer();
+                in.compact();
+                out.flip();
+                channel.write(out);
+                boolean written = !out.hasRemaining();
+                out.compact();
+                if (!written) {
+                    key.interestOps(SelectionKey.OP_WRITE);
+                    return;
+                }
+                if (stop == Stop.TABLE_MISSING) {
+                    // Neither read nor write until the table is built; the builder resumes the connection
+                    key.interestOps(0);
+                    buildTable(key);
+                    return;
+                }
+                if (stop == Stop.NEED_INPUT) {
+                    key.interestOps(SelectionKey.OP_READ);
+                    return;
+                }
+            }
+        }
+
+        private void buildTable(SelectionKey key) {
+            int rows = waitingFor.getRows();
+            int columns = waitingFor.getColumns();
+            tableBuilder.execute(() -> {
+                MoveResponseTable table = null;
+                RuntimeException failure = null;
+                try {
+                    table = moveGuesserService.getResponseTable(rows, columns);
+                } catch (RuntimeException ex) {
+                    log.warn("Building the {}x{} response table failed", rows, columns, ex);
+                    failure = ex;
+                }
+                loop.resume(key, table, failure);
+            });
+        }
+
+        /**
+         * Answer complete requests from {@code in} into {@code out}.
+         *
+         * @return why it stopped
+         */
+        private Stop answer() throws ProtocolException {
+            while (in.remaining() >= MoveProtocol.LENGTH_BYTES) {
+                int length = in.getShort(in.position()) & 0xFFFF;
+                if (length > MoveProtocol.MAX_REQUEST_LENGTH) {
+                    throw new ProtocolException("Request of " + length + " bytes");
+                }
+                if (in.remaining() < MoveProtocol.LENGTH_BYTES + length) {
+                    return Stop.NEED_INPUT;
+                }
+                if (out.remaining() < MoveProtocol.MAX_ANSWER_FRAME) {
+                    return Stop.OUTPUT_FULL;
+                }
+                if (!resolveTable(length)) {
+                    return Stop.TABLE_MISSING;
+                }
+                in.position(in.position() + MoveProtocol.LENGTH_BYTES);
+                int end = in.position() + length;
+                answer(length);
+                in.position(end);
+            }
+            return Stop.NEED_INPUT;
+        }
+
+        /**
+         * Find the table the request at the current position is looked up in, into {@link #table} or
+         * {@link #failure}. A table that is neither the configured one nor cached is not built here: the
+         * request then waits for it in {@link #waitingFor}.
+         *
+         * @return whether the request can be answered now
+         */
+        private boolean resolveTable(int length) {
+            table = null;
+            failure = null;
+            int start = in.position() + MoveProtocol.LENGTH_BYTES;
+            if (length != MoveProtocol.MOVES_LENGTH || in.get(start) != MoveProtocol.MOVES) {
+                return true;
+            }
+            int rows = in.get(start + 2) & 0xFF;
+            int columns = in.get(start + 3) & 0xFF;
+            if (rows == 0 && columns == 0) {
+                return true;
+            }
+            int boardRows = rows > 0 ? rows : columns;
+            int boardColumns = columns > 0 ? columns : rows;
+            if (waitingFor != null) {
+                if (outcome == null) {
+                    return false;
+                }
+                // The request the build was for, back with its outcome
+                table = outcome.table();
+                failure = outcome.failure();
+                waitingFor = null;
+                outcome = null;
+                return true;
+            }
+            try {
+                table = moveGuesserService.findResponseTable(boardRows, boardColumns);
+            } catch (RuntimeException ex) {
+                failure = ex;
+                return true;
+            }
+            if (table == null) {
+                waitingFor = new Board(boardRows, boardColumns);
+                return false;
+            }
+            return true;
+        }
+
+        private void answer(int length) {
+            if (length != MoveProtocol.MOVES_LENGTH || in.get() != MoveProtocol.MOVES) {
+                MoveProtocol.writeError(out, MoveProtocol.BAD_REQUEST, "Unsupported request");
+                return;
+            }
+            int piece = in.get() & 0xFF;
+            // Rows and columns are already resolved into table by resolveTable
+            in.position(in.position() + 2);
+            int row = in.get() & 0xFF;
+            int column = in.get() & 0xFF;
+            if (piece >= PIECES.length) {
+                MoveProtocol.writeError(out, MoveProtocol.BAD_REQUEST, "Invalid piece: " + piece);
+                return;
+            }
+            if (failure != null) {
+                MoveProtocol.writeError(out, MoveProtocol.BAD_REQUEST, failure instanceof InvalidParameterException
+                        ? failure.getMessage()
+                        : "The response table of this board geometry could not be built");
+                return;
+            }
+            Position position = Position.of(row, column);
+            try {
+                if (table == null) {
+                    byte[] squares = moveGuesserService.getPossibleMovesEncoded(position, PIECES[piece]);
+                    MoveProtocol.writeAnswer(out, boardSize, boardSize, squares);
+                } else {
+                    byte[] squares = table.getEncoded(PIECES[piece], table.squareIndex(position));
+                    MoveProtocol.writeAnswer(out, table.board().getRows(), table.board().getColumns(), squares);
+                }
+            } catch (PostionOutOfBoardException ex) {
+                MoveProtocol.writeError(out, MoveProtocol.OUT_OF_BOARD, ex.getMessage());
+            } catch (InvalidParameterException ex) {
+                MoveProtocol.writeError(out, MoveProtocol.BAD_REQUEST, ex.getMessage());
+            }
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ex) {
+            // Nothing left to do with it
+        }
+    }
+}
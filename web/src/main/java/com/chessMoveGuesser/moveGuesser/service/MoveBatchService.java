@@ -0,0 +1,18 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface MoveBatchService {
+
+    /**
+     * Answer a stream of piece/position queries, writing one NDJSON result line per query as soon as it is
+     * computed. Queries are read incrementally, so memory use does not grow with the number of queries.
+     *
+     * @param queries JSON array of {@code {"piece": ..., "pos": ...}} objects, or the same objects as NDJSON;
+     *                optional {@code "rows"} and {@code "columns"} fields select another board geometry
+     * @param results destination for the NDJSON result lines
+     */
+    void streamPossibleMoves(InputStream queries, OutputStream results);
+
+}
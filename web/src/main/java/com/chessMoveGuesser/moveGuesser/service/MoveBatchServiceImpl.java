@@ -0,0 +1,207 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.engine.AttackTables;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.metrics.MoveMetrics;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Streaming implementation of {@link MoveBatchService}.
+ *
+ * <p>Each query is parsed, dispatched to its {@link MoveStratergy} through the {@link MoveStratergyFactory}
+ * and written out before the next one is read, so a request with any number of queries is served with a
+ * single parser, a single generator and a fixed-size scratch buffer. Result lines look like
+ * {@code {"piece":"KING","pos":"A1","moves":["A2","B1","B2"]}}; a query that cannot be answered produces
+ * {@code {"piece":...,"pos":...,"error":"..."}} instead and the stream continues, as it does after an
+ * element that is not an object, answered with {@code {"error":"..."}}. A query may carry {@code "rows"} and
+ * {@code "columns"} to use another board geometry than the configured one; a single dimension describes a
+ * square board.</p>
+ */
+@Service
+public class MoveBatchServiceImpl implements MoveBatchService {
+
+    /**
+     * Number of result lines written between explicit flushes, so slow producers still stream results
+     * to the client instead of waiting for the output buffer to fill.
+     */
+    private static final int FLUSH_INTERVAL = 512;
+
+    private final Board board;
+
+    private final MoveStratergyFactory moveStratergyFactory;
+
+    private final JsonMapper jsonMapper;
+
+    private final MoveMetrics moveMetrics;
+
+    /**
+     * @param size configured board size (both rows and columns)
+     * @param moveStratergyFactory factory that provides move strategies by piece type
+     * @param jsonMapper mapper used to create the streaming parser and generator
+     * @param moveMetrics meters recording each query's strategy time and outcome
+     */
+    @Autowired
+    public MoveBatchServiceImpl(@Value("${board.size}") int size, MoveStratergyFactory moveStratergyFactory,
+                                JsonMapper jsonMapper, MoveMetrics moveMetrics) {
+        this.board = new Board(size, size);
+        AttackTables.forBoard(board);
+        this.moveStratergyFactory = moveStratergyFactory;
+        this.jsonMapper = jsonMapper;
+        this.moveMetrics = moveMetrics;
+    }
+
+    @Override
+    public void streamPossibleMoves(InputStream queries, OutputStream results) {
+        char[] square = new char[16];
+        try (JsonParser parser = jsonMapper.createParser(queries);
+             // Lines are terminated explicitly, so drop the default space between root values
+             JsonGenerator generator = jsonMapper.writer().withRootValueSeparator("").createGenerator(results)) {
+            try {
+                JsonToken token = parser.nextToken();
+                // Accept either one top-level array or a sequence of top-level objects (NDJSON)
+                boolean array = token == JsonToken.START_ARRAY;
+                if (array) {
+                    token = parser.nextToken();
+                }
+                int written = 0;
+                while (token != null && token != JsonToken.END_ARRAY) {
+                    writeResult(parser, generator, square);
+                    if (++written % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                    token = parser.nextToken();
+                }
+            } catch (JacksonException ex) {
+                // The response is already streaming, so malformed input is reported as a final line
+                generator.writeStartObject();
+                generator.writeStringProperty("error", "Malformed batch input: " + ex.getOriginalMessage());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    /**
+     * Read one query (the parser is positioned on its first token) and write its result line. An element
+     * that is not an object is skipped with an error line of its own.
+     */
+    private void writeResult(JsonParser parser, JsonGenerator generator, char[] square) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            generator.writeStartObject();
+            generator.writeStringProperty("error", "Expected a query object but found " + parser.currentToken());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            parser.skipChildren();
+            return;
+        }
+        String piece = null;
+        String pos = null;
+        int rows = 0;
+        int columns = 0;
+        String name;
+        while ((name = parser.nextName()) != null) {
+            JsonToken value = parser.nextToken();
+            if ("piece".equals(name) && value == JsonToken.VALUE_STRING) {
+                piece = parser.getString();
+            } else if ("pos".equals(name) && value == JsonToken.VALUE_STRING) {
+                pos = parser.getString();
+            } else if ("rows".equals(name) && value == JsonToken.VALUE_NUMBER_INT) {
+                rows = parser.getIntValue();
+            } else if ("columns".equals(name) && value == JsonToken.VALUE_NUMBER_INT) {
+                columns = parser.getIntValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        generator.writeStartObject();
+        generator.writeStringProperty("piece", piece);
+        generator.writeStringProperty("pos", pos);
+        Pieces parsedPiece = null;
+        try {
+            Board geometry = geometry(rows, columns);
+            if (piece == null || pos == null) {
+                throw new IllegalArgumentException("Both piece and pos are required.");
+            }
+            parsedPiece = Pieces.fromString(piece);
+            long start = moveMetrics.start();
+            long[] moves = getMovesMask(parsedPiece, pos, geometry);
+            moveMetrics.recordMoves(parsedPiece, start);
+            generator.writeName("moves");
+            generator.writeStartArray();
+            for (int word = 0; word < moves.length; word++) {
+                for (long bits = moves[word]; bits != 0; bits &= bits - 1) {
+                    int length = writeSquare(word * Long.SIZE + Long.numberOfTrailingZeros(bits), geometry, square);
+                    generator.writeString(square, 0, length);
+                }
+            }
+            generator.writeEndArray();
+        } catch (RuntimeException ex) {
+            moveMetrics.recordFailure(parsedPiece, ex);
+            generator.writeStringProperty("error", ex.getMessage());
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Board of a query: the configured one unless the query names a geometry (0 when absent).
+     */
+    private Board geometry(int rows, int columns) {
+        if (rows == 0 && columns == 0) {
+            return board;
+        }
+        int boardRows = rows != 0 ? rows : columns;
+        int boardColumns = columns != 0 ? columns : rows;
+        if (boardRows == board.getRows() && boardColumns == board.getColumns()) {
+            return board;
+        }
+        if (!Board.isSupported(boardRows, boardColumns)) {
+            throw new IllegalArgumentException("Board geometry " + boardRows + "x" + boardColumns
+                    + " is not supported; each side must be between 1 and " + Board.MAX_DIMENSION + ".");
+        }
+        return new Board(boardRows, boardColumns);
+    }
+
+    private long[] getMovesMask(Pieces piece, String pos, Board geometry) {
+        Position position = Position.parse(pos);
+        if (!geometry.isValid(position)) {
+            throw new PostionOutOfBoardException("The provided position " + position + " is out of board bounds.");
+        }
+        return moveStratergyFactory.getStrategy(piece).getMovesMask(geometry.squareIndex(position), geometry);
+    }
+
+    /**
+     * Render a square index into {@code buffer} in the same notation as {@link Position#toDto()}.
+     *
+     * @return number of characters written
+     */
+    private static int writeSquare(int square, Board geometry, char[] buffer) {
+        int row = square % geometry.getRows() + 1;
+        int column = square / geometry.getRows() + 1;
+        int length = 0;
+        // Columns after Z continue as AA, AB, ...; boards are at most 32 wide, so two letters suffice
+        if (column > 26) {
+            buffer[length++] = (char) ('A' + (column - 1) / 26 - 1);
+        }
+        buffer[length++] = (char) ('A' + (column - 1) % 26);
+        if (row >= 10) {
+            buffer[length++] = (char) ('0' + row / 10);
+        }
+        buffer[length++] = (char) ('0' + row % 10);
+        return length;
+    }
+}
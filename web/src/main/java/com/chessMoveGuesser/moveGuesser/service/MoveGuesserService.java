@@ -0,0 +1,78 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.model.PreparedResponse;
+
+public interface MoveGuesserService {
+
+    String getPossibleMoves(Position position, Pieces piece);
+
+    /**
+     * Possible moves on a board of the given geometry instead of the configured {@code board.size} one.
+     *
+     * @param rows    number of rows, 1 to {@link Board#MAX_DIMENSION}
+     * @param columns number of columns, 1 to {@link Board#MAX_DIMENSION}
+     */
+    String getPossibleMoves(Position position, Pieces piece, int rows, int columns);
+
+    /**
+     * Possible moves in the binary {@link com.chessMoveGuesser.moveGuesser.model.ChessMovesFormat}.
+     *
+     * @return the encoded target squares; shared, so callers must not modify it
+     */
+    byte[] getPossibleMovesEncoded(Position position, Pieces piece);
+
+    /**
+     * Binary form of {@link #getPossibleMoves(Position, Pieces, int, int)}.
+     */
+    byte[] getPossibleMovesEncoded(Position position, Pieces piece, int rows, int columns);
+
+    /**
+     * Response table of a geometry if it can be had without building it: the configured one, or one still
+     * cached.
+     *
+     * @return the table, or {@code null} if it would have to be built
+     * @throws com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException if the geometry is not
+     *         supported
+     */
+    MoveResponseTable findResponseTable(int rows, int columns);
+
+    /**
+     * Response table of a geometry, built and cached first if needed.
+     *
+     * @throws com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException if the geometry is not
+     *         supported
+     */
+    MoveResponseTable getResponseTable(int rows, int columns);
+
+    /**
+     * {@link #getPossibleMoves(Position, Pieces)} as a UTF-8 body with its ETag and gzip variant.
+     */
+    PreparedResponse getPreparedMoves(Position position, Pieces piece);
+
+    /**
+     * {@link #getPossibleMoves(Position, Pieces, int, int)} as a UTF-8 body with its ETag and gzip variant.
+     */
+    PreparedResponse getPreparedMoves(Position position, Pieces piece, int rows, int columns);
+
+    /**
+     * {@link #getPossibleMovesEncoded(Position, Pieces)} with its ETag and gzip variant.
+     */
+    PreparedResponse getPreparedMovesEncoded(Position position, Pieces piece);
+
+    /**
+     * {@link #getPossibleMovesEncoded(Position, Pieces, int, int)} with its ETag and gzip variant.
+     */
+    PreparedResponse getPreparedMovesEncoded(Position position, Pieces piece, int rows, int columns);
+
+    /**
+     * List every legal move for the side to move in a full chess position.
+     *
+     * @param fen the position in Forsyth-Edwards Notation
+     * @return comma-separated moves in UCI notation (e.g. "e2e4, g1f3")
+     */
+    String getLegalMoves(String fen);
+
+}
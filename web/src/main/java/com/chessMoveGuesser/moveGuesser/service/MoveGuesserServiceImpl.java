@@ -0,0 +1,181 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.Move;
+import com.chessMoveGuesser.moveGuesser.engine.MoveGenerator;
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.model.PreparedResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation that computes possible moves for a given chess piece and board position.
+ *
+ * <p>The board size is read from the {@code board.size} property and used to construct a {@link Board}
+ * instance which validates positions. Move computation is delegated to a {@link MoveStratergyFactory}
+ * that returns the appropriate {@code MoveStratergy} for a {@link Pieces} value.</p>
+ *
+ * <p>Every piece + position answer for the configured board is rendered at construction into a
+ * {@link MoveResponseTable}, so requests are served by an array lookup instead of recomputing moves or
+ * going through a cache keyed by strings. Queries for any other geometry get their own table, built on first
+ * use and kept in a bounded cache.</p>
+ */
+@Service
+public class MoveGuesserServiceImpl implements MoveGuesserService {
+
+    /**
+     * Board used to validate bounds for generated positions.
+     * Constructed from the configured {@code board.size} property.
+     */
+    private final Board board;
+
+    /**
+     * Factory that maps {@link Pieces} to their respective {@code MoveStratergy} implementations.
+     * Used to render the response tables.
+     */
+    private final MoveStratergyFactory moveStratergyFactory;
+
+    /**
+     * Pre-rendered responses for {@link #board}.
+     */
+    private final MoveResponseTable responses;
+
+    /**
+     * Response tables of other geometries requested through {@link #getPossibleMoves(Position, Pieces, int, int)}.
+     */
+    private final Cache<Board, MoveResponseTable> responseTables;
+
+    /**
+     * Construct the service with the configured board size and a strategy factory.
+     *
+     * @param size configured board size (both rows and columns); at most {@link Board#MAX_DIMENSION}
+     * @param moveStratergyFactory factory that provides move strategies by piece type
+     * @param responseTables bounded cache for the response tables of other geometries
+     */
+    @Autowired
+    public MoveGuesserServiceImpl(@Value("${board.size}") int size, MoveStratergyFactory moveStratergyFactory,
+                                  Cache<Board, MoveResponseTable> responseTables) {
+        // Create a square board of the provided size
+        this.board = new Board(size, size);
+        this.moveStratergyFactory = moveStratergyFactory;
+        // Render every answer for this geometry up front so no request pays for it
+        this.responses = MoveResponseTable.build(board, moveStratergyFactory);
+        this.responseTables = responseTables;
+    }
+
+    /**
+     * Look up the possible moves for the given piece at the given position.
+     *
+     * <p>The answer comes from the {@link MoveResponseTable} built for the configured board, so this
+     * method neither computes moves nor allocates.</p>
+     *
+     * @param position starting board position
+     * @param piece piece type for which moves should be calculated
+     * @return comma-separated DTO strings for each valid target position (e.g. "e4, f6")
+     */
+    @Override
+    public String getPossibleMoves(Position position, Pieces piece) {
+        return responses.get(piece, responses.squareIndex(position));
+    }
+
+    /**
+     * Look up the possible moves on a board of the given geometry. The configured geometry is served from
+     * its startup table; others are rendered on first use and then cached.
+     *
+     * @throws InvalidParameterException if a side is outside 1 to {@link Board#MAX_DIMENSION}
+     */
+    @Override
+    public String getPossibleMoves(Position position, Pieces piece, int rows, int columns) {
+        MoveResponseTable table = getResponseTable(rows, columns);
+        return table.get(piece, table.squareIndex(position));
+    }
+
+    @Override
+    public byte[] getPossibleMovesEncoded(Position position, Pieces piece) {
+        return responses.getEncoded(piece, responses.squareIndex(position));
+    }
+
+    @Override
+    public byte[] getPossibleMovesEncoded(Position position, Pieces piece, int rows, int columns) {
+        MoveResponseTable table = getResponseTable(rows, columns);
+        return table.getEncoded(piece, table.squareIndex(position));
+    }
+
+    @Override
+    public PreparedResponse getPreparedMoves(Position position, Pieces piece) {
+        return responses.getPrepared(piece, responses.squareIndex(position));
+    }
+
+    @Override
+    public PreparedResponse getPreparedMoves(Position position, Pieces piece, int rows, int columns) {
+        MoveResponseTable table = getResponseTable(rows, columns);
+        return table.getPrepared(piece, table.squareIndex(position));
+    }
+
+    @Override
+    public PreparedResponse getPreparedMovesEncoded(Position position, Pieces piece) {
+        return responses.getPreparedEncoded(piece, responses.squareIndex(position));
+    }
+
+    @Override
+    public PreparedResponse getPreparedMovesEncoded(Position position, Pieces piece, int rows, int columns) {
+        MoveResponseTable table = getResponseTable(rows, columns);
+        return table.getPreparedEncoded(piece, table.squareIndex(position));
+    }
+
+    @Override
+    public MoveResponseTable findResponseTable(int rows, int columns) {
+        if (rows == board.getRows() && columns == board.getColumns()) {
+            return responses;
+        }
+        checkSupported(rows, columns);
+        return responseTables.getIfPresent(new Board(rows, columns));
+    }
+
+    @Override
+    public MoveResponseTable getResponseTable(int rows, int columns) {
+        if (rows == board.getRows() && columns == board.getColumns()) {
+            return responses;
+        }
+        checkSupported(rows, columns);
+        return responseTables.get(new Board(rows, columns),
+                geometry -> MoveResponseTable.build(geometry, moveStratergyFactory));
+    }
+
+    private static void checkSupported(int rows, int columns) {
+        if (!Board.isSupported(rows, columns)) {
+            throw new InvalidParameterException("Board geometry " + rows + "x" + columns
+                    + " is not supported; each side must be between 1 and " + Board.MAX_DIMENSION + ".");
+        }
+    }
+
+    /**
+     * Generate the legal moves of a FEN position with the bitboard {@link MoveGenerator}.
+     *
+     * <p>The board here is always the standard 8x8 chess board; {@code board.size} only applies to
+     * single-piece queries.</p>
+     *
+     * @param fen the position in Forsyth-Edwards Notation
+     * @return comma-separated moves in UCI notation, in generation order
+     */
+    @Override
+    public String getLegalMoves(String fen) {
+        BoardState state = BoardState.fromFen(fen);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generate(state, moves, 0);
+
+        StringBuilder result = new StringBuilder(count * 7);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            Move.appendUci(result, moves[i]);
+        }
+        return result.toString();
+    }
+}
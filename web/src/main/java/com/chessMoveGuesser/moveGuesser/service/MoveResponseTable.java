@@ -0,0 +1,150 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.ChessMovesFormat;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.model.PreparedResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+/**
+ * Every possible single-piece answer for one board geometry, rendered once up front.
+ *
+ * <p>The answer space is only {@code pieces x squares}, so responses are kept in one dense array indexed by
+ * {@code piece.ordinal() * squares + squareIndex}. A lookup is an array read: no key is built, nothing is
+ * hashed and nothing is allocated. Each answer is kept both as text and in the binary
+ * {@link ChessMovesFormat}, so either can be written to a response as is.</p>
+ *
+ * <p>The {@link PreparedResponse} of an answer, with its ETag and gzip variant, is made on its first request
+ * and kept from then on. Hashing and compressing every answer up front would multiply the build time and
+ * footprint of a table several times over, for answers most of which are never asked for. Two threads may
+ * both prepare the same answer; they produce equal responses, and as a record of final fields either one can
+ * be published through the plain array slot.</p>
+ *
+ * <p>A table belongs to a single {@link Board}; a different geometry needs a new table from
+ * {@link #build}.</p>
+ */
+public final class MoveResponseTable {
+
+    /**
+     * Media type of the text answers, as sent by the controller.
+     */
+    public static final String TEXT_MEDIA_TYPE = "text/plain;charset=UTF-8";
+
+    private final Board board;
+
+    private final int squares;
+
+    private final String[] responses;
+
+    private final byte[][] encoded;
+
+    private final PreparedResponse[] preparedText;
+
+    private final PreparedResponse[] preparedEncoded;
+
+    private MoveResponseTable(Board board, String[] responses, byte[][] encoded) {
+        this.board = board;
+        this.squares = board.squareCount();
+        this.responses = responses;
+        this.encoded = encoded;
+        this.preparedText = new PreparedResponse[responses.length];
+        this.preparedEncoded = new PreparedResponse[encoded.length];
+    }
+
+    /**
+     * Render the response of every piece on every square of {@code board}.
+     *
+     * @param board geometry to build the table for
+     * @param moveStratergyFactory source of the move strategy for each piece
+     * @return the populated table
+     */
+    public static MoveResponseTable build(Board board, MoveStratergyFactory moveStratergyFactory) {
+        Pieces[] pieces = Pieces.values();
+        int squares = board.squareCount();
+        String[] responses = new String[pieces.length * squares];
+        byte[][] encoded = new byte[pieces.length * squares][];
+        for (Pieces piece : pieces) {
+            MoveStratergy strategy = moveStratergyFactory.getStrategy(piece);
+            for (int square = 0; square < squares; square++) {
+                long[] mask = strategy.getMovesMask(square, board);
+                int index = piece.ordinal() * squares + square;
+                responses[index] = board.toPositions(mask)
+                        .stream()
+                        .map(Position::toDto)
+                        .collect(Collectors.joining(", "));
+                encoded[index] = ChessMovesFormat.encode(mask, squares);
+            }
+        }
+        return new MoveResponseTable(board, responses, encoded);
+    }
+
+    /**
+     * Geometry this table was built for.
+     */
+    public Board board() {
+        return board;
+    }
+
+    /**
+     * Square index of a position on {@link #board()}, for the lookups below.
+     *
+     * @throws PostionOutOfBoardException if the position is not on the board
+     */
+    public int squareIndex(Position position) {
+        if (!board.isValid(position)) {
+            throw new PostionOutOfBoardException("The provided position " + position.toString() + " is out of board bounds.");
+        }
+        return board.squareIndex(position);
+    }
+
+    /**
+     * Pre-rendered response for a piece on a square.
+     *
+     * @param piece piece type
+     * @param square square index on {@link #board()}, see {@link Board#squareIndex}
+     * @return comma-separated target squares, e.g. {@code "A2, B1, B2"}; empty when the piece has no moves
+     */
+    public String get(Pieces piece, int square) {
+        return responses[piece.ordinal() * squares + square];
+    }
+
+    /**
+     * Pre-encoded {@link ChessMovesFormat} response for a piece on a square.
+     *
+     * @return the shared encoding; callers must not modify it
+     */
+    public byte[] getEncoded(Pieces piece, int square) {
+        return encoded[piece.ordinal() * squares + square];
+    }
+
+    /**
+     * {@link #get} as UTF-8 bytes with its ETag and gzip variant.
+     */
+    public PreparedResponse getPrepared(Pieces piece, int square) {
+        int index = piece.ordinal() * squares + square;
+        PreparedResponse prepared = preparedText[index];
+        if (prepared == null) {
+            // Coordinates and separators are ASCII, so these are also the UTF-8 bytes
+            prepared = PreparedResponse.of(TEXT_MEDIA_TYPE, responses[index].getBytes(StandardCharsets.US_ASCII));
+            preparedText[index] = prepared;
+        }
+        return prepared;
+    }
+
+    /**
+     * {@link #getEncoded} with its ETag and gzip variant.
+     */
+    public PreparedResponse getPreparedEncoded(Pieces piece, int square) {
+        int index = piece.ordinal() * squares + square;
+        PreparedResponse prepared = preparedEncoded[index];
+        if (prepared == null) {
+            prepared = PreparedResponse.of(ChessMovesFormat.MEDIA_TYPE, encoded[index]);
+            preparedEncoded[index] = prepared;
+        }
+        return prepared;
+    }
+}
@@ -0,0 +1,15 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.model.BookReport;
+
+public interface OpeningBookService {
+
+    /**
+     * Look up the moves played from a position in the opening book.
+     *
+     * @param fen the position in Forsyth-Edwards Notation
+     * @return the book moves with their frequencies and results, most played first
+     */
+    BookReport lookup(String fen);
+
+}
@@ -0,0 +1,85 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.book.OpeningBook;
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.Move;
+import com.chessMoveGuesser.moveGuesser.engine.MoveGenerator;
+import com.chessMoveGuesser.moveGuesser.engine.San;
+import com.chessMoveGuesser.moveGuesser.exception.BookNotLoadedException;
+import com.chessMoveGuesser.moveGuesser.model.BookReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opening book service over a memory-mapped {@link OpeningBook} file, configured with {@code book.path}.
+ *
+ * <p>Mapping the file at startup reads only its header, so the service starts at once whatever the book's
+ * size. Book moves are checked against the legal moves of the position, which also drops the rare entry
+ * filed under a colliding Zobrist key. Without a configured book every lookup fails with
+ * {@link BookNotLoadedException}.</p>
+ */
+@Service
+public class OpeningBookServiceImpl implements OpeningBookService {
+
+    /**
+     * The mapped book, or {@code null} when {@code book.path} is empty.
+     */
+    private final OpeningBook book;
+
+    @Autowired
+    public OpeningBookServiceImpl(@Value("${book.path:}") String path) {
+        if (path.isBlank()) {
+            this.book = null;
+            return;
+        }
+        try {
+            this.book = OpeningBook.open(Path.of(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open opening book " + path, e);
+        }
+    }
+
+    @Override
+    public BookReport lookup(String fen) {
+        if (book == null) {
+            throw new BookNotLoadedException("No opening book is configured; set book.path.");
+        }
+        BoardState state = BoardState.fromFen(fen);
+        List<OpeningBook.Entry> entries = book.lookup(state.key());
+        int[] legal = MoveGenerator.legalMoves(state);
+
+        List<OpeningBook.Entry> playable = new ArrayList<>(entries.size());
+        long games = 0;
+        for (OpeningBook.Entry entry : entries) {
+            if (contains(legal, entry.move())) {
+                playable.add(entry);
+                games += entry.games();
+            }
+        }
+        boolean white = state.sideToMove() == BoardState.WHITE;
+        List<BookReport.BookMove> moves = new ArrayList<>(playable.size());
+        for (OpeningBook.Entry entry : playable) {
+            int wins = white ? entry.whiteWins() : entry.blackWins();
+            moves.add(new BookReport.BookMove(Move.toUci(entry.move()), San.toSan(state, entry.move()),
+                    entry.games(), (double) entry.games() / games, entry.whiteWins(), entry.draws(),
+                    entry.blackWins(), (wins + entry.draws() / 2.0) / entry.games()));
+        }
+        return new BookReport(state.toFen(), games, moves);
+    }
+
+    private static boolean contains(int[] moves, int move) {
+        for (int legal : moves) {
+            if (legal == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
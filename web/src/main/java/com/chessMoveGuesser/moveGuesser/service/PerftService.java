@@ -0,0 +1,16 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.model.PerftReport;
+
+public interface PerftService {
+
+    /**
+     * Count the leaf nodes of the legal move tree of a position, broken down by root move.
+     *
+     * @param fen   the position in Forsyth-Edwards Notation
+     * @param depth depth in plies
+     * @return node counts and throughput
+     */
+    PerftReport perft(String fen, int depth);
+
+}
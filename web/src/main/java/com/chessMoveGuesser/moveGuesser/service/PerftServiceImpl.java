@@ -0,0 +1,60 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.Perft;
+import com.chessMoveGuesser.moveGuesser.engine.TranspositionTable;
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.model.PerftReport;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Perft service backed by the parallel {@link Perft} engine.
+ *
+ * <p>Subtrees run on the shared {@code computePool}; the optional {@link TranspositionTable} bean (see
+ * {@code perft.hash-mb}) lets repeated and transposed subtrees be counted once across requests.</p>
+ */
+@Service
+public class PerftServiceImpl implements PerftService {
+
+    private final ForkJoinPool computePool;
+
+    /**
+     * Shared subtree cache, or {@code null} when disabled.
+     */
+    private final TranspositionTable perftTable;
+
+    /**
+     * Largest depth a request may ask for; perft grows roughly 30x per ply.
+     */
+    private final int maxDepth;
+
+    @Autowired
+    public PerftServiceImpl(@Qualifier("computePool") ForkJoinPool computePool,
+                            @Qualifier("perftTable") ObjectProvider<TranspositionTable> perftTable,
+                            @Value("${perft.max-depth:7}") int maxDepth) {
+        this.computePool = computePool;
+        this.perftTable = perftTable.getIfAvailable();
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public PerftReport perft(String fen, int depth) {
+        if (depth < 1 || depth > maxDepth) {
+            throw new InvalidParameterException("Perft depth must be between 1 and " + maxDepth + ".");
+        }
+        BoardState root = BoardState.fromFen(fen);
+        Perft.Result result = Perft.divide(root, depth, computePool, perftTable);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(result.nanos());
+        long nodesPerSecond = result.nanos() == 0 ? 0 : result.nodes() * 1_000_000_000L / result.nanos();
+        return new PerftReport(root.toFen(), depth, result.nodes(), millis, nodesPerSecond,
+                computePool.getParallelism(), perftTable == null ? null : perftTable.stats(), result.divide());
+    }
+}
@@ -0,0 +1,37 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.model.ShortestPath;
+
+public interface ReachabilityService {
+
+    /**
+     * Squares a piece can reach from a position in at most {@code moves} moves on an otherwise empty board.
+     *
+     * @param moves number of moves, at least 0
+     * @return comma-separated target squares in the same format as
+     *         {@link MoveGuesserService#getPossibleMoves(Position, Pieces)}; the starting square is not included
+     */
+    String getReachableSquares(Position position, Pieces piece, int moves);
+
+    /**
+     * Reachable squares on a board of the given geometry instead of the configured {@code board.size} one.
+     *
+     * @param rows    number of rows, 1 to {@link Board#MAX_DIMENSION}
+     * @param columns number of columns, 1 to {@link Board#MAX_DIMENSION}
+     */
+    String getReachableSquares(Position position, Pieces piece, int moves, int rows, int columns);
+
+    /**
+     * Minimum number of moves a piece needs between two squares, with one path of that length.
+     */
+    ShortestPath getShortestPath(Position from, Position to, Pieces piece);
+
+    /**
+     * Shortest path on a board of the given geometry instead of the configured {@code board.size} one.
+     */
+    ShortestPath getShortestPath(Position from, Position to, Pieces piece, int rows, int columns);
+
+}
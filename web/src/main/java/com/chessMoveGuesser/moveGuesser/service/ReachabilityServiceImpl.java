@@ -0,0 +1,127 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.model.ShortestPath;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation that answers multi-move questions from precomputed {@link DistanceTable}s.
+ *
+ * <p>Distance tables for every piece on the configured board are built at construction. Other geometries
+ * get a table per piece on first use, kept in a bounded cache. A reachability query is then one scan of a
+ * table row and a shortest path one table walk, instead of a search per request.</p>
+ */
+@Service
+public class ReachabilityServiceImpl implements ReachabilityService {
+
+    /**
+     * Board built from the configured {@code board.size} property.
+     */
+    private final Board board;
+
+    /**
+     * Factory that maps {@link Pieces} to the strategies the tables are built from.
+     */
+    private final MoveStratergyFactory moveStratergyFactory;
+
+    /**
+     * Distance tables for {@link #board}, indexed by {@link Pieces#ordinal()}.
+     */
+    private final DistanceTable[] distances;
+
+    /**
+     * Distance tables of other geometries.
+     */
+    private final Cache<DistanceTable.Key, DistanceTable> distanceTables;
+
+    /**
+     * @param size configured board size (both rows and columns); at most {@link Board#MAX_DIMENSION}
+     * @param moveStratergyFactory factory that provides move strategies by piece type
+     * @param distanceTables bounded cache for the distance tables of other geometries
+     */
+    @Autowired
+    public ReachabilityServiceImpl(@Value("${board.size}") int size, MoveStratergyFactory moveStratergyFactory,
+                                   Cache<DistanceTable.Key, DistanceTable> distanceTables) {
+        this.board = new Board(size, size);
+        this.moveStratergyFactory = moveStratergyFactory;
+        this.distances = new DistanceTable[Pieces.values().length];
+        for (Pieces piece : Pieces.values()) {
+            distances[piece.ordinal()] = DistanceTable.build(board, moveStratergyFactory.getStrategy(piece));
+        }
+        this.distanceTables = distanceTables;
+    }
+
+    @Override
+    public String getReachableSquares(Position position, Pieces piece, int moves) {
+        return reachableSquares(distances[piece.ordinal()], position, moves);
+    }
+
+    /**
+     * @throws InvalidParameterException if a side is outside 1 to {@link Board#MAX_DIMENSION}
+     */
+    @Override
+    public String getReachableSquares(Position position, Pieces piece, int moves, int rows, int columns) {
+        return reachableSquares(distanceTable(piece, rows, columns), position, moves);
+    }
+
+    @Override
+    public ShortestPath getShortestPath(Position from, Position to, Pieces piece) {
+        return shortestPath(distances[piece.ordinal()], from, to, piece);
+    }
+
+    @Override
+    public ShortestPath getShortestPath(Position from, Position to, Pieces piece, int rows, int columns) {
+        return shortestPath(distanceTable(piece, rows, columns), from, to, piece);
+    }
+
+    private static String reachableSquares(DistanceTable table, Position position, int moves) {
+        if (moves < 0) {
+            throw new InvalidParameterException("Number of moves must not be negative: " + moves);
+        }
+        Board geometry = table.board();
+        return geometry.toPositions(table.reachable(squareIndex(geometry, position), moves))
+                .stream()
+                .map(Position::toDto)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static ShortestPath shortestPath(DistanceTable table, Position from, Position to, Pieces piece) {
+        Board geometry = table.board();
+        int[] squares = table.path(squareIndex(geometry, from), squareIndex(geometry, to));
+        List<String> path = new ArrayList<>(squares.length);
+        for (int square : squares) {
+            path.add(geometry.positionAt(square).toDto());
+        }
+        return new ShortestPath(piece, from.toDto(), to.toDto(), squares.length - 1, path);
+    }
+
+    private DistanceTable distanceTable(Pieces piece, int rows, int columns) {
+        if (rows == board.getRows() && columns == board.getColumns()) {
+            return distances[piece.ordinal()];
+        }
+        if (!Board.isSupported(rows, columns)) {
+            throw new InvalidParameterException("Board geometry " + rows + "x" + columns
+                    + " is not supported; each side must be between 1 and " + Board.MAX_DIMENSION + ".");
+        }
+        return distanceTables.get(new DistanceTable.Key(new Board(rows, columns), piece),
+                key -> DistanceTable.build(key.board(), moveStratergyFactory.getStrategy(key.piece())));
+    }
+
+    private static int squareIndex(Board geometry, Position position) {
+        if (!geometry.isValid(position)) {
+            throw new PostionOutOfBoardException("The provided position " + position + " is out of board bounds.");
+        }
+        return geometry.squareIndex(position);
+    }
+}
@@ -0,0 +1,18 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.model.SearchReport;
+
+public interface SearchService {
+
+    /**
+     * Find the best move of a position within a depth and time budget.
+     *
+     * @param fen     the position in Forsyth-Edwards Notation
+     * @param depth   deepest iteration in plies, or {@code null} for no depth limit
+     * @param millis  time budget in milliseconds, or {@code null} for the configured default
+     * @param threads number of search threads, or {@code null} for the configured default
+     * @return best move, score, principal variation and per-depth progress
+     */
+    SearchReport search(String fen, Integer depth, Integer millis, Integer threads);
+
+}
@@ -0,0 +1,109 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.engine.Move;
+import com.chessMoveGuesser.moveGuesser.engine.Search;
+import com.chessMoveGuesser.moveGuesser.engine.TranspositionTable;
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.model.SearchReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search service backed by the Lazy SMP {@link Search} engine.
+ *
+ * <p>Search threads run on the shared {@code computePool}, so a request asks for at most the pool's
+ * parallelism; {@code search.threads} sets the default. All searches share the {@code searchTable}, which
+ * keeps results from earlier requests on the same game useful.</p>
+ */
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private final ForkJoinPool computePool;
+
+    private final TranspositionTable searchTable;
+
+    /**
+     * Threads used when a request does not say; never more than the pool's parallelism.
+     */
+    private final int defaultThreads;
+
+    private final int defaultMillis;
+
+    /**
+     * Longest time budget a request may ask for.
+     */
+    private final int maxMillis;
+
+    @Autowired
+    public SearchServiceImpl(@Qualifier("computePool") ForkJoinPool computePool,
+                             @Qualifier("searchTable") TranspositionTable searchTable,
+                             @Value("${search.threads:0}") int threads,
+                             @Value("${search.default-millis:1000}") int defaultMillis,
+                             @Value("${search.max-millis:10000}") int maxMillis) {
+        this.computePool = computePool;
+        this.searchTable = searchTable;
+        this.defaultThreads = threads > 0 ? Math.min(threads, computePool.getParallelism()) : computePool.getParallelism();
+        this.defaultMillis = Math.min(defaultMillis, maxMillis);
+        this.maxMillis = maxMillis;
+    }
+
+    @Override
+    public SearchReport search(String fen, Integer depth, Integer millis, Integer threads) {
+        int maxDepth = depth != null ? depth : Search.MAX_DEPTH;
+        if (maxDepth < 1 || maxDepth > Search.MAX_DEPTH) {
+            throw new InvalidParameterException("Search depth must be between 1 and " + Search.MAX_DEPTH + ".");
+        }
+        int budget = millis != null ? millis : defaultMillis;
+        if (budget < 1 || budget > maxMillis) {
+            throw new InvalidParameterException("Search time must be between 1 and " + maxMillis + " ms.");
+        }
+        int threadCount = threads != null ? threads : defaultThreads;
+        if (threadCount < 1 || threadCount > computePool.getParallelism()) {
+            throw new InvalidParameterException("Search threads must be between 1 and "
+                    + computePool.getParallelism() + ".");
+        }
+
+        BoardState root = BoardState.fromFen(fen);
+        Search.Result result = Search.search(root, maxDepth, TimeUnit.MILLISECONDS.toNanos(budget), threadCount,
+                computePool, searchTable);
+
+        List<SearchReport.Iteration> iterations = new ArrayList<>(result.iterations().size());
+        for (Search.Iteration iteration : result.iterations()) {
+            iterations.add(new SearchReport.Iteration(iteration.depth(), iteration.score(), iteration.nodes(),
+                    TimeUnit.NANOSECONDS.toMillis(iteration.nanos()), toUci(iteration.pv())));
+        }
+        long nodesPerSecond = result.nanos() == 0 ? 0 : result.nodes() * 1_000_000_000L / result.nanos();
+        return new SearchReport(root.toFen(),
+                result.bestMove() == Move.NONE ? null : Move.toUci(result.bestMove()),
+                result.score(), mateIn(result.score()), result.depth(), toUci(result.pv()), result.nodes(),
+                TimeUnit.NANOSECONDS.toMillis(result.nanos()), nodesPerSecond, result.threads(), iterations,
+                searchTable.stats());
+    }
+
+    /**
+     * Moves (not plies) to mate, negative when the side to move is mated, or {@code null}.
+     */
+    private static Integer mateIn(int score) {
+        if (!Search.isMate(score)) {
+            return null;
+        }
+        int plies = Search.MATE - Math.abs(score);
+        return score > 0 ? (plies + 1) / 2 : -(plies / 2);
+    }
+
+    private static List<String> toUci(int[] moves) {
+        List<String> uci = new ArrayList<>(moves.length);
+        for (int move : moves) {
+            uci.add(Move.toUci(move));
+        }
+        return uci;
+    }
+}
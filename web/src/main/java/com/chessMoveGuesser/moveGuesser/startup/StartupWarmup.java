@@ -0,0 +1,162 @@
+package com.chessMoveGuesser.moveGuesser.startup;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.ChessMovesFormat;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.service.MoveGuesserService;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergy;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergyFactory;
+import com.chessMoveGuesser.moveGuesser.service.ReachabilityService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Exercises the hot paths before the replica reports ready, so the first real requests neither run in the
+ * interpreter nor pay for class loading.
+ *
+ * <p>Spring Boot only switches the readiness state to {@code ACCEPTING_TRAFFIC} once every
+ * {@link ApplicationRunner} has returned, so {@code /actuator/health/readiness} answers 503 until this is
+ * done. The warm-up has two parts:</p>
+ * <ul>
+ *     <li>{@code warmup.rounds} passes of every {@link MoveStratergy} over every square of the configured
+ *     board, both empty and with a blocker, and of the single-move and reachability services built on
+ *     them;</li>
+ *     <li>{@code warmup.requests} requests to this server over loopback, in text and binary, so Tomcat,
+ *     the controller, metrics and response writing are compiled as well. They are counted in the request
+ *     metrics like any other request.</li>
+ * </ul>
+ *
+ * <p>{@code warmup.rounds=0} disables the warm-up. The loopback part is skipped when no server port is
+ * known, e.g. in tests with a mock web environment.</p>
+ */
+@Slf4j
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final MoveStratergyFactory moveStratergyFactory;
+
+    private final MoveGuesserService moveGuesserService;
+
+    private final ReachabilityService reachabilityService;
+
+    private final Environment environment;
+
+    private final Board board;
+
+    private final int rounds;
+
+    private final int requests;
+
+    public StartupWarmup(MoveStratergyFactory moveStratergyFactory, MoveGuesserService moveGuesserService,
+                         ReachabilityService reachabilityService, Environment environment,
+                         @Value("${board.size}") int size,
+                         @Value("${warmup.rounds:200}") int rounds,
+                         @Value("${warmup.requests:500}") int requests) {
+        this.moveStratergyFactory = moveStratergyFactory;
+        this.moveGuesserService = moveGuesserService;
+        this.reachabilityService = reachabilityService;
+        this.environment = environment;
+        this.board = new Board(size, size);
+        this.rounds = rounds;
+        this.requests = requests;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (rounds <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        long checksum = warmStrategies() + warmServices();
+        long inProcess = System.nanoTime() - start;
+
+        int port = environment.getProperty("local.server.port", Integer.class, 0);
+        int sent = port > 0 ? warmRequests(port) : 0;
+        log.info("Warm-up took {} ms: {} rounds in process ({} ms, checksum {}), {} loopback requests",
+                Duration.ofNanos(System.nanoTime() - start).toMillis(), rounds,
+                Duration.ofNanos(inProcess).toMillis(), checksum, sent);
+    }
+
+    /**
+     * Every strategy on every square, on an empty board and with the neighbouring square occupied. The
+     * returned mask bits are summed so the calls cannot be optimised away.
+     */
+    private long warmStrategies() {
+        int squares = board.squareCount();
+        long[] occupied = new long[board.maskWords()];
+        long checksum = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (Pieces piece : Pieces.values()) {
+                MoveStratergy strategy = moveStratergyFactory.getStrategy(piece);
+                for (int square = 0; square < squares; square++) {
+                    checksum += strategy.getMovesMask(square, board)[0];
+                    int blocker = (square + 1) % squares;
+                    occupied[blocker >>> 6] = 1L << blocker;
+                    checksum += strategy.getMovesMask(square, board, occupied)[0];
+                    occupied[blocker >>> 6] = 0;
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private long warmServices() {
+        long checksum = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (Pieces piece : Pieces.values()) {
+                for (int square = 0; square < board.squareCount(); square++) {
+                    Position position = board.positionAt(square);
+                    checksum += moveGuesserService.getPossibleMoves(position, piece).length();
+                    checksum += moveGuesserService.getPossibleMovesEncoded(position, piece).length;
+                    if (round % 16 == 0) {
+                        checksum += reachabilityService.getReachableSquares(position, piece, 2).length();
+                    }
+                }
+            }
+        }
+        return checksum;
+    }
+
+    /**
+     * Cycle through pieces and squares over loopback, alternating text and binary responses.
+     *
+     * @return the number of requests answered
+     */
+    private int warmRequests(int port) throws IOException, InterruptedException {
+        Pieces[] pieces = Pieces.values();
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build()) {
+            int sent = 0;
+            for (int i = 0; i < requests; i++) {
+                Pieces piece = pieces[i % pieces.length];
+                Position position = board.positionAt((i / pieces.length) % board.squareCount());
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                + "/api/v1/moveGuesser?piece=" + piece + "&pos=" + position.toDto()))
+                        .header("Accept", i % 2 == 0 ? "text/plain" : ChessMovesFormat.MEDIA_TYPE)
+                        .timeout(REQUEST_TIMEOUT)
+                        .build();
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 200) {
+                    sent++;
+                }
+            }
+            return sent;
+        }
+    }
+}
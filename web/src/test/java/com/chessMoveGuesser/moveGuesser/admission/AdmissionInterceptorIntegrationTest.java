@@ -0,0 +1,57 @@
+package com.chessMoveGuesser.moveGuesser.admission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * `AdmissionInterceptor` behind the real handler mappings.
+ *
+ * Tests:
+ * - Paths that Spring maps to a limited endpoint, with matrix parameters or percent-encoding, count against
+ *   its limit like the plain path
+ */
+@SpringBootTest(properties = {"admission.search.limit=1", "admission.search.max-limit=1", "admission.search.queue=0"})
+class AdmissionInterceptorIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private AdmissionInterceptor interceptor;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void equivalentPaths_shareTheEndpointLimit() throws Exception {
+        AdmissionLimiter search = interceptor.limiter("search");
+        long slot = search.acquire(System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+        try {
+            for (String path : new String[]{"/api/v1/moveGuesser/search", "/api/v1/moveGuesser/search;x=1",
+                    "/api/v1/moveGuesser/s%65arch"}) {
+                mockMvc.perform(get(URI.create(path + "?depth=1")))
+                        .andExpect(status().isTooManyRequests())
+                        .andExpect(header().exists("Retry-After"));
+            }
+        } finally {
+            search.release(slot);
+        }
+        mockMvc.perform(get(URI.create("/api/v1/moveGuesser/s%65arch;x=1?depth=1"))).andExpect(status().isOk());
+    }
+}
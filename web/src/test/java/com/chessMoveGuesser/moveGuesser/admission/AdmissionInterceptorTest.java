@@ -0,0 +1,179 @@
+package com.chessMoveGuesser.moveGuesser.admission;
+
+import com.chessMoveGuesser.moveGuesser.exception.AdmissionRejectedException;
+import com.chessMoveGuesser.moveGuesser.service.MoveGuesserServiceImpl;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergyFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for `AdmissionInterceptor`.
+ *
+ * Tests:
+ * - Each expensive endpoint has its own limit; a request over it is rejected and counted
+ * - The slot is released after completion, and the asynchronous dispatch of a stream takes no second slot
+ * - Unknown paths and a disabled interceptor pass straight through
+ * - Requests running or queued hold at most `admission.max-threads` container threads; a stream frees its
+ *   share when streaming starts, and the virtual-thread profile has no such budget
+ * - A single-move lookup takes a `geometry` slot only while its geometry's table is not built
+ */
+class AdmissionInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private final MoveGuesserServiceImpl service =
+            new MoveGuesserServiceImpl(8, new MoveStratergyFactory(), Caffeine.newBuilder().build());
+
+    private AdmissionInterceptor interceptor(boolean enabled) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("admission.search.limit", "1")
+                .withProperty("admission.search.queue", "0")
+                .withProperty("admission.batch.limit", "1")
+                .withProperty("admission.batch.queue", "0")
+                .withProperty("admission.geometry.limit", "1")
+                .withProperty("admission.geometry.queue", "0");
+        return new AdmissionInterceptor(enabled, environment, registry, service);
+    }
+
+    private AdmissionInterceptor interceptor(MockEnvironment environment) {
+        return new AdmissionInterceptor(true, environment, registry, service);
+    }
+
+    private static MockHttpServletRequest request(String endpoint) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/moveGuesser" + endpoint);
+        // As the handler mapping leaves it before interceptors run
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/moveGuesser" + endpoint);
+        return request;
+    }
+
+    @Test
+    void overLimit_rejectedPerEndpoint() throws InterruptedException {
+        AdmissionInterceptor interceptor = interceptor(true);
+        MockHttpServletRequest first = request("/search");
+        assertTrue(interceptor.preHandle(first, response, null));
+        assertEquals(1, interceptor.limiter("search").inFlight());
+
+        AdmissionRejectedException ex = assertThrows(AdmissionRejectedException.class,
+                () -> interceptor.preHandle(request("/search"), response, null));
+        assertEquals(AdmissionRejectedException.Reason.QUEUE_FULL, ex.getReason());
+        assertEquals(1, registry.get("moveguesser.admission.rejected")
+                .tags("endpoint", "search", "reason", "queue_full").counter().count());
+
+        // Other endpoints keep their own slots
+        assertTrue(interceptor.preHandle(request("/perft"), response, null));
+
+        interceptor.afterCompletion(first, response, null, null);
+        interceptor.afterCompletion(first, response, null, null);
+        assertEquals(0, interceptor.limiter("search").inFlight());
+        assertTrue(interceptor.preHandle(request("/search"), response, null));
+        assertEquals(1, registry.get("moveguesser.admission.in.flight").tag("endpoint", "search").gauge().value());
+    }
+
+    @Test
+    void asyncDispatch_keepsTheFirstSlot() throws InterruptedException {
+        AdmissionInterceptor interceptor = interceptor(true);
+        MockHttpServletRequest stream = request("/batch");
+        assertTrue(interceptor.preHandle(stream, response, null));
+
+        stream.setDispatcherType(DispatcherType.ASYNC);
+        assertTrue(interceptor.preHandle(stream, response, null));
+        assertEquals(1, interceptor.limiter("batch").inFlight());
+        interceptor.afterCompletion(stream, response, null, null);
+        assertEquals(0, interceptor.limiter("batch").inFlight());
+    }
+
+    @Test
+    void otherPathsAndDisabled_passThrough() throws InterruptedException {
+        AdmissionInterceptor enabled = interceptor(true);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(enabled.preHandle(request("/unknown"), response, null));
+        }
+        assertNull(enabled.limiter("unknown"));
+
+        AdmissionInterceptor disabled = new AdmissionInterceptor(false, new MockEnvironment()
+                .withProperty("admission.search.limit", "1"), new SimpleMeterRegistry(), service);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(disabled.preHandle(request("/search"), response, null));
+        }
+        assertEquals(0, disabled.limiter("search").inFlight());
+    }
+
+    @Test
+    void threadBudget_sharedAcrossEndpoints() throws InterruptedException {
+        AdmissionInterceptor interceptor = interceptor(new MockEnvironment()
+                .withProperty("admission.max-threads", "2"));
+        MockHttpServletRequest search = request("/search");
+        MockHttpServletRequest stream = request("/batch");
+        assertTrue(interceptor.preHandle(search, response, null));
+        assertTrue(interceptor.preHandle(stream, response, null));
+        assertEquals(2, interceptor.threads());
+
+        // Perft has free slots, but no container thread is left to run or queue it on
+        AdmissionRejectedException ex = assertThrows(AdmissionRejectedException.class,
+                () -> interceptor.preHandle(request("/perft"), response, null));
+        assertEquals(AdmissionRejectedException.Reason.QUEUE_FULL, ex.getReason());
+        assertEquals(0, interceptor.limiter("perft").inFlight());
+        assertEquals(2, registry.get("moveguesser.admission.threads").gauge().value());
+
+        // A started stream hands its container thread back but keeps its slot until it ends
+        interceptor.afterConcurrentHandlingStarted(stream, response, null);
+        assertEquals(1, interceptor.threads());
+        assertEquals(1, interceptor.limiter("batch").inFlight());
+        assertTrue(interceptor.preHandle(request("/perft"), response, null));
+
+        stream.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.afterCompletion(stream, response, null, null);
+        interceptor.afterCompletion(search, response, null, null);
+        assertEquals(1, interceptor.threads());
+        assertEquals(0, interceptor.limiter("batch").inFlight());
+    }
+
+    @Test
+    void threadBudget_noneOnVirtualThreads() throws InterruptedException {
+        AdmissionInterceptor interceptor = interceptor(new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true")
+                .withProperty("admission.max-threads", "1"));
+        assertTrue(interceptor.preHandle(request("/search"), response, null));
+        assertTrue(interceptor.preHandle(request("/perft"), response, null));
+        assertEquals(2, interceptor.threads());
+    }
+
+    @Test
+    void singleMoveLookup_limitedOnlyWhileItsTableIsBuilt() throws InterruptedException {
+        AdmissionInterceptor interceptor = interceptor(true);
+        MockHttpServletRequest build = request("");
+        build.setParameter("rows", "9");
+        assertTrue(interceptor.preHandle(build, response, null));
+        assertEquals(1, interceptor.limiter("geometry").inFlight());
+
+        MockHttpServletRequest other = request("");
+        other.setParameter("columns", "10");
+        assertThrows(AdmissionRejectedException.class, () -> interceptor.preHandle(other, response, null));
+
+        // The configured board, built tables and geometries the controller rejects never wait
+        service.getResponseTable(9, 9);
+        for (String[] parameters : new String[][]{{}, {"rows", "8"}, {"rows", "9", "columns", "9"},
+                {"rows", "x"}, {"rows", "0"}}) {
+            MockHttpServletRequest lookup = request("");
+            for (int i = 0; i < parameters.length; i += 2) {
+                lookup.setParameter(parameters[i], parameters[i + 1]);
+            }
+            assertTrue(interceptor.preHandle(lookup, response, null));
+        }
+        assertEquals(1, interceptor.limiter("geometry").inFlight());
+
+        interceptor.afterCompletion(build, response, null, null);
+        assertEquals(0, interceptor.limiter("geometry").inFlight());
+        assertEquals(0, interceptor.threads());
+    }
+}
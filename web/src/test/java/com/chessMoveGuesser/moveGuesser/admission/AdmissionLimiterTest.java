@@ -0,0 +1,130 @@
+package com.chessMoveGuesser.moveGuesser.admission;
+
+import com.chessMoveGuesser.moveGuesser.exception.AdmissionRejectedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for `AdmissionLimiter`.
+ *
+ * Tests:
+ * - A full queue rejects at once with QUEUE_FULL
+ * - A request still queued at its deadline, or one whose expected wait overshoots it, is rejected with DEADLINE
+ * - Queued requests are admitted in arrival order
+ * - The limit grows while latency holds and shrinks when it rises
+ */
+class AdmissionLimiterTest {
+
+    private static final long FAR = TimeUnit.MINUTES.toNanos(1);
+
+    private static long deadline(long nanos) {
+        return System.nanoTime() + nanos;
+    }
+
+    private static AdmissionRejectedException.Reason rejection(AdmissionLimiter limiter, long deadline) {
+        return assertThrows(AdmissionRejectedException.class, () -> limiter.acquire(deadline)).getReason();
+    }
+
+    @Test
+    void fullQueue_rejectsAtOnce() throws InterruptedException {
+        AdmissionLimiter limiter = new AdmissionLimiter("test", 1, 1, 1, 0);
+        long start = limiter.acquire(deadline(FAR));
+
+        long before = System.nanoTime();
+        assertEquals(AdmissionRejectedException.Reason.QUEUE_FULL, rejection(limiter, deadline(FAR)));
+        assertTrue(System.nanoTime() - before < TimeUnit.SECONDS.toNanos(1));
+
+        limiter.release(start);
+        assertEquals(0, limiter.inFlight());
+        limiter.release(limiter.acquire(deadline(FAR)));
+    }
+
+    @Test
+    void deadline_rejectsQueuedAndHopelessRequests() throws InterruptedException {
+        AdmissionLimiter limiter = new AdmissionLimiter("test", 1, 1, 1, 4);
+        long start = limiter.acquire(deadline(FAR));
+
+        // Nothing measured yet, so it queues and gives up at its deadline
+        long before = System.nanoTime();
+        assertEquals(AdmissionRejectedException.Reason.DEADLINE, rejection(limiter, deadline(TimeUnit.MILLISECONDS.toNanos(20))));
+        assertTrue(System.nanoTime() - before >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(0, limiter.queued());
+
+        // One second per request: a 100 ms deadline is hopeless and rejected without waiting
+        limiter.release(start - TimeUnit.SECONDS.toNanos(1));
+        start = limiter.acquire(deadline(FAR));
+        before = System.nanoTime();
+        AdmissionRejectedException ex = assertThrows(AdmissionRejectedException.class,
+                () -> limiter.acquire(deadline(TimeUnit.MILLISECONDS.toNanos(100))));
+        assertEquals(AdmissionRejectedException.Reason.DEADLINE, ex.getReason());
+        assertTrue(System.nanoTime() - before < TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(ex.getRetryAfter().toMillis() >= 900);
+        limiter.release(start);
+    }
+
+    @Test
+    void queuedRequests_admittedInArrivalOrder() throws InterruptedException {
+        AdmissionLimiter limiter = new AdmissionLimiter("test", 1, 1, 1, 8);
+        long start = limiter.acquire(deadline(FAR));
+        List<Integer> admitted = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            Thread thread = Thread.ofPlatform().start(() -> {
+                try {
+                    long slot = limiter.acquire(deadline(FAR));
+                    admitted.add(id);
+                    limiter.release(slot);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads.add(thread);
+            while (limiter.queued() <= i) {
+                Thread.onSpinWait();
+            }
+        }
+
+        limiter.release(start);
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        assertEquals(List.of(0, 1, 2, 3, 4), admitted);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    /**
+     * Keep the limiter fully used and complete one request of the given latency.
+     */
+    private static void complete(AdmissionLimiter limiter, List<Long> running, long latency) throws InterruptedException {
+        while (limiter.inFlight() < limiter.limit()) {
+            running.add(limiter.acquire(deadline(FAR)));
+        }
+        running.removeLast();
+        limiter.release(System.nanoTime() - latency);
+    }
+
+    @Test
+    void limit_followsLatency() throws InterruptedException {
+        AdmissionLimiter limiter = new AdmissionLimiter("test", 4, 1, 64, 0);
+        List<Long> running = new ArrayList<>();
+        long fast = TimeUnit.MILLISECONDS.toNanos(1);
+        for (int i = 0; i < 50; i++) {
+            complete(limiter, running, fast);
+        }
+        int grown = limiter.limit();
+        assertTrue(grown > 16, "limit " + grown);
+
+        for (int i = 0; i < 30; i++) {
+            complete(limiter, running, 10 * fast);
+        }
+        assertTrue(limiter.limit() < grown / 2, "limit " + limiter.limit() + " after " + grown);
+        assertTrue(limiter.limit() >= 1);
+    }
+}
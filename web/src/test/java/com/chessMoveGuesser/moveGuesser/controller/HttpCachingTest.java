@@ -0,0 +1,77 @@
+package com.chessMoveGuesser.moveGuesser.controller;
+
+import com.chessMoveGuesser.moveGuesser.model.PreparedResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for `HttpCaching`.
+ *
+ * Tests:
+ * - 200 responses carry ETag, Cache-Control and Vary, and gzip only when accepted
+ * - If-None-Match with the variant's tag (weak or strong, or *) gives an empty 304
+ * - Accept-Encoding parsing honours q=0
+ */
+class HttpCachingTest {
+
+    private final HttpCaching httpCaching = new HttpCaching(Duration.ofDays(1));
+
+    private final PreparedResponse queen = PreparedResponse.of(MediaType.TEXT_PLAIN_VALUE,
+            "A4, A8, B1, B4, B7, C2, C4, C6, D3, D4, D5, E1, E2, E3, E5, E6, E7, E8, F3, F4, F5, G2, G4, G6, H1, H4, H7"
+                    .getBytes(StandardCharsets.US_ASCII));
+
+    @Test
+    void okResponse_carriesCacheHeaders() {
+        ResponseEntity<byte[]> response = httpCaching.respond(queen, MediaType.TEXT_PLAIN, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(queen.body(), response.getBody());
+        HttpHeaders headers = response.getHeaders();
+        assertEquals(queen.etag(), headers.getETag());
+        assertEquals("max-age=86400, public, immutable", headers.getCacheControl());
+        assertEquals("Accept, Accept-Encoding", headers.getFirst(HttpHeaders.VARY));
+        assertNull(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void gzipVariant_sentWhenAccepted() {
+        ResponseEntity<byte[]> response = httpCaching.respond(queen, MediaType.TEXT_PLAIN, null, "br, gzip;q=0.8");
+
+        assertArrayEquals(queen.gzipBody(), response.getBody());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(queen.gzipEtag(), response.getHeaders().getETag());
+    }
+
+    @Test
+    void matchingTag_givesNotModified() {
+        ResponseEntity<byte[]> response = httpCaching.respond(queen, MediaType.TEXT_PLAIN,
+                "\"0000000000000000\", W/" + queen.etag(), null);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(queen.etag(), response.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED,
+                httpCaching.respond(queen, MediaType.TEXT_PLAIN, "*", "gzip").getStatusCode());
+        // The identity tag does not validate the gzip variant
+        assertEquals(HttpStatus.OK,
+                httpCaching.respond(queen, MediaType.TEXT_PLAIN, queen.etag(), "gzip").getStatusCode());
+    }
+
+    @Test
+    void acceptEncoding_honoursZeroQuality() {
+        assertTrue(HttpCaching.acceptsGzip("gzip, deflate, br"));
+        assertTrue(HttpCaching.acceptsGzip("*"));
+        assertTrue(HttpCaching.acceptsGzip("X-GZIP; q=0.5"));
+        assertFalse(HttpCaching.acceptsGzip("gzip;q=0"));
+        assertFalse(HttpCaching.acceptsGzip("identity"));
+        assertFalse(HttpCaching.acceptsGzip(null));
+    }
+}
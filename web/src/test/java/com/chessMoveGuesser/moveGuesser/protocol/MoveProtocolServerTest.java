@@ -0,0 +1,234 @@
+package com.chessMoveGuesser.moveGuesser.protocol;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.service.MoveGuesserServiceImpl;
+import com.chessMoveGuesser.moveGuesser.service.MoveResponseTable;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergyFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for `MoveProtocolServer` through the bundled `MoveProtocolClient`.
+ *
+ * Tests:
+ * - Round trips on the configured board and other geometries match the service
+ * - Tables missing for pipelined queries are built off the selector thread, and answers keep their order
+ * - A table evicted between its build and the answer still answers the query; a failed build gets an error
+ * - Thousands of pipelined queries are answered in order
+ * - Error answers map back to the service's exceptions without closing the connection
+ * - An oversized request closes the connection
+ * - An unexpected failure closes only the connection it happened on
+ */
+class MoveProtocolServerTest {
+
+    private final MoveGuesserServiceImpl service =
+            new MoveGuesserServiceImpl(8, new MoveStratergyFactory(), Caffeine.newBuilder().build());
+
+    private final AtomicInteger builds = new AtomicInteger();
+
+    private final Executor tableBuilder = task -> {
+        builds.incrementAndGet();
+        ForkJoinPool.commonPool().execute(task);
+    };
+
+    private final MoveProtocolServer server = new MoveProtocolServer(service, tableBuilder, 8, 0, 2);
+
+    private MoveProtocolClient client;
+
+    @BeforeEach
+    void start() throws IOException {
+        server.start();
+        client = MoveProtocolClient.connect(address());
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        client.close();
+        server.stop();
+    }
+
+    private InetSocketAddress address() {
+        return new InetSocketAddress("127.0.0.1", server.getPort());
+    }
+
+    private static List<String> names(MoveAnswer answer) {
+        return answer.positions().stream().map(Position::toDto).toList();
+    }
+
+    @Test
+    void roundTrip_matchesTheService() throws IOException {
+        MoveAnswer knight = client.moves(Pieces.KNIGHT, Position.parse("B1"));
+        assertEquals(new Board(8, 8), knight.board());
+        assertEquals(List.of("A3", "C3", "D2"), names(knight));
+        assertEquals(service.getPossibleMoves(Position.parse("E4"), Pieces.QUEEN),
+                String.join(", ", names(client.moves(Pieces.QUEEN, Position.parse("E4")))));
+
+        MoveAnswer large = client.moves(Pieces.ROOK, Position.parse("AF32"), 32, 32);
+        assertEquals(new Board(32, 32), large.board());
+        assertEquals(62, large.squares().length);
+        assertEquals(new Board(5, 5), client.moves(Pieces.KING, Position.parse("C3"), 5, 0).board());
+    }
+
+    @Test
+    void missingTables_builtOffTheSelectorThread() throws IOException {
+        int[] sizes = {9, 20, 9, 8, 31, 20};
+        for (int size : sizes) {
+            client.send(Pieces.QUEEN, Position.parse("A1"), size, size);
+        }
+        for (int size : sizes) {
+            MoveAnswer answer = client.receive();
+            assertEquals(new Board(size, size), answer.board());
+            assertEquals(service.getPossibleMoves(Position.parse("A1"), Pieces.QUEEN, size, size),
+                    String.join(", ", names(answer)));
+        }
+        // 9, 20 and 31; the configured board and tables already built are answered in place
+        assertEquals(3, builds.get());
+        assertNotNull(service.findResponseTable(31, 31));
+    }
+
+    /**
+     * Serve {@code service} on a server of its own for the duration of {@code test}.
+     */
+    private void withServer(MoveGuesserServiceImpl service, ClientTest test) throws IOException {
+        MoveProtocolServer own = new MoveProtocolServer(service, tableBuilder, 8, 0, 1);
+        own.start();
+        try (MoveProtocolClient ownClient = MoveProtocolClient.connect(
+                new InetSocketAddress("127.0.0.1", own.getPort()))) {
+            test.run(ownClient);
+        } finally {
+            own.stop();
+        }
+    }
+
+    private interface ClientTest {
+        void run(MoveProtocolClient client) throws IOException;
+    }
+
+    @Test
+    @Timeout(10)
+    void evictedTable_stillAnswersTheQueryItWasBuiltFor() throws IOException {
+        // Evicts every table as soon as it is cached
+        MoveGuesserServiceImpl forgetful = new MoveGuesserServiceImpl(8, new MoveStratergyFactory(),
+                Caffeine.newBuilder().maximumSize(0).executor(Runnable::run).build());
+        withServer(forgetful, client -> {
+            for (int i = 0; i < 3; i++) {
+                client.send(Pieces.KNIGHT, Position.parse("A1"), 9, 9);
+            }
+            for (int i = 0; i < 3; i++) {
+                assertEquals(List.of("B3", "C2"), names(client.receive()));
+            }
+            assertNull(forgetful.findResponseTable(9, 9));
+        });
+        assertEquals(3, builds.get());
+    }
+
+    @Test
+    @Timeout(10)
+    void failedBuild_answersWithAnError() throws IOException {
+        MoveGuesserServiceImpl failing = new MoveGuesserServiceImpl(8, new MoveStratergyFactory(),
+                Caffeine.newBuilder().build()) {
+            @Override
+            public MoveResponseTable getResponseTable(int rows, int columns) {
+                if (rows == 10) {
+                    throw new IllegalStateException("out of memory, say");
+                }
+                return super.getResponseTable(rows, columns);
+            }
+        };
+        withServer(failing, client -> {
+            client.send(Pieces.KING, Position.parse("A1"), 10, 10);
+            client.send(Pieces.KING, Position.parse("A1"), 11, 11);
+            assertThrows(InvalidParameterException.class, client::receive);
+            assertEquals(List.of("A2", "B1", "B2"), names(client.receive()));
+            assertThrows(InvalidParameterException.class, () -> client.moves(Pieces.KING, Position.parse("A1"), 10, 10));
+        });
+    }
+
+    @Test
+    void pipelinedQueries_answeredInOrder() throws IOException {
+        Board board = new Board(8, 8);
+        Pieces[] pieces = Pieces.values();
+        int queries = 5000;
+        for (int i = 0; i < queries; i++) {
+            client.send(pieces[i % pieces.length], board.positionAt(i % 64));
+        }
+        for (int i = 0; i < queries; i++) {
+            Position position = board.positionAt(i % 64);
+            assertEquals(service.getPossibleMoves(position, pieces[i % pieces.length]),
+                    String.join(", ", names(client.receive())), "query " + i);
+        }
+    }
+
+    @Test
+    void errors_mapToExceptionsAndKeepTheConnection() throws IOException {
+        PostionOutOfBoardException offBoard = assertThrows(PostionOutOfBoardException.class,
+                () -> client.moves(Pieces.QUEEN, Position.parse("I9")));
+        assertTrue(offBoard.getMessage().contains("I9"), offBoard.getMessage());
+        assertThrows(InvalidParameterException.class, () -> client.moves(Pieces.QUEEN, Position.parse("A1"), 33, 33));
+
+        assertEquals(List.of("A2"), names(client.moves(Pieces.PAWN, Position.parse("A1"))));
+    }
+
+    @Test
+    void malformedRequests() throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+            // Unknown opcode: answered with an error
+            out.write(new byte[]{0, 2, 9, 9});
+            out.flush();
+            byte[] header = in.readNBytes(3);
+            assertEquals(MoveProtocol.BAD_REQUEST, header[2]);
+            in.readNBytes(((header[0] & 0xFF) << 8 | header[1] & 0xFF) - 1);
+            // Longer than any request: the server hangs up
+            out.write(new byte[]{(byte) 0xFF, (byte) 0xFF});
+            out.flush();
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    void unexpectedFailure_closesOnlyThatConnection() throws IOException {
+        MoveGuesserServiceImpl failing = new MoveGuesserServiceImpl(8, new MoveStratergyFactory(),
+                Caffeine.newBuilder().build()) {
+            @Override
+            public byte[] getPossibleMovesEncoded(Position position, Pieces piece) {
+                if (piece == Pieces.BISHOP) {
+                    throw new IllegalStateException("bishop");
+                }
+                return super.getPossibleMovesEncoded(position, piece);
+            }
+        };
+        MoveProtocolServer single = new MoveProtocolServer(failing, tableBuilder, 8, 0, 1);
+        single.start();
+        InetSocketAddress singleAddress = new InetSocketAddress("127.0.0.1", single.getPort());
+        try (MoveProtocolClient other = MoveProtocolClient.connect(singleAddress);
+             MoveProtocolClient broken = MoveProtocolClient.connect(singleAddress)) {
+            assertEquals(List.of("A3", "C3", "D2"), names(other.moves(Pieces.KNIGHT, Position.parse("B1"))));
+            assertThrows(IOException.class, () -> broken.moves(Pieces.BISHOP, Position.parse("C1")));
+            // Same selector thread, still served
+            assertEquals(List.of("A3", "C3", "D2"), names(other.moves(Pieces.KNIGHT, Position.parse("B1"))));
+        } finally {
+            single.stop();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.metrics.MoveMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for `MoveBatchServiceImpl`.
+ *
+ * Tests:
+ * - array and NDJSON input: one result line per query, in order
+ * - elements that are not objects: an error line each, and the stream continues
+ * - malformed input: a final error line
+ */
+class MoveBatchServiceImplTest {
+
+    private final MoveBatchServiceImpl service = new MoveBatchServiceImpl(8, new MoveStratergyFactory(),
+            JsonMapper.builder().build(), new MoveMetrics(new SimpleMeterRegistry()));
+
+    private List<String> stream(String queries) {
+        ByteArrayOutputStream results = new ByteArrayOutputStream();
+        service.streamPossibleMoves(new ByteArrayInputStream(queries.getBytes(StandardCharsets.UTF_8)), results);
+        return results.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Test
+    void queries_answeredInOrder() {
+        List<String> expected = List.of(
+                "{\"piece\":\"KING\",\"pos\":\"A1\",\"moves\":[\"A2\",\"B1\",\"B2\"]}",
+                "{\"piece\":\"ROOK\",\"pos\":\"Z9\",\"error\":\"The provided position Z9 is out of board bounds.\"}");
+        assertEquals(expected, stream("[{\"piece\":\"KING\",\"pos\":\"A1\"}, {\"piece\":\"ROOK\",\"pos\":\"Z9\"}]"));
+        assertEquals(expected, stream("{\"piece\":\"KING\",\"pos\":\"A1\"}\n{\"piece\":\"ROOK\",\"pos\":\"Z9\"}\n"));
+    }
+
+    @Test
+    void nonObjectElements_reportedAndSkipped() {
+        List<String> lines = stream("[1, [2, {\"piece\":\"KING\"}], \"E4\", {\"piece\":\"KING\",\"pos\":\"A1\"}]");
+        assertEquals(4, lines.size());
+        assertEquals("{\"error\":\"Expected a query object but found VALUE_NUMBER_INT\"}", lines.get(0));
+        assertEquals("{\"error\":\"Expected a query object but found START_ARRAY\"}", lines.get(1));
+        assertEquals("{\"error\":\"Expected a query object but found VALUE_STRING\"}", lines.get(2));
+        assertTrue(lines.get(3).startsWith("{\"piece\":\"KING\",\"pos\":\"A1\",\"moves\":"));
+
+        lines = stream("7\n{\"piece\":\"KING\",\"pos\":\"A1\"}\n");
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"error\":"));
+        assertTrue(lines.get(1).startsWith("{\"piece\":\"KING\""));
+    }
+
+    @Test
+    void malformedInput_endsWithAnErrorLine() {
+        List<String> lines = stream("[{\"piece\":\"KING\",\"pos\":\"A1\"}, {\"piece\":");
+        assertTrue(lines.getFirst().startsWith("{\"piece\":\"KING\""));
+        assertTrue(lines.getLast().startsWith("{\"error\":\"Malformed batch input: "));
+    }
+}
@@ -0,0 +1,206 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.model.PreparedResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "board.size=8")
+public class MoveGuesserServiceIntegrationTest {
+
+    @Autowired
+    private MoveGuesserServiceImpl service;
+
+    @Autowired
+    private MoveStratergyFactory moveStratergyFactory;
+
+    @Test
+    void pawn_fromA1_movesToA2() {
+        String result = service.getPossibleMoves(Position.parse("A1"), Pieces.PAWN);
+        assertEquals("A2", result);
+    }
+
+    @Test
+    void king_fromD5_hasEightMoves() {
+        String result = service.getPossibleMoves(Position.parse("D5"), Pieces.KING);
+        assertEquals(
+                "C4, C5, C6, D4, D6, E4, E5, E6",
+                result
+        );
+    }
+
+    @Test
+    void queen_fromE4_movesCorrectly() {
+        String result = service.getPossibleMoves(Position.parse("E4"), Pieces.QUEEN);
+
+        String expected =
+                "A4, A8, B1, B4, B7, C2, C4, C6, D3, D4, D5, E1, E2, E3, E5, E6, E7, E8, F3, F4, F5, G2, G4, G6, H1, H4, H7";
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void rook_fromE4_movesAlongRankAndFile() {
+        String result = service.getPossibleMoves(Position.parse("E4"), Pieces.ROOK);
+        assertEquals("A4, B4, C4, D4, E1, E2, E3, E5, E6, E7, E8, F4, G4, H4", result);
+    }
+
+    @Test
+    void bishop_fromE4_movesAlongDiagonals() {
+        String result = service.getPossibleMoves(Position.parse("E4"), Pieces.BISHOP);
+        assertEquals("A8, B1, B7, C2, C6, D3, D5, F3, F5, G2, G6, H1, H7", result);
+    }
+
+    @Test
+    void knight_fromG1_jumpsToThreeSquares() {
+        String result = service.getPossibleMoves(Position.parse("G1"), Pieces.KNIGHT);
+        assertEquals("E2, F3, H3", result);
+    }
+
+    @Test
+    void knight_onSmallBoard_staysWithinBounds() {
+        String result = service.getPossibleMoves(Position.parse("A1"), Pieces.KNIGHT, 2, 3);
+        assertEquals("C2", result);
+    }
+
+    @Test
+    void rook_withBlockers_stopsOnFirstOccupiedSquare() {
+        assertEquals("C4, D4, E2, E3, E5, E6, F4, G4, H4", rookMovesWithBlockers(new Board(8, 8)));
+        assertEquals("C4, D4, E2, E3, E5, E6, F4, G4, H4, I4, J4, K4, L4, M4, N4, O4, P4",
+                rookMovesWithBlockers(new Board(16, 16)));
+    }
+
+    /**
+     * Rook moves from E4 with pieces on E6, C4 and E2.
+     */
+    private String rookMovesWithBlockers(Board board) {
+        long[] occupied = new long[board.maskWords()];
+        for (String blocker : new String[]{"E6", "C4", "E2"}) {
+            int square = board.squareIndex(Position.parse(blocker));
+            occupied[square >>> 6] |= 1L << square;
+        }
+        long[] moves = moveStratergyFactory.getStrategy(Pieces.ROOK)
+                .getMovesMask(board.squareIndex(Position.parse("E4")), board, occupied);
+        return board.toPositions(moves).stream().map(Position::toDto).collect(Collectors.joining(", "));
+    }
+
+    @Test
+    void pawn_fromLastRank_returnsEmpty() {
+        String result = service.getPossibleMoves(Position.parse("A8"), Pieces.PAWN);
+        assertEquals("", result);
+    }
+
+    @Test
+    void king_fromA1_hasOnlyThreeMoves() {
+        String result = service.getPossibleMoves(Position.parse("A1"), Pieces.KING);
+        assertEquals("A2, B1, B2", result);
+    }
+
+    @Test
+    void invalidPosition_throwsException() {
+        Exception ex = assertThrows(
+                PostionOutOfBoardException.class,
+                () -> service.getPossibleMoves(Position.parse("Z9"), Pieces.QUEEN)
+        );
+
+        assertTrue(ex.getMessage().contains("out of board"));
+    }
+
+    @Test
+    void queen_onRectangularBoard_staysWithinBounds() {
+        String result = service.getPossibleMoves(Position.parse("B2"), Pieces.QUEEN, 3, 10);
+        assertEquals("A1, A2, A3, B1, B3, C1, C2, C3, D2, E2, F2, G2, H2, I2, J2", result);
+    }
+
+    @Test
+    void king_onLargeBoard_parsesMultiCharacterCoordinates() {
+        String result = service.getPossibleMoves(Position.parse("z10"), Pieces.KING, 32, 32);
+        assertEquals("Y9, Y10, Y11, Z9, Z11, AA9, AA10, AA11", result);
+    }
+
+    @Test
+    void queen_fromCornerOf32x32_reachesFarCorners() {
+        String result = service.getPossibleMoves(Position.parse("AF32"), Pieces.QUEEN, 32, 32);
+        String[] moves = result.split(", ");
+        assertEquals(93, moves.length);
+        assertEquals("A1", moves[0]);
+        assertEquals("A32", moves[1]);
+        assertEquals("AF31", moves[moves.length - 1]);
+    }
+
+    @Test
+    void pawn_onTallBoard_movesPastRankNine() {
+        assertEquals("C12", service.getPossibleMoves(Position.parse("C11"), Pieces.PAWN, 12, 8));
+        assertEquals("", service.getPossibleMoves(Position.parse("C12"), Pieces.PAWN, 12, 8));
+    }
+
+    @Test
+    void malformedPosition_throwsException() {
+        assertThrows(InvalidParameterException.class, () -> Position.parse("A"));
+        assertThrows(InvalidParameterException.class, () -> Position.parse("4E"));
+    }
+
+    @Test
+    void parsedPositions_areCanonicalInstances() {
+        assertSame(Position.of(4, 5), Position.parse(" e4 "));
+        assertSame(Position.parse("AF32"), Position.parse("af32"));
+        assertEquals(Position.parse("A40"), Position.of(40, 1));
+    }
+
+    @Test
+    void king_fromA1_encodesSquareIndices() {
+        byte[] result = service.getPossibleMovesEncoded(Position.parse("A1"), Pieces.KING);
+        assertArrayEquals(new byte[]{1, 8, 9}, result);
+    }
+
+    @Test
+    void king_onLargeBoard_encodesTwoBytesPerSquare() {
+        // 20x20 has 400 squares, more than one byte can index
+        byte[] result = service.getPossibleMovesEncoded(Position.parse("A1"), Pieces.KING, 20, 20);
+        assertArrayEquals(new byte[]{0, 1, 0, 20, 0, 21}, result);
+    }
+
+    @Test
+    void preparedResponses_matchPlainAnswersWithStableTags() throws IOException {
+        PreparedResponse queen = service.getPreparedMoves(Position.parse("E4"), Pieces.QUEEN);
+        String moves = service.getPossibleMoves(Position.parse("E4"), Pieces.QUEEN);
+        assertEquals(moves, new String(queen.body(), StandardCharsets.UTF_8));
+        // The same representation always gets the same tag, whichever table or replica renders it
+        assertEquals(PreparedResponse.of(MoveResponseTable.TEXT_MEDIA_TYPE, moves.getBytes(StandardCharsets.UTF_8)).etag(),
+                queen.etag());
+        assertSame(queen, service.getPreparedMoves(Position.parse("E4"), Pieces.QUEEN));
+        assertTrue(queen.etag().matches("\"[0-9a-f]{16}\""));
+
+        assertTrue(queen.hasGzip());
+        assertTrue(queen.gzipBody().length < queen.body().length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(queen.gzipBody()))) {
+            assertArrayEquals(queen.body(), gzip.readAllBytes());
+        }
+
+        // Three bytes cannot shrink, so there is no gzip variant
+        PreparedResponse king = service.getPreparedMovesEncoded(Position.parse("A1"), Pieces.KING);
+        assertArrayEquals(new byte[]{1, 8, 9}, king.body());
+        assertFalse(king.hasGzip());
+        assertNotEquals(king.etag(), service.getPreparedMovesEncoded(Position.parse("A1"), Pieces.KING, 20, 20).etag());
+
+        // A pawn on the last rank has no moves: the same empty body as text and as binary, with distinct tags
+        PreparedResponse emptyText = service.getPreparedMoves(Position.parse("A8"), Pieces.PAWN);
+        PreparedResponse emptyEncoded = service.getPreparedMovesEncoded(Position.parse("A8"), Pieces.PAWN);
+        assertEquals(0, emptyText.body().length);
+        assertEquals(0, emptyEncoded.body().length);
+        assertNotEquals(emptyText.etag(), emptyEncoded.etag());
+    }
+}
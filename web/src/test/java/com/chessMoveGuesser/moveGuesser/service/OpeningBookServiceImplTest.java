@@ -0,0 +1,65 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.book.BookIngester;
+import com.chessMoveGuesser.moveGuesser.engine.BoardState;
+import com.chessMoveGuesser.moveGuesser.exception.BookNotLoadedException;
+import com.chessMoveGuesser.moveGuesser.model.BookReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningBookServiceImplTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void lookup_reportsFrequenciesAndScoresForSideToMove() throws Exception {
+        Path pgn = directory.resolve("games.pgn");
+        Files.writeString(pgn, """
+                [Result "1-0"]
+
+                1. e4 e5 1-0
+
+                [Result "0-1"]
+
+                1. e4 c5 0-1
+
+                [Result "1/2-1/2"]
+
+                1. d4 d5 1/2-1/2
+                """);
+        Path book = directory.resolve("book.bin");
+        BookIngester.ingest(List.of(pgn), book, 10, 1, 1);
+        OpeningBookService service = new OpeningBookServiceImpl(book.toString());
+
+        BookReport start = service.lookup(BoardState.START_FEN);
+        assertEquals(3, start.games());
+        BookReport.BookMove e4 = start.moves().get(0);
+        assertEquals("e2e4", e4.move());
+        assertEquals("e4", e4.san());
+        assertEquals(2.0 / 3, e4.frequency(), 1e-9);
+        assertEquals(0.5, e4.score(), 1e-9);
+
+        BookReport afterE4 = service.lookup("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+        assertEquals(List.of("e7e5", "c7c5"), afterE4.moves().stream().map(BookReport.BookMove::move).sorted(
+                Comparator.reverseOrder()).toList());
+        BookReport.BookMove c5 = afterE4.moves().stream().filter(m -> m.move().equals("c7c5")).findFirst().orElseThrow();
+        assertEquals(1.0, c5.score(), 1e-9);
+
+        assertTrue(service.lookup("4k3/8/8/8/8/8/8/4K3 w - - 0 1").moves().isEmpty());
+    }
+
+    @Test
+    void lookup_withoutBook_throws() {
+        OpeningBookService service = new OpeningBookServiceImpl("");
+
+        assertThrows(BookNotLoadedException.class, () -> service.lookup(BoardState.START_FEN));
+    }
+}
@@ -0,0 +1,98 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.chessMoveGuesser.moveGuesser.model.ShortestPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "board.size=8")
+public class ReachabilityServiceIntegrationTest {
+
+    @Autowired
+    private ReachabilityServiceImpl service;
+
+    @Autowired
+    private MoveGuesserServiceImpl moveGuesserService;
+
+    @Test
+    void reachableInOneMove_matchesPossibleMoves() {
+        for (Pieces piece : Pieces.values()) {
+            assertEquals(moveGuesserService.getPossibleMoves(Position.parse("E4"), piece),
+                    service.getReachableSquares(Position.parse("E4"), piece, 1));
+        }
+    }
+
+    @Test
+    void knight_fromA1_reachesElevenSquaresWithinTwoMoves() {
+        assertEquals("A3, A5, B3, B4, C1, C2, C5, D2, D4, E1, E3",
+                service.getReachableSquares(Position.parse("A1"), Pieces.KNIGHT, 2));
+        assertEquals("", service.getReachableSquares(Position.parse("A1"), Pieces.KNIGHT, 0));
+    }
+
+    @Test
+    void bishop_neverReachesOtherColour() {
+        List<String> reachable = List.of(service.getReachableSquares(Position.parse("C1"), Pieces.BISHOP, 10).split(", "));
+
+        assertEquals(31, reachable.size());
+        assertTrue(reachable.contains("A1"));
+        assertFalse(reachable.contains("A2"));
+    }
+
+    @Test
+    void king_fromE1ToH8_takesSevenMoves() {
+        ShortestPath path = service.getShortestPath(Position.parse("E1"), Position.parse("H8"), Pieces.KING);
+
+        assertEquals(7, path.moves());
+        assertEquals("E1", path.path().get(0));
+        assertEquals("H8", path.path().get(7));
+    }
+
+    @Test
+    void knight_path_consistsOfKnightMoves() {
+        ShortestPath path = service.getShortestPath(Position.parse("A1"), Position.parse("H8"), Pieces.KNIGHT);
+
+        assertEquals(6, path.moves());
+        for (int i = 1; i < path.path().size(); i++) {
+            Position from = Position.parse(path.path().get(i - 1));
+            Position to = Position.parse(path.path().get(i));
+            int rows = Math.abs(from.getRow() - to.getRow());
+            int columns = Math.abs(from.getColumn() - to.getColumn());
+            assertEquals(2, rows * columns, path.path().toString());
+        }
+    }
+
+    @Test
+    void unreachableTarget_returnsEmptyPath() {
+        ShortestPath path = service.getShortestPath(Position.parse("C1"), Position.parse("C2"), Pieces.BISHOP);
+
+        assertEquals(-1, path.moves());
+        assertEquals(List.of(), path.path());
+    }
+
+    @Test
+    void otherGeometry_usesItsOwnTable() {
+        ShortestPath path = service.getShortestPath(Position.parse("A1"), Position.parse("AF32"), Pieces.KING, 32, 32);
+
+        assertEquals(31, path.moves());
+        assertEquals("AF32", path.path().get(31));
+        assertEquals("A2, B1, B2", service.getReachableSquares(Position.parse("A1"), Pieces.KING, 1, 32, 32));
+    }
+
+    @Test
+    void invalidQueries_throwExceptions() {
+        assertThrows(PostionOutOfBoardException.class,
+                () -> service.getShortestPath(Position.parse("A1"), Position.parse("I9"), Pieces.QUEEN));
+        assertThrows(InvalidParameterException.class,
+                () -> service.getReachableSquares(Position.parse("A1"), Pieces.QUEEN, -1));
+        assertThrows(InvalidParameterException.class,
+                () -> service.getReachableSquares(Position.parse("A1"), Pieces.QUEEN, 1, 33, 33));
+    }
+}
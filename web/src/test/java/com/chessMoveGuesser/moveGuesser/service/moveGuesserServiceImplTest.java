@@ -0,0 +1,159 @@
+package com.chessMoveGuesser.moveGuesser.service;
+
+import com.chessMoveGuesser.moveGuesser.exception.InvalidParameterException;
+import com.chessMoveGuesser.moveGuesser.exception.PostionOutOfBoardException;
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.model.Position;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for `MoveGuesserServiceImpl`.
+ *
+ * Tests:
+ * - normal flow: strategy mask for the square -> concatenated DTO string returned
+ * - empty moves: strategy returns an empty mask -> empty string returned
+ * - invalid position: board reports invalid -> PostionOutOfBoardException thrown
+ * - responses are rendered once at construction, not per request
+ * - other geometries: rendered once on first use; unsupported sizes rejected
+ */
+@ExtendWith(MockitoExtension.class)
+class MoveGuesserServiceImplTest {
+
+    private static final Board BOARD = new Board(8, 8);
+
+    @Mock
+    private MoveStratergyFactory strategyFactory;
+
+    @Mock
+    private MoveStratergy strategy;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(strategyFactory.getStrategy(any())).thenReturn(strategy);
+        lenient().when(strategy.getMovesMask(anyInt(), eq(BOARD))).thenReturn(new long[1]);
+    }
+
+    private MoveGuesserServiceImpl newService() {
+        return new MoveGuesserServiceImpl(8, strategyFactory, Caffeine.newBuilder().build());
+    }
+
+    /**
+     * Stub the strategy to return the given target squares for a position.
+     */
+    private void stubMoves(String from, String... targets) {
+        long[] mask = new long[1];
+        for (String target : targets) {
+            mask[0] |= 1L << BOARD.squareIndex(Position.parse(target));
+        }
+        when(strategy.getMovesMask(BOARD.squareIndex(Position.parse(from)), BOARD)).thenReturn(mask);
+    }
+
+    @Test
+    public void getPossibleMoves_whenStrategyReturnsPositions_thenReturnsJoinedDtos() {
+        stubMoves("G1", "E2", "G2");
+        MoveGuesserServiceImpl service = newService();
+
+        String result = service.getPossibleMoves(Position.parse("G1"), Pieces.KING);
+
+        assertEquals("E2, G2", result);
+    }
+
+    @Test
+    public void getPossibleMoves_whenNoMoves_thenReturnsEmptyString() {
+        MoveGuesserServiceImpl service = newService();
+
+        String result = service.getPossibleMoves(Position.parse("D4"), Pieces.KING);
+
+        assertEquals("", result);
+    }
+
+    @Test
+    public void getPossibleMoves_whenPositionOutOfBoard_thenThrowsPostionOutOfBoardException() {
+        MoveGuesserServiceImpl service = newService();
+        clearInvocations(strategyFactory, strategy);
+
+        PostionOutOfBoardException ex = assertThrows(PostionOutOfBoardException.class,
+                () -> service.getPossibleMoves(Position.parse("Z9"), Pieces.QUEEN));
+
+        assertTrue(ex.getMessage().contains("out of board"));
+        verifyNoInteractions(strategyFactory, strategy);
+    }
+
+    @Test
+    public void getPossibleMoves_whenUsingRealPositionObjects_thenReturnsJoinedDtos() {
+        stubMoves("D5", "C4", "C5", "C6", "D4", "D6", "E4", "E5", "E6");
+        MoveGuesserServiceImpl service = newService();
+
+        String result = service.getPossibleMoves(Position.parse("D5"), Pieces.KING);
+
+        assertEquals("C4, C5, C6, D4, D6, E4, E5, E6", result);
+    }
+
+    @Test
+    public void getPossibleMoves_returnsTargetsInSquareOrder() {
+        stubMoves("E4", "H7", "A4", "E8", "B1", "E1", "H1", "A8");
+        MoveGuesserServiceImpl service = newService();
+
+        String result = service.getPossibleMoves(Position.parse("E4"), Pieces.QUEEN);
+
+        assertEquals("A4, A8, B1, E1, E8, H1, H7", result);
+    }
+
+    @Test
+    public void getPossibleMoves_whenStrategyReturnsSinglePosition_thenReturnsSingleDto() {
+        stubMoves("d4", "D5");
+        MoveGuesserServiceImpl service = newService();
+
+        String result = service.getPossibleMoves(Position.parse("d4"), Pieces.PAWN);
+
+        assertEquals("D5", result);
+    }
+
+    @Test
+    public void getPossibleMoves_rendersEveryAnswerOnce_atConstruction() {
+        stubMoves("A1", "A2");
+        MoveGuesserServiceImpl service = newService();
+
+        verify(strategy, times(Pieces.values().length * BOARD.squareCount())).getMovesMask(anyInt(), eq(BOARD));
+        clearInvocations(strategyFactory, strategy);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("A2", service.getPossibleMoves(Position.parse("A1"), Pieces.PAWN));
+        }
+        verifyNoInteractions(strategyFactory, strategy);
+    }
+
+    @Test
+    public void getPossibleMoves_forOtherGeometry_rendersItsTableOnce() {
+        Board wide = new Board(2, 3);
+        when(strategy.getMovesMask(anyInt(), eq(wide))).thenReturn(new long[]{0b100000});
+        MoveGuesserServiceImpl service = newService();
+
+        assertEquals("C2", service.getPossibleMoves(Position.parse("A1"), Pieces.KING, 2, 3));
+        assertEquals("C2", service.getPossibleMoves(Position.parse("B2"), Pieces.KING, 2, 3));
+
+        verify(strategy, times(Pieces.values().length * wide.squareCount())).getMovesMask(anyInt(), eq(wide));
+    }
+
+    @Test
+    public void getPossibleMoves_forUnsupportedGeometry_thenThrowsInvalidParameterException() {
+        MoveGuesserServiceImpl service = newService();
+
+        assertThrows(InvalidParameterException.class,
+                () -> service.getPossibleMoves(Position.parse("A1"), Pieces.KING, 33, 8));
+        assertThrows(InvalidParameterException.class,
+                () -> service.getPossibleMoves(Position.parse("A1"), Pieces.KING, 8, 0));
+    }
+}
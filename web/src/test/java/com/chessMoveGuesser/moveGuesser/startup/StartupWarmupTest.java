@@ -0,0 +1,70 @@
+package com.chessMoveGuesser.moveGuesser.startup;
+
+import com.chessMoveGuesser.moveGuesser.model.Board;
+import com.chessMoveGuesser.moveGuesser.model.Pieces;
+import com.chessMoveGuesser.moveGuesser.service.MoveGuesserService;
+import com.chessMoveGuesser.moveGuesser.service.MoveStratergyFactory;
+import com.chessMoveGuesser.moveGuesser.service.ReachabilityService;
+import com.chessMoveGuesser.moveGuesser.service.RookMoveStratergy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for `StartupWarmup`.
+ *
+ * Tests:
+ * - every strategy is run on every square of the configured board, once per round
+ * - warmup.rounds=0 does nothing
+ */
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupTest {
+
+    @Mock
+    private MoveStratergyFactory strategyFactory;
+
+    @Mock
+    private MoveGuesserService moveGuesserService;
+
+    @Mock
+    private ReachabilityService reachabilityService;
+
+    private StartupWarmup newWarmup(int rounds) {
+        return new StartupWarmup(strategyFactory, moveGuesserService, reachabilityService, new MockEnvironment(),
+                4, rounds, 10);
+    }
+
+    @Test
+    void everyStrategyVisitsEverySquare() throws Exception {
+        RookMoveStratergy rook = spy(new RookMoveStratergy());
+        when(strategyFactory.getStrategy(any())).thenReturn(rook);
+        when(moveGuesserService.getPossibleMoves(any(), any())).thenReturn("");
+        when(moveGuesserService.getPossibleMovesEncoded(any(), any())).thenReturn(new byte[0]);
+        when(reachabilityService.getReachableSquares(any(), any(), anyInt())).thenReturn("");
+
+        newWarmup(2).run(null);
+
+        Board board = new Board(4, 4);
+        int calls = 2 * Pieces.values().length;
+        for (int square = 0; square < board.squareCount(); square++) {
+            verify(rook, times(calls)).getMovesMask(square, board);
+        }
+        verify(moveGuesserService, times(calls * board.squareCount())).getPossibleMoves(any(), any());
+        // Reachability only every 16th round, starting with the first
+        verify(reachabilityService, times(Pieces.values().length * board.squareCount()))
+                .getReachableSquares(any(), any(), anyInt());
+    }
+
+    @Test
+    void zeroRoundsDisablesWarmup() throws Exception {
+        newWarmup(0).run(null);
+
+        verifyNoInteractions(strategyFactory, moveGuesserService, reachabilityService);
+    }
+}